@@ -1,14 +1,38 @@
 package me.suda.doneconnector;
 
+import me.suda.doneconnector.soop.DonationCorrelator;
 import me.suda.doneconnector.soop.SoopApi;
 import me.suda.doneconnector.soop.SoopLiveInfo;
 import me.suda.doneconnector.soop.SoopWebSocket;
 import me.suda.doneconnector.chzzk.ChzzkApi;
 import me.suda.doneconnector.chzzk.ChzzkWebSocket;
+import me.suda.doneconnector.connection.ConnectionOrchestrator;
+import me.suda.doneconnector.connection.ConnectionOrchestrator.ConnectionReport;
+import me.suda.doneconnector.connection.ConnectionOrchestrator.ConnectionTask;
+import me.suda.doneconnector.connection.ConnectionThreads;
+import me.suda.doneconnector.connection.HeartbeatWheel;
+import me.suda.doneconnector.connection.ReconnectSupervisor;
 import me.suda.doneconnector.exception.DoneException;
 import me.suda.doneconnector.exception.ExceptionCode;
 import me.suda.doneconnector.auth.AuthManager;
 import me.suda.doneconnector.auth.AuthCommands;
+import me.suda.doneconnector.dispatch.DiscordRelay;
+import me.suda.doneconnector.dispatch.PlayerRouter;
+import me.suda.doneconnector.dispatch.RewardDispatcher;
+import me.suda.doneconnector.http.SharedHttpClient;
+import me.suda.doneconnector.reward.RewardTable;
+import me.suda.doneconnector.reward.RewardTemplate;
+import me.suda.doneconnector.metrics.MetricsRegistry;
+import me.suda.doneconnector.startup.StartupPlan;
+import me.suda.doneconnector.storage.DonationRecord;
+import me.suda.doneconnector.storage.DonationWriteQueue;
+import me.suda.doneconnector.storage.DonorRanking;
+import me.suda.doneconnector.storage.DonorTotal;
+import me.suda.doneconnector.storage.IndexedDonationStorage;
+import me.suda.doneconnector.storage.JournalDonationStorage;
+import me.suda.doneconnector.storage.StreamerDirectory;
+import me.suda.doneconnector.storage.StreamerDonationIndex;
+import me.suda.doneconnector.storage.YamlDonationMigrator;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
@@ -21,6 +45,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.java_websocket.drafts.Draft_6455;
@@ -33,7 +58,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 public final class DoneConnector extends JavaPlugin implements Listener {
@@ -52,17 +79,50 @@ public final class DoneConnector extends JavaPlugin implements Listener {
 
     private static final List<Map<String, String>> chzzkUserList = new ArrayList<>();
     private static final List<Map<String, String>> soopUserList = new ArrayList<>();
-    private static final HashMap<Integer, List<String>> donationRewards = new HashMap<>();
-    List<ChzzkWebSocket> chzzkWebSocketList = new ArrayList<>();
-    List<SoopWebSocket> soopWebSocketList = new ArrayList<>();
-
-    // 추가할 필드 선언
-    private final ExecutorService connectionExecutor = Executors.newFixedThreadPool(2);
+    private static volatile RewardTable donationRewards = RewardTable.EMPTY;
+    // 여러 채널이 동시에 연결되므로 스레드 안전한 목록 사용
+    final List<ChzzkWebSocket> chzzkWebSocketList = new CopyOnWriteArrayList<>();
+    final List<SoopWebSocket> soopWebSocketList = new CopyOnWriteArrayList<>();
+
+    // 채널 연결 설정 (연결 항목)
+    private static final String CHZZK_API_HOST = "api.chzzk.naver.com";
+    private static final String SOOP_API_HOST = "live.sooplive.co.kr";
+    private static final long RECONNECT_SETTLE_DELAY_MS = 2000;
+    private int connectParallelism = 8;
+    private int connectRetries = 2;
+    private long connectHostIntervalMs = 200;
     
     // 인증 시스템 관련 필드
     private AuthManager authManager;
     private AuthCommands authCommands;
 
+    // 시작 단계 (메인 스레드는 등록만 하고 나머지는 비동기 단계로 실행)
+    private StartupPlan startupPlan;
+    // 시작 단계가 모두 끝났는지, 끝나기 전에는 명령어와 자동 연결을 받지 않는다
+    private volatile boolean started = false;
+    // 시작 시 채널 연결을 실행했는지 (메인 스레드 전용)
+    private boolean channelsActivated = false;
+
+    // 후원 보상 명령어 실행기
+    private RewardDispatcher rewardDispatcher;
+
+    // 마크 닉네임 → 접속 중인 플레이어 색인 및 채팅 전달
+    private PlayerRouter playerRouter;
+
+    // 채팅 디스코드 전달 (스트리머별로 모아서 전송)
+    private DiscordRelay discordRelay;
+
+    // 후원 기록 저장소
+    private IndexedDonationStorage donationStorage;
+    private DonationWriteQueue donationWriteQueue;
+    private StreamerDirectory streamerDirectory;
+    private static final long JOURNAL_COMPACT_BYTES = 4L * 1024 * 1024;
+    private static final int DONATION_QUEUE_CAPACITY = 10000;
+    private static final int DONATION_BATCH_SIZE = 256;
+    private static final DateTimeFormatter WEEK_START_FORMAT = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
+    private static final DateTimeFormatter WEEK_END_FORMAT = DateTimeFormatter.ofPattern("M월 d일");
+    private static final DateTimeFormatter DONATION_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     // sharedScheduler 수정
     private final ScheduledExecutorService sharedScheduler = Executors.newScheduledThreadPool(1,
         r -> {
@@ -73,55 +133,209 @@ public final class DoneConnector extends JavaPlugin implements Listener {
         }
     );
 
+    // 모든 연결의 핑/연결 끊김 확인을 처리하는 하트비트 휠
+    private final HeartbeatWheel heartbeatWheel = new HeartbeatWheel();
+
+    // 후원 기록 요청 (스트리머 UUID 조회와 저장 대기열 추가를 웹소켓 콜백 밖에서 순서대로 처리)
+    private final ExecutorService donationRecorder = Executors.newSingleThreadExecutor(
+        r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            t.setName("Done-Donation-Recorder");
+            return t;
+        }
+    );
+
+    // 채널 연결 관리자 (동시 연결 수 제한, 호스트별 요청 간격, 재시도)
+    private final ConnectionOrchestrator connectionOrchestrator =
+        new ConnectionOrchestrator(sharedScheduler, connectParallelism, connectRetries, connectHostIntervalMs);
+
+    // 끊어진 채널 자동 재연결 (지수 간격 + 채널별 회로 차단기)
+    private final ReconnectSupervisor reconnectSupervisor =
+        new ReconnectSupervisor(sharedScheduler, connectionOrchestrator.getExecutor());
+
     @Override
     public void onEnable() {
         plugin = this;
+        startupPlan = new StartupPlan();
         Bukkit.getPluginManager().registerEvents(this, this);
         Objects.requireNonNull(this.getCommand("done")).setExecutor(this);
         Objects.requireNonNull(this.getCommand("done")).setTabCompleter(this);
 
+        // 후원 보상 명령어는 메인 스레드 반복 작업 1개가 매 틱 나눠서 실행
+        rewardDispatcher = new RewardDispatcher(this);
+        rewardDispatcher.start();
+        MetricsRegistry.register("reward-dispatcher", rewardDispatcher::getMetrics);
+
+        // 채팅 전달 대상은 접속/퇴장 시 갱신되는 색인에서 찾고, 전달은 메인 스레드에서 모아서 처리
+        playerRouter = new PlayerRouter(this);
+        playerRouter.start();
+        MetricsRegistry.register("player-router", playerRouter::getMetrics);
+
+        discordRelay = new DiscordRelay(this);
+        discordRelay.start();
+        MetricsRegistry.register("discord-relay", discordRelay::getMetrics);
+        MetricsRegistry.register("reconnect-supervisor", reconnectSupervisor::getMetrics);
+        MetricsRegistry.register("connection-threads", ConnectionThreads::getMetrics);
+        // 설정 변경으로 교체된 셀렉터는 남은 연결이 모두 닫히면 종료
+        heartbeatWheel.schedulePeriodic(ConnectionThreads::closeIdleRetiredSelectors, 1, 1, TimeUnit.MINUTES);
+        MetricsRegistry.register("heartbeat", heartbeatWheel::getMetrics);
+        MetricsRegistry.register("soop-correlator", DonationCorrelator::getMetrics);
+        MetricsRegistry.register("startup", startupPlan::getMetrics);
+
+        // 파일/네트워크 작업은 시작 단계로 나눠 메인 스레드 밖에서 실행 (서로 의존하지 않는 단계는 동시에)
+        declareStartupPhases(startupPlan, this::createDataDirectory, this::prepareAuthSystem,
+                this::initializeStorage, this::loadConfig, this::startAuthSystem, this::activate);
+        startupPlan.start(task -> Bukkit.getScheduler().runTask(this, task))
+                .thenAccept(this::onStartupFinished);
+    }
+
+    /**
+     * 시작 단계 선언, 메인 스레드 단계는 마지막 activate 하나뿐이다
+     */
+    static StartupPlan declareStartupPhases(StartupPlan plan, StartupPlan.Action createDataDirectory,
+                                            StartupPlan.Action prepareAuthSystem, StartupPlan.Action initializeStorage,
+                                            StartupPlan.Action loadConfig, StartupPlan.Action startAuthSystem,
+                                            StartupPlan.Action activate) {
+        return plan
+                .async("data-directory", createDataDirectory)
+                // config.yml에 인증 항목을 추가하므로 설정 읽기보다 먼저 실행
+                .async("auth-settings", prepareAuthSystem, "data-directory")
+                .async("storage", initializeStorage, "data-directory")
+                .async("config", loadConfig, "auth-settings")
+                .async("auth", startAuthSystem, "auth-settings")
+                .main("activate", activate, "storage", "config", "auth");
+    }
+
+    /**
+     * 시작 마지막 단계: 인증된 경우에만 플러그인 기능 활성화 (메인 스레드)
+     */
+    private void activate() {
+        started = true;
+
+        // 인증이 활성화된 경우에만 플러그인 기능 활성화
+        if (authManager != null && authManager.isAuthenticated()) {
+            activateChannels();
+        } else {
+            Logger.warn(ChatColor.RED + "인증이 완료되지 않아 플러그인 기능이 비활성화되었습니다.");
+            Logger.warn(ChatColor.YELLOW + "웹 대시보드에서 서버 승인 후 /done auth 명령어로 인증하세요.");
+        }
+    }
+
+    /**
+     * 시작 시 채널 연결 (메인 스레드, 한 번만)
+     */
+    private void activateChannels() {
+        channelsActivated = true;
+
+        // 자동 연결 설정이 활성화된 경우에만 서버 시작 시 모든 채널 연결
+        if (autoConnect) {
+            connectChzzkList();
+            connectSoopList();
+            Logger.info(ChatColor.GREEN + "전체 채널 자동 연결을 시작했습니다.");
+        } else {
+            Logger.info(ChatColor.YELLOW + "자동 연결이 비활성화되어 있습니다. 플레이어 접속 시 개별 채널만 연결됩니다.");
+            // 시작 단계가 끝나기 전에 접속한 플레이어
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                connectChannelsForPlayer(player);
+            }
+        }
+        Logger.info(ChatColor.GREEN + "플러그인 활성화 완료.");
+    }
+
+    /**
+     * 시작 때 미뤄 둔 인증(저장된 외부 IP가 없는 첫 실행)이 성공하면 호출
+     * activate에서 인증이 없어 건너뛴 채널 연결을 메인 스레드에서 이어서 실행한다.
+     */
+    public void onDeferredAuthentication() {
         try {
-            // data 디렉토리 생성
-            createDataDirectory();
-            
-            // 인증 시스템 초기화
-            initializeAuthSystem();
-            
-            loadConfig();
-            
-            // 인증이 활성화된 경우에만 플러그인 기능 활성화
-            if (authManager != null && authManager.isAuthenticated()) {
-                // 자동 연결 설정이 활성화된 경우에만 서버 시작 시 모든 채널 연결
-                if (autoConnect) {
-                    connectChzzkList();
-                    connectSoopList();
-                    Logger.info(ChatColor.GREEN + "전체 채널 자동 연결 완료.");
-                } else {
-                    Logger.info(ChatColor.YELLOW + "자동 연결이 비활성화되어 있습니다. 플레이어 접속 시 개별 채널만 연결됩니다.");
+            Bukkit.getScheduler().runTask(this, () -> {
+                // 시작 단계가 아직 안 끝났으면 activate에서 연결한다
+                if (started && !channelsActivated && isAuthenticated()) {
+                    activateChannels();
                 }
-                Logger.info(ChatColor.GREEN + "플러그인 활성화 완료.");
-            } else {
-                Logger.warn(ChatColor.RED + "인증이 완료되지 않아 플러그인 기능이 비활성화되었습니다.");
-                Logger.warn(ChatColor.YELLOW + "웹 대시보드에서 서버 승인 후 /done auth 명령어로 인증하세요.");
-            }
-        } catch (Exception e) {
-            Logger.error("플러그인 초기화 중 오류가 발생했습니다: " + e.getMessage());
-            Bukkit.getPluginManager().disablePlugin(this);
+            });
+        } catch (IllegalPluginAccessException e) {
+            // 이미 비활성화됨
+        }
+    }
+
+    /**
+     * 시작 보고서 출력, 실패한 단계가 있으면 플러그인 비활성화
+     */
+    private void onStartupFinished(StartupPlan plan) {
+        plan.logReport();
+
+        StartupPlan.PhaseResult failure = plan.firstFailure();
+        if (failure == null) {
+            return;
+        }
+        Logger.error("플러그인 초기화 중 오류가 발생했습니다: " + failure.error());
+        try {
+            Bukkit.getScheduler().runTask(this, () -> Bukkit.getPluginManager().disablePlugin(this));
+        } catch (IllegalPluginAccessException e) {
+            // 이미 비활성화됨
         }
     }
 
     @Override
     public void onDisable() {
         try {
-            // 웹소켓 연결 종료
+            // 아직 끝나지 않은 시작 단계 중지
+            started = false;
+            channelsActivated = false;
+            if (startupPlan != null) {
+                startupPlan.cancel(5, TimeUnit.SECONDS);
+                MetricsRegistry.unregister("startup");
+            }
+
+            // 웹소켓 연결 종료 (자동 재연결 중지 후)
+            reconnectSupervisor.releaseAll();
+            MetricsRegistry.unregister("reconnect-supervisor");
+            MetricsRegistry.unregister("connection-threads");
             disconnectChzzkList();
+            // 숲 연결의 메시지 대기 후원은 이 스레드에서 처리되어 보상 실행기 종료 전에 큐에 들어간다
             disconnectSoopList();
+            // 공유 셀렉터 종료 (아직 닫히는 중인 연결도 함께 끊는다)
+            ConnectionThreads.shutdown();
+
+            // 후원 보상 명령어 실행기 종료
+            if (rewardDispatcher != null) {
+                rewardDispatcher.shutdown();
+                MetricsRegistry.unregister("reward-dispatcher");
+            }
+
+            // 채팅 전달 작업 종료
+            if (playerRouter != null) {
+                playerRouter.shutdown();
+                MetricsRegistry.unregister("player-router");
+            }
+
+            // 디스코드 전달 종료 (남은 채팅은 바로 전송)
+            if (discordRelay != null) {
+                discordRelay.shutdown();
+                MetricsRegistry.unregister("discord-relay");
+            }
+
+            // 후원 기록 저장소 종료
+            closeStorage();
             
             // 인증 시스템 종료
             if (authManager != null) {
                 authManager.shutdown();
             }
             
+            // 채널 연결 작업 종료
+            connectionOrchestrator.shutdown();
+
+            // 하트비트 휠 종료
+            heartbeatWheel.shutdown();
+            MetricsRegistry.unregister("heartbeat");
+            MetricsRegistry.unregister("soop-correlator");
+
+            // 공유 HTTP 클라이언트 종료
+            SharedHttpClient.shutdown();
+
             // 공유 스케줄러 종료
             sharedScheduler.shutdown();
             if (!sharedScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -135,15 +349,33 @@ public final class DoneConnector extends JavaPlugin implements Listener {
     }
 
     /**
-     * 인증 시스템 초기화
+     * 인증 시스템 생성 및 인증 설정 로드
      */
-    private void initializeAuthSystem() {
+    private void prepareAuthSystem() {
         try {
             Logger.info("인증 시스템을 초기화합니다...");
             
-            // AuthManager 생성 및 초기화
+            // AuthManager 생성 및 설정 로드
             authManager = new AuthManager(this);
-            authManager.initialize();
+            authManager.loadSettings();
+            
+        } catch (Exception e) {
+            Logger.error("인증 시스템 초기화 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+            authManager = null;
+            authCommands = null;
+        }
+    }
+
+    /**
+     * 서버 정보 생성 및 초기 인증 (웹서버 응답을 기다리므로 비동기 단계에서 실행)
+     */
+    private void startAuthSystem() {
+        if (authManager == null) {
+            return;
+        }
+        try {
+            authManager.bootstrap();
             
             // AuthCommands 생성
             authCommands = new AuthCommands(this, authManager);
@@ -177,6 +409,72 @@ public final class DoneConnector extends JavaPlugin implements Listener {
         }
     }
 
+    /**
+     * 후원 기록 저장소 초기화 및 기존 YAML 데이터 마이그레이션
+     */
+    private void initializeStorage() {
+        File dataDir = new File(getDataFolder(), "data");
+        JournalDonationStorage storage = new JournalDonationStorage(dataDir);
+        int migrated = new YamlDonationMigrator(dataDir, storage).migrate();
+        // 랭킹/통계 조회가 매번 전체 기록을 읽지 않도록 저장 시점에 집계 갱신
+        donationStorage = new IndexedDonationStorage(storage);
+        // 첫 랭킹/통계 조회가 메인 스레드에서 전체 기록을 읽지 않도록 집계를 미리 생성
+        try {
+            int warmed = donationStorage.warmUp();
+            Logger.debug("후원 집계 " + warmed + "건을 미리 불러왔습니다.");
+        } catch (IOException e) {
+            Logger.warn("후원 집계를 미리 불러오지 못했습니다: " + e.getMessage());
+        }
+
+        // 스트리머 이름 조회/자동완성용 디렉토리 (없으면 첫 조회 시 생성)
+        streamerDirectory = new StreamerDirectory(dataDir, storage);
+        if (migrated > 0) {
+            CompletableFuture.runAsync(streamerDirectory::rebuild);
+        }
+
+        // 저널이 너무 커진 스트리머는 스냅샷으로 압축
+        CompletableFuture.runAsync(() -> storage.compactLargerThan(JOURNAL_COMPACT_BYTES));
+
+        // 웹소켓 스레드가 파일 I/O를 기다리지 않도록 전용 스레드에서 묶어서 저장
+        donationWriteQueue = new DonationWriteQueue(donationStorage, DONATION_QUEUE_CAPACITY, DONATION_BATCH_SIZE);
+        donationWriteQueue.start();
+        MetricsRegistry.register("donation-writer", donationWriteQueue::getMetrics);
+    }
+
+    /**
+     * 후원 기록 저장소 종료
+     */
+    private void closeStorage() {
+        // 남은 후원 기록 요청을 저장 대기열에 모두 넣은 뒤 종료
+        donationRecorder.shutdown();
+        try {
+            if (!donationRecorder.awaitTermination(5, TimeUnit.SECONDS)) {
+                Logger.warn("후원 기록 요청 처리 타임아웃 - 일부 기록이 저장되지 않았을 수 있습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (donationWriteQueue != null) {
+            try {
+                // 대기 중인 후원 기록을 모두 저장한 뒤 종료
+                donationWriteQueue.shutdown(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            MetricsRegistry.unregister("donation-writer");
+        }
+        if (streamerDirectory != null) {
+            streamerDirectory.save();
+        }
+        if (donationStorage != null) {
+            try {
+                donationStorage.close();
+            } catch (Exception e) {
+                Logger.error("후원 기록 저장소 종료 중 오류 발생: " + e.getMessage());
+            }
+        }
+    }
+
     private void clearConfig() {
         Logger.debug("설정 초기화 시작...");
         debug = false;
@@ -184,7 +482,7 @@ public final class DoneConnector extends JavaPlugin implements Listener {
         autoConnect = false; // 설정 초기화 시 자동 연결 플래그도 초기화
         chzzkUserList.clear();
         soopUserList.clear();
-        donationRewards.clear();
+        donationRewards = RewardTable.EMPTY;
         // reloadConfig() 제거 - loadConfig()에서 직접 파일을 읽음
         Logger.debug("설정 초기화 완료");
     }
@@ -210,6 +508,25 @@ public final class DoneConnector extends JavaPlugin implements Listener {
             if (config.contains("자동연결")) {
                 autoConnect = config.getBoolean("자동연결");
             }
+
+            // 채널 연결 설정 (없으면 기본값)
+            connectParallelism = config.getInt("연결.동시_연결_수", 8);
+            connectRetries = config.getInt("연결.재시도_횟수", 2);
+            connectHostIntervalMs = config.getLong("연결.호스트별_요청_간격", 200);
+            connectionOrchestrator.configure(connectParallelism, connectRetries, connectHostIntervalMs);
+            boolean virtualThreads = config.getBoolean("연결.가상_스레드", false);
+            ConnectionThreads.configure(virtualThreads);
+            if (virtualThreads) {
+                Logger.info("채널 연결에 가상 스레드를 사용합니다.");
+            }
+            ConnectionThreads.configureSelector(config.getInt("연결.셀렉터_스레드", 1));
+
+            // 디스코드 채팅 전달 설정 (없으면 기본값)
+            discordRelay.configure(
+                    config.getBoolean("디스코드.묶어서_전송", true),
+                    config.getLong("디스코드.묶음_간격", 2000),
+                    config.getInt("디스코드.묶음_최대_줄", 20),
+                    config.getInt("디스코드.대기_최대_줄", 200));
             
         } catch (Exception e) {
             throw new DoneException(ExceptionCode.CONFIG_LOAD_ERROR);
@@ -306,18 +623,22 @@ public final class DoneConnector extends JavaPlugin implements Listener {
         }
 
         try {
+            Map<String, List<String>> rewardEntries = new LinkedHashMap<>();
             for (String price : Objects.requireNonNull(config.getConfigurationSection("후원 보상")).getKeys(false)) {
-                donationRewards.put(Integer.valueOf(price), config.getStringList("후원 보상." + price));
+                rewardEntries.put(price, config.getStringList("후원 보상." + price));
             }
+            // 금액/범위/배수/이상 조건과 명령어 템플릿은 설정 로드 시 한 번만 컴파일
+            donationRewards = RewardTable.compile(rewardEntries);
         } catch (Exception e) {
+            Logger.error("후원 보상 설정 오류: " + e.getMessage());
             throw new DoneException(ExceptionCode.REWARD_PARSE_ERROR);
         }
 
-        if (donationRewards.keySet().isEmpty()) {
+        if (donationRewards.isEmpty()) {
             throw new DoneException(ExceptionCode.REWARD_NOT_FOUND);
         }
 
-        Logger.info(ChatColor.GREEN + "후원 보상 목록 " + donationRewards.keySet().size() + "개 로드 완료.");
+        Logger.info(ChatColor.GREEN + "후원 보상 목록 " + donationRewards.size() + "개 로드 완료.");
     }
 
 private void safeReload() {
@@ -355,7 +676,8 @@ private void safeReload() {
     }
 
     private void doReload() throws InterruptedException {
-        // 1. 모든 웹소켓 연결 종료
+        // 1. 모든 웹소켓 연결 종료 (종료되는 연결은 자동 재연결하지 않음)
+        reconnectSupervisor.releaseAll();
         CountDownLatch disconnectLatch = new CountDownLatch(2);
         
         // 치지직 연결 종료
@@ -442,72 +764,57 @@ private void safeReload() {
     }
 
     private void reconnectAll() throws InterruptedException {
-        CountDownLatch connectLatch = new CountDownLatch(2);
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger totalConnections = new AtomicInteger(0);
-
-        // 치지직 연결
-        CompletableFuture<Void> chzzkConnect = CompletableFuture.runAsync(() -> {
-            try {
-                for (Map<String, String> chzzkUser : chzzkUserList) {
-                    totalConnections.incrementAndGet();
-                    if (connectChzzk(chzzkUser)) {
-                        successCount.incrementAndGet();
-                    }
-                }
-            } finally {
-                connectLatch.countDown();
-            }
-        });
-
-        // 숲 연결
-        CompletableFuture<Void> soopConnect = CompletableFuture.runAsync(() -> {
-            try {
-                for (Map<String, String> soopUser : soopUserList) {
-                    totalConnections.incrementAndGet();
-                    if (connectSoop(soopUser)) {
-                        successCount.incrementAndGet();
-                    }
-                }
-            } finally {
-                connectLatch.countDown();
-            }
-        });
+        List<ConnectionTask> tasks = new ArrayList<>();
+        for (Map<String, String> chzzkUser : chzzkUserList) {
+            tasks.add(chzzkConnectionTask(chzzkUser));
+        }
+        for (Map<String, String> soopUser : soopUserList) {
+            tasks.add(soopConnectionTask(soopUser));
+        }
 
-        // 최대 60초간 연결 대기
-        if (!connectLatch.await(60, TimeUnit.SECONDS)) {
+        // 두 플랫폼을 한 번에 동시 연결 (최대 150초 대기)
+        try {
+            connectionOrchestrator.connectAll("전체 채널", tasks, 0).get(150, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
             Logger.warn("일부 연결 시도 타임아웃");
+        } catch (ExecutionException e) {
+            Logger.error("채널 연결 중 오류 발생: " + e.getMessage());
         }
+    }
 
-        // 5. 결과 로깅
-        int total = totalConnections.get();
-        int success = successCount.get();
-        if (success == total) {
-            Logger.info(ChatColor.GREEN + "모든 연결 재설정 완료 (" + success + "/" + total + ")");
-        } else {
-            Logger.warn("일부 연결 실패 (" + success + "/" + total + " 성공)");
-        }
+    private static String chzzkKey(Map<String, String> chzzkUser) {
+        return ReconnectSupervisor.key("치지직", chzzkUser.get("nickname"));
+    }
+
+    private static String soopKey(Map<String, String> soopUser) {
+        return ReconnectSupervisor.key("숲", soopUser.get("nickname"));
+    }
+
+    private ConnectionTask chzzkConnectionTask(Map<String, String> chzzkUser) {
+        return new ConnectionTask("치지직", chzzkUser.get("nickname"), CHZZK_API_HOST, () -> connectChzzk(chzzkUser));
+    }
+
+    private ConnectionTask soopConnectionTask(Map<String, String> soopUser) {
+        return new ConnectionTask("숲", soopUser.get("nickname"), SOOP_API_HOST, () -> connectSoop(soopUser));
     }
 
 private void disconnectByNickName(String target) {
-        chzzkWebSocketList = chzzkWebSocketList.stream()
-                .filter(chzzkWebSocket -> {
-                    if (Objects.equals(chzzkWebSocket.getChzzkUser().get("nickname"), target) || Objects.equals(chzzkWebSocket.getChzzkUser().get("tag"), target)) {
-                        chzzkWebSocket.close();
-                        return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
-        soopWebSocketList = soopWebSocketList.stream()
-                .filter(soopWebSocket -> {
-                    if (Objects.equals(soopWebSocket.getSoopUser().get("nickname"), target) || Objects.equals(soopWebSocket.getSoopUser().get("tag"), target)) {
-                        soopWebSocket.close();
-                        return false;
-                    }
-                    return true;
-                })
-                .collect(Collectors.toList());
+        chzzkWebSocketList.removeIf(chzzkWebSocket -> {
+            if (Objects.equals(chzzkWebSocket.getChzzkUser().get("nickname"), target) || Objects.equals(chzzkWebSocket.getChzzkUser().get("tag"), target)) {
+                reconnectSupervisor.release(chzzkKey(chzzkWebSocket.getChzzkUser()));
+                chzzkWebSocket.close();
+                return true;
+            }
+            return false;
+        });
+        soopWebSocketList.removeIf(soopWebSocket -> {
+            if (Objects.equals(soopWebSocket.getSoopUser().get("nickname"), target) || Objects.equals(soopWebSocket.getSoopUser().get("tag"), target)) {
+                reconnectSupervisor.release(soopKey(soopWebSocket.getSoopUser()));
+                soopWebSocket.close();
+                return true;
+            }
+            return false;
+        });
     }
 
     private boolean connectChzzk(Map<String, String> chzzkUser) {
@@ -528,27 +835,36 @@ private void disconnectByNickName(String target) {
                 extraToken,
                 chzzkUser,
                 donationRewards,
-                sharedScheduler  // 공유 스케줄러 전달
+                heartbeatWheel  // 공유 하트비트 휠 전달 (핑, 연결 끊김 확인)
             );
 
-            CompletableFuture<Boolean> connectFuture = new CompletableFuture<>();
-            
-            Thread connectThread = new Thread(() -> {
-                try {
-                    webSocket.connectBlocking(5, TimeUnit.SECONDS);
-                    chzzkWebSocketList.add(webSocket);
-                    connectFuture.complete(true);
-                } catch (Exception e) {
-                    Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                            "] 연결 실패: " + e.getMessage());
-                    connectFuture.complete(false);
-                }
-            });
-            connectThread.setDaemon(true);
-            connectThread.start();
+            // 호출한 스레드(연결 관리자 작업 스레드)에서 바로 연결, 실패한 소켓은 목록에 넣지 않는다
+            if (!webSocket.connectBlocking(5, TimeUnit.SECONDS)) {
+                Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
+                        "] 연결 실패: 시간 초과 또는 서버 거부");
+                webSocket.shutdown();
+                return false;
+            }
+            chzzkWebSocketList.add(webSocket);
 
-            return connectFuture.get(10, TimeUnit.SECONDS);
+            // 끊어지면 채널 아이디와 토큰을 새로 받아 다시 연결
+            reconnectSupervisor.watch(chzzkKey(chzzkUser), webSocket,
+                () -> {
+                    chzzkWebSocketList.remove(webSocket);
+                    webSocket.shutdown();
+                },
+                () -> connectChzzk(chzzkUser));
+            // 등록 전에 끊어졌으면 onClose의 알림이 무시되었으므로 직접 알린다
+            if (!webSocket.isOpen()) {
+                reconnectSupervisor.connectionLost(chzzkKey(chzzkUser), webSocket);
+            }
+            return true;
             
+        } catch (InterruptedException e) {
+            Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
+                    "] 연결이 중단되었습니다: " + e.getMessage());
+            Thread.currentThread().interrupt();
+            return false;
         } catch (Exception e) {
             Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
                     "] 연결 중 오류: " + e.getMessage());
@@ -556,62 +872,39 @@ private void disconnectByNickName(String target) {
         }
     }
 
-    private void connectChzzkList() {
-        // 동기화 범위 최소화 (성능 최적화)
-        boolean shouldConnect;
+    private CompletableFuture<ConnectionReport> connectChzzkList() {
         synchronized(chzzkLock) {
             if (chzzkConnecting) {
                 Logger.warn("이미 치지직 연결 작업이 진행 중입니다.");
-                return;
+                return CompletableFuture.completedFuture(new ConnectionReport(0, 0, List.of(), 0));
             }
             chzzkConnecting = true;
-            shouldConnect = true;
         }
-        
-        if (shouldConnect) {
-            try {
-                disconnectChzzkList();
-                Thread.sleep(2000); // 연결 종료 후 잠시 대기
-                
-                // 병렬 연결 처리 (성능 최적화)
-                List<CompletableFuture<Void>> connectFutures = new ArrayList<>();
-                
-                for (Map<String, String> chzzkUser : chzzkUserList) {
-                    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                        try {
-                            connectChzzk(chzzkUser);
-                        } catch (Exception e) {
-                            Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                                    "] 연결 중 오류: " + e.getMessage());
-                        }
-                    });
-                    connectFutures.add(future);
-                }
-                
-                // 모든 연결 완료 대기 (최대 30초)
-                try {
-                    CompletableFuture.allOf(connectFutures.toArray(new CompletableFuture[0]))
-                        .get(30, TimeUnit.SECONDS);
-                } catch (Exception e) {
-                    Logger.warn("일부 치지직 연결이 타임아웃되었습니다.");
-                }
-                
-            } catch (Exception e) {
-                Logger.error("치지직 연결 중 오류 발생: " + e.getMessage());
-            } finally {
+
+        disconnectChzzkList();
+
+        List<ConnectionTask> tasks = new ArrayList<>();
+        for (Map<String, String> chzzkUser : chzzkUserList) {
+            tasks.add(chzzkConnectionTask(chzzkUser));
+        }
+
+        // 연결 종료 후 잠시 뒤에 시작 (대기는 스케줄러 예약으로 처리)
+        return connectionOrchestrator.connectAll("치지직", tasks, RECONNECT_SETTLE_DELAY_MS)
+            .whenComplete((report, error) -> {
                 synchronized(chzzkLock) {
                     chzzkConnecting = false;
                 }
-            }
-        }
+            });
     }
 
     private void disconnectChzzkList() {
         Logger.debug("치지직 웹소켓 연결 종료 시작...");
         
         List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<ChzzkWebSocket> closing = new ArrayList<>(chzzkWebSocketList);
         
-        for (ChzzkWebSocket webSocket : new ArrayList<>(chzzkWebSocketList)) {
+        for (ChzzkWebSocket webSocket : closing) {
+            reconnectSupervisor.release(chzzkKey(webSocket.getChzzkUser()));
             CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
                 try {
                     webSocket.shutdown();
@@ -634,13 +927,14 @@ private void disconnectByNickName(String target) {
             
             // 비차단 방식으로 대기
             allFutures.thenRun(() -> {
-                chzzkWebSocketList.clear();
+                // 그 사이 새로 연결된 소켓은 남겨둔다
+                chzzkWebSocketList.removeAll(closing);
                 Logger.debug("치지직 웹소켓 연결 종료 완료");
             });
             
         } catch (Exception e) {
             Logger.error("웹소켓 종료 중 오류 발생: " + e.getMessage());
-            chzzkWebSocketList.clear();
+            chzzkWebSocketList.removeAll(closing);
         }
     }
 
@@ -660,35 +954,31 @@ private boolean connectSoop(Map<String, String> soopUser) {
                 soopUser, 
                 donationRewards, 
                 poong,
-                sharedScheduler  // 공유 스케줄러 전달 (성능 최적화)
+                heartbeatWheel  // 공유 하트비트 휠 전달 (핑)
             );
             
-            // 연결 시도
-            CompletableFuture<Boolean> connectFuture = new CompletableFuture<>();
-            Thread connectThread = new Thread(() -> {
-                try {
-                    webSocket.connectBlocking(5, TimeUnit.SECONDS);
-                    soopWebSocketList.add(webSocket);
-                    connectFuture.complete(true);
-                } catch (Exception e) {
-                    Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
-                            "] 연결 실패: " + e.getMessage());
-                    connectFuture.complete(false);
-                }
-            });
-            connectThread.setDaemon(true);
-            connectThread.start();
+            // 호출한 스레드(연결 관리자 작업 스레드)에서 바로 연결, 실패한 소켓은 목록에 넣지 않는다
+            if (!webSocket.connectBlocking(5, TimeUnit.SECONDS)) {
+                Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
+                        "] 연결 실패: 시간 초과 또는 서버 거부");
+                webSocket.close();
+                return false;
+            }
+            soopWebSocketList.add(webSocket);
 
-            return connectFuture.get(10, TimeUnit.SECONDS);
+            // 끊어지면 방송 정보를 새로 받아 다시 연결
+            reconnectSupervisor.watch(soopKey(soopUser), webSocket,
+                () -> {
+                    soopWebSocketList.remove(webSocket);
+                    webSocket.close();
+                },
+                () -> connectSoop(soopUser));
+            // 등록 전에 끊어졌으면 onClose의 알림이 무시되었으므로 직접 알린다
+            if (!webSocket.isOpen()) {
+                reconnectSupervisor.connectionLost(soopKey(soopUser), webSocket);
+            }
+            return true;
 
-        } catch (TimeoutException e) {
-            Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
-                    "] 연결 시도 타임아웃: " + e.getMessage());
-            return false;
-        } catch (ExecutionException e) {
-            Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
-                    "] 연결 실행 중 오류: " + e.getMessage());
-            return false;
         } catch (InterruptedException e) {
             Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
                     "] 연결이 중단되었습니다: " + e.getMessage());
@@ -702,67 +992,44 @@ private boolean connectSoop(Map<String, String> soopUser) {
         }
     }
 
-    private void connectSoopList() {
-        // 동기화 범위 최소화 (성능 최적화)
-        boolean shouldConnect;
+    private CompletableFuture<ConnectionReport> connectSoopList() {
         synchronized(soopLock) {
             if (soopConnecting) {
                 Logger.warn("이미 숲 연결 작업이 진행 중입니다.");
-                return;
+                return CompletableFuture.completedFuture(new ConnectionReport(0, 0, List.of(), 0));
             }
             soopConnecting = true;
-            shouldConnect = true;
         }
-        
-        if (shouldConnect) {
-            try {
-                disconnectSoopList();
-                Thread.sleep(2000); // 연결 종료 후 잠시 대기
-                
-                // 병렬 연결 처리 (성능 최적화)
-                List<CompletableFuture<Void>> connectFutures = new ArrayList<>();
-                
-                for (Map<String, String> soopUser : soopUserList) {
-                    CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                        try {
-                            connectSoop(soopUser);
-                        } catch (Exception e) {
-                            Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + 
-                                    "] 연결 중 오류: " + e.getMessage());
-                        }
-                    });
-                    connectFutures.add(future);
-                }
-                
-                // 모든 연결 완료 대기 (최대 30초)
-                try {
-                    CompletableFuture.allOf(connectFutures.toArray(new CompletableFuture[0]))
-                        .get(30, TimeUnit.SECONDS);
-                } catch (Exception e) {
-                    Logger.warn("일부 숲 연결이 타임아웃되었습니다.");
-                }
-                
-            } catch (Exception e) {
-                Logger.error("숲 연결 중 오류 발생: " + e.getMessage());
-            } finally {
+
+        disconnectSoopList();
+
+        List<ConnectionTask> tasks = new ArrayList<>();
+        for (Map<String, String> soopUser : soopUserList) {
+            tasks.add(soopConnectionTask(soopUser));
+        }
+
+        // 연결 종료 후 잠시 뒤에 시작 (대기는 스케줄러 예약으로 처리)
+        return connectionOrchestrator.connectAll("숲", tasks, RECONNECT_SETTLE_DELAY_MS)
+            .whenComplete((report, error) -> {
                 synchronized(soopLock) {
                     soopConnecting = false;
                 }
-            }
-        }
+            });
     }
 
     private void disconnectSoopList() {
         Logger.debug("숲 웹소켓 연결 종료 시작...");
-        for (SoopWebSocket webSocket : new ArrayList<>(soopWebSocketList)) {
+        List<SoopWebSocket> closing = new ArrayList<>(soopWebSocketList);
+        for (SoopWebSocket webSocket : closing) {
+            reconnectSupervisor.release(soopKey(webSocket.getSoopUser()));
             try {
                 webSocket.close();
-                webSocket.closeBlocking();
+                webSocket.closeAndFlush();
             } catch (Exception e) {
                 Logger.error("숲 웹소켓 종료 중 오류: " + e.getMessage());
             }
         }
-        soopWebSocketList.clear();
+        soopWebSocketList.removeAll(closing);
         Logger.debug("숲 웹소켓 연결 종료 완료");
     }
 
@@ -774,6 +1041,9 @@ private boolean connectSoop(Map<String, String> soopUser) {
             return false;
         } else if (args.length < 1) {
             return false;
+        } else if (!started) {
+            sender.sendMessage(ChatColor.YELLOW + "플러그인이 아직 시작 중입니다. 잠시 후 다시 시도해주세요.");
+            return true;
         }
         
         // 인증 상태 확인 (인증 관련 명령어 제외)
@@ -822,6 +1092,8 @@ private boolean connectSoop(Map<String, String> soopUser) {
                 case "off":
                     Logger.warn("후원 기능을 비활성화 합니다.");
                     try {
+                        // 재연결 대기 중인 채널도 함께 중지
+                        reconnectSupervisor.releaseAll();
                         disconnectChzzkList();
                         disconnectSoopList();
                     } catch (Exception e) {
@@ -852,12 +1124,13 @@ private boolean connectSoop(Map<String, String> soopUser) {
                         // 리로드 후 인증 확인
                         if (authManager != null) {
                             Logger.info(ChatColor.YELLOW + "리로드 후 인증을 확인합니다...");
-                            boolean authSuccess = authManager.performAuthentication();
-                            if (authSuccess) {
-                                Logger.info(ChatColor.GREEN + "리로드 후 인증 확인 완료");
-                            } else {
-                                Logger.warn(ChatColor.RED + "리로드 후 인증 확인 실패 - 플러그인 기능이 비활성화됩니다");
-                            }
+                            authManager.performAuthenticationAsync().thenAccept(authSuccess -> {
+                                if (authSuccess) {
+                                    Logger.info(ChatColor.GREEN + "리로드 후 인증 확인 완료");
+                                } else {
+                                    Logger.warn(ChatColor.RED + "리로드 후 인증 확인 실패 - 플러그인 기능이 비활성화됩니다");
+                                }
+                            });
                         }
                         
                         return true;
@@ -910,6 +1183,10 @@ private boolean connectSoop(Map<String, String> soopUser) {
                     handleStatsCommand(args, sender);
                     return true;
 
+                case "metrics":
+                    handleMetricsCommand(sender);
+                    return true;
+
                 // 인증 관련 명령어 추가
                 case "auth":
                     if (authCommands != null) {
@@ -937,34 +1214,39 @@ private boolean connectSoop(Map<String, String> soopUser) {
     }
 
     private void reconnectHandling(String target) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                if (target.equals("all")) {
-                    disconnectChzzkList();
-                    disconnectSoopList();
-                    Thread.sleep(2000);
-                    connectChzzkList();
-                    connectSoopList();
+        if (target.equals("all")) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    CompletableFuture.allOf(connectChzzkList(), connectSoopList()).join();
                     Logger.info(ChatColor.GREEN + "후원 기능 재접속을 완료했습니다.");
-                } else {
-                    disconnectByNickName(target);
-                    Thread.sleep(1000);
-                    
-                    AtomicInteger reconnectCount = new AtomicInteger(0);
-                    
-                    reconnectSpecificUser(target, reconnectCount);
-                    
-                    if (reconnectCount.get() <= 0) {
-                        Logger.warn("닉네임을 찾을 수 없습니다.");
-                    }
+                } catch (Exception e) {
+                    Logger.error("재연결 중 오류 발생: " + e.getMessage());
                 }
-            } catch (InterruptedException e) {
-                Logger.error("재연결 작업이 중단되었습니다: " + e.getMessage());
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                Logger.error("재연결 중 오류 발생: " + e.getMessage());
-            }
-        });
+            });
+            return;
+        }
+
+        CompletableFuture.runAsync(() -> disconnectByNickName(target))
+            .thenRun(() -> {
+                // 연결 종료 후 잠시 뒤에 다시 연결 (대기는 스케줄러 예약으로 처리)
+                sharedScheduler.schedule(() -> connectionOrchestrator.getExecutor().execute(() -> {
+                    try {
+                        AtomicInteger reconnectCount = new AtomicInteger(0);
+
+                        reconnectSpecificUser(target, reconnectCount);
+
+                        if (reconnectCount.get() <= 0) {
+                            Logger.warn("닉네임을 찾을 수 없습니다.");
+                        }
+                    } catch (Exception e) {
+                        Logger.error("재연결 중 오류 발생: " + e.getMessage());
+                    }
+                }), 1, TimeUnit.SECONDS);
+            })
+            .exceptionally(throwable -> {
+                Logger.error("재연결 중 오류 발생: " + throwable.getMessage());
+                return null;
+            });
     }
 
     private void reconnectSpecificUser(String target, AtomicInteger reconnectCount) {
@@ -1098,31 +1380,27 @@ private void handleAddCommand(String[] args) {
         }
         
         // 플레이어 데이터 저장 (테스트 후원으로 구분)
-        String streamerUuid = getPlayerUuid(tag);
-        if (streamerUuid != null) {
-            savePlayerData(streamerUuid, tag, nickname, amount, message, platform, true);
-        }
+        recordDonation(tag, nickname, amount, message, platform, true);
         
         // 후원 보상 명령어 가져오기
-        List<String> commands = donationRewards.get(amount);
-        if (commands == null) {
-            commands = donationRewards.get(0);
-        }
+        List<RewardTemplate> commands = donationRewards.resolve(amount);
         
         if (commands == null || commands.isEmpty()) {
             Logger.warn("후원 보상 명령어가 설정되지 않았습니다.");
             return;
         }
         
-        // 명령어 실행
+        // 명령어 실행 (기존 후원 처리와 동일하게 한 묶음으로 실행)
+        List<String> finalCommands = new ArrayList<>();
         if (random) {
-            String command = commands.get(new Random().nextInt(commands.size()));
-            executeTestCommand(tag, nickname, amount, message, command);
+            RewardTemplate command = commands.get(new Random().nextInt(commands.size()));
+            command.render(tag, nickname, amount, message, finalCommands);
         } else {
-            for (String command : commands) {
-                executeTestCommand(tag, nickname, amount, message, command);
+            for (RewardTemplate command : commands) {
+                command.render(tag, nickname, amount, message, finalCommands);
             }
         }
+        rewardDispatcher.dispatch(nickname, finalCommands);
     }
     
     /**
@@ -1145,29 +1423,6 @@ private void handleAddCommand(String[] args) {
         return null;
     }
     
-    /**
-     * 테스트 후원 명령어 실행
-     */
-    private void executeTestCommand(String tag, String nickname, int amount, String message, String command) {
-        String[] commandArray = command.split(";");
-        for (String cmd : commandArray) {
-            String finalCommand = cmd
-                .replace("%tag%", tag)
-                .replace("%name%", nickname)
-                .replace("%amount%", String.valueOf(amount))
-                .replace("%message%", message);
-
-            try {
-                // 비동기로 명령어 실행 (기존 후원 처리와 동일한 방식)
-                Bukkit.getScheduler().callSyncMethod(plugin, () -> {
-                    return Bukkit.dispatchCommand(Bukkit.getConsoleSender(), finalCommand);
-                });
-            } catch (Exception e) {
-                Logger.error("테스트 후원 명령어 실행 중 오류: " + e.getMessage());
-            }
-        }
-    }
-
     /**
      * 랭킹 명령어 처리
      */
@@ -1204,9 +1459,9 @@ private void handleAddCommand(String[] args) {
         }
         
         // 랭킹 데이터 조회
-        List<Map<String, Object>> ranking = getDonationRanking(streamerUuid, includeTest);
+        DonorRanking ranking = getDonationRanking(streamerUuid, includeTest);
         
-        if (ranking.isEmpty()) {
+        if (ranking == null || ranking.donorCount() == 0) {
             if (includeTest) {
                 sender.sendMessage(ChatColor.YELLOW + playerName + "님의 후원 데이터가 없습니다.");
             } else {
@@ -1218,7 +1473,7 @@ private void handleAddCommand(String[] args) {
         
         // 페이지네이션 처리
         int itemsPerPage = 10;
-        int totalPages = (ranking.size() + itemsPerPage - 1) / itemsPerPage;
+        int totalPages = (ranking.donorCount() + itemsPerPage - 1) / itemsPerPage;
         
         if (page > totalPages) {
             sender.sendMessage(ChatColor.RED + "요청한 페이지(" + page + ")가 존재하지 않습니다. 총 " + totalPages + "페이지입니다.");
@@ -1226,18 +1481,18 @@ private void handleAddCommand(String[] args) {
         }
         
         int startIndex = (page - 1) * itemsPerPage;
-        int endIndex = Math.min(startIndex + itemsPerPage, ranking.size());
+        List<DonorTotal> pageDonors = ranking.top(startIndex, itemsPerPage);
         
         // 랭킹 출력
         String titleSuffix = includeTest ? " (전체)" : " (실제 후원만)";
         sender.sendMessage(ChatColor.GOLD + "=== " + playerName + "님의 후원 랭킹" + titleSuffix + " (페이지 " + page + "/" + totalPages + ") ===");
         
-        for (int i = startIndex; i < endIndex; i++) {
-            Map<String, Object> donor = ranking.get(i);
-            String donorName = (String) donor.get("donor_name");
-            int totalAmount = (int) donor.get("total_amount");
-            int totalCount = (int) donor.get("total_count");
-            int rank = i + 1;
+        for (int i = 0; i < pageDonors.size(); i++) {
+            DonorTotal donor = pageDonors.get(i);
+            String donorName = donor.donorName();
+            int totalAmount = donor.totalAmount();
+            int totalCount = donor.totalCount();
+            int rank = startIndex + i + 1;
             
             String rankColor = getRankColor(rank);
             String amountFormatted = formatAmount(totalAmount);
@@ -1256,6 +1511,25 @@ private void handleAddCommand(String[] args) {
         }
     }
     
+    /**
+     * 내부 지표 조회 명령어 처리
+     */
+    private void handleMetricsCommand(CommandSender sender) {
+        Map<String, Map<String, Object>> snapshot = MetricsRegistry.snapshot();
+        if (snapshot.isEmpty()) {
+            sender.sendMessage(ChatColor.YELLOW + "수집된 지표가 없습니다.");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.GOLD + "=== 내부 지표 ===");
+        for (Map.Entry<String, Map<String, Object>> group : snapshot.entrySet()) {
+            sender.sendMessage(ChatColor.AQUA + "[" + group.getKey() + "]");
+            for (Map.Entry<String, Object> metric : group.getValue().entrySet()) {
+                sender.sendMessage(ChatColor.GRAY + "  " + metric.getKey() + ": " + ChatColor.WHITE + metric.getValue());
+            }
+        }
+    }
+
     /**
      * 순위에 따른 색상 반환
      */
@@ -1330,7 +1604,11 @@ private void handleAddCommand(String[] args) {
             // 주간 데이터 조회
             WeeklyStats weeklyStats = getWeeklyStats(streamerUuid, page);
             
-            if (weeklyStats == null || weeklyStats.donations.isEmpty()) {
+            if (weeklyStats == null) {
+                sender.sendMessage(ChatColor.YELLOW + playerName + "님의 후원 데이터가 없습니다.");
+                return;
+            }
+            if (weeklyStats.donations.isEmpty()) {
                 sender.sendMessage(ChatColor.YELLOW + playerName + "님의 " + weeklyStats.weekPeriod + " 후원 데이터가 없습니다.");
                 return;
             }
@@ -1346,10 +1624,10 @@ private void handleAddCommand(String[] args) {
             sender.sendMessage(ChatColor.GOLD + "=== " + weeklyStats.weekPeriod + " 후원 랭킹 ===");
             
             for (int i = 0; i < weeklyStats.donations.size(); i++) {
-                Map<String, Object> donor = weeklyStats.donations.get(i);
-                String donorName = (String) donor.get("donor_name");
-                int totalAmount = (int) donor.get("total_amount");
-                int totalCount = (int) donor.get("total_count");
+                DonorTotal donor = weeklyStats.donations.get(i);
+                String donorName = donor.donorName();
+                int totalAmount = donor.totalAmount();
+                int totalCount = donor.totalCount();
                 int rank = i + 1;
                 
                 String rankColor = getRankColor(rank);
@@ -1370,7 +1648,11 @@ private void handleAddCommand(String[] args) {
             // 월간 데이터 조회 (기존 로직)
             MonthlyStats monthlyStats = getMonthlyStats(streamerUuid, page);
             
-            if (monthlyStats == null || monthlyStats.donations.isEmpty()) {
+            if (monthlyStats == null) {
+                sender.sendMessage(ChatColor.YELLOW + playerName + "님의 후원 데이터가 없습니다.");
+                return;
+            }
+            if (monthlyStats.donations.isEmpty()) {
                 sender.sendMessage(ChatColor.YELLOW + playerName + "님의 " + monthlyStats.monthYear + " 후원 데이터가 없습니다.");
                 return;
             }
@@ -1386,10 +1668,10 @@ private void handleAddCommand(String[] args) {
             sender.sendMessage(ChatColor.GOLD + "=== " + monthlyStats.monthYear + " 후원 랭킹 ===");
             
             for (int i = 0; i < monthlyStats.donations.size(); i++) {
-                Map<String, Object> donor = monthlyStats.donations.get(i);
-                String donorName = (String) donor.get("donor_name");
-                int totalAmount = (int) donor.get("total_amount");
-                int totalCount = (int) donor.get("total_count");
+                DonorTotal donor = monthlyStats.donations.get(i);
+                String donorName = donor.donorName();
+                int totalAmount = donor.totalAmount();
+                int totalCount = donor.totalCount();
                 int rank = i + 1;
                 
                 String rankColor = getRankColor(rank);
@@ -1413,12 +1695,12 @@ private void handleAddCommand(String[] args) {
      */
     private static class MonthlyStats {
         String monthYear;
-        List<Map<String, Object>> donations;
+        List<DonorTotal> donations;
         int totalAmount;
         int totalDonors;
         int averageAmount;
         
-        MonthlyStats(String monthYear, List<Map<String, Object>> donations, int totalAmount, int totalDonors) {
+        MonthlyStats(String monthYear, List<DonorTotal> donations, int totalAmount, int totalDonors) {
             this.monthYear = monthYear;
             this.donations = donations;
             this.totalAmount = totalAmount;
@@ -1432,12 +1714,12 @@ private void handleAddCommand(String[] args) {
      */
     private static class WeeklyStats {
         String weekPeriod;
-        List<Map<String, Object>> donations;
+        List<DonorTotal> donations;
         int totalAmount;
         int totalDonors;
         int averageAmount;
         
-        WeeklyStats(String weekPeriod, List<Map<String, Object>> donations, int totalAmount, int totalDonors) {
+        WeeklyStats(String weekPeriod, List<DonorTotal> donations, int totalAmount, int totalDonors) {
             this.weekPeriod = weekPeriod;
             this.donations = donations;
             this.totalAmount = totalAmount;
@@ -1450,215 +1732,45 @@ private void handleAddCommand(String[] args) {
      * 월간 통계 조회
      */
     private MonthlyStats getMonthlyStats(String streamerUuid, int page) {
-        try {
-            FileConfiguration playerData = loadPlayerData(streamerUuid);
-            if (playerData == null) {
-                return null;
-            }
-            
-            List<Map<String, Object>> allDonations = (List<Map<String, Object>>) playerData.getList("donations");
-            if (allDonations == null || allDonations.isEmpty()) {
-                return null;
-            }
-            
-            // 테스트 후원 제외 (null safe 처리)
-            List<Map<String, Object>> realDonations = allDonations.stream()
-                .filter(donation -> {
-                    Object isTestObj = donation.get("is_test");
-                    // is_test가 null이거나 false인 경우만 포함
-                    boolean isTest = isTestObj != null && (Boolean) isTestObj;
-                    return !isTest;
-                })
-                .collect(Collectors.toList());
-            
-            if (realDonations.isEmpty()) {
-                return null;
-            }
-            
-            // 페이지에 해당하는 월 계산 (1페이지 = 이번 달, 2페이지 = 지난 달)
-            LocalDateTime targetMonth = LocalDateTime.now().minusMonths(page - 1);
-            int targetYear = targetMonth.getYear();
-            int targetMonthValue = targetMonth.getMonthValue();
-            
-            // 해당 월의 후원 데이터 필터링
-            List<Map<String, Object>> monthlyDonations = realDonations.stream()
-                .filter(donation -> {
-                    String timestamp = (String) donation.get("timestamp");
-                    if (timestamp == null || timestamp.isEmpty()) {
-                        return false;
-                    }
-                    
-                    try {
-                        LocalDateTime donationTime = LocalDateTime.parse(timestamp, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        return donationTime.getYear() == targetYear && 
-                               donationTime.getMonthValue() == targetMonthValue;
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
-                .collect(Collectors.toList());
-            
-            if (monthlyDonations.isEmpty()) {
-                return new MonthlyStats(
-                    targetYear + "년 " + targetMonthValue + "월",
-                    new ArrayList<>(),
-                    0,
-                    0
-                );
-            }
-            
-            // 후원자별로 그룹화하고 총 후원금액 계산
-            Map<String, Map<String, Object>> donorStats = new HashMap<>();
-            int totalAmount = 0;
-            
-            for (Map<String, Object> donation : monthlyDonations) {
-                String donorName = (String) donation.get("donor_name");
-                int amount = (int) donation.get("amount");
-                totalAmount += amount;
-                
-                if (donorStats.containsKey(donorName)) {
-                    Map<String, Object> stats = donorStats.get(donorName);
-                    int donorTotalAmount = (int) stats.get("total_amount");
-                    int donorTotalCount = (int) stats.get("total_count");
-                    
-                    stats.put("total_amount", donorTotalAmount + amount);
-                    stats.put("total_count", donorTotalCount + 1);
-                } else {
-                    Map<String, Object> stats = new HashMap<>();
-                    stats.put("donor_name", donorName);
-                    stats.put("total_amount", amount);
-                    stats.put("total_count", 1);
-                    donorStats.put(donorName, stats);
-                }
-            }
-            
-            // 총 후원금액 순으로 정렬
-            List<Map<String, Object>> sortedDonations = donorStats.values().stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("total_amount"), (int) a.get("total_amount")))
-                .collect(Collectors.toList());
-            
-            return new MonthlyStats(
-                targetYear + "년 " + targetMonthValue + "월",
-                sortedDonations,
-                totalAmount,
-                donorStats.size()
-            );
-            
-        } catch (Exception e) {
-            Logger.error("월간 통계 조회 중 오류 발생: " + e.getMessage());
+        StreamerDonationIndex index = getDonationIndex(streamerUuid);
+        if (index == null) {
             return null;
         }
+
+        // 페이지에 해당하는 월 계산 (1페이지 = 이번 달, 2페이지 = 지난 달)
+        YearMonth targetMonth = YearMonth.now().minusMonths(page - 1);
+        DonorRanking ranking = index.getMonthlyRanking(targetMonth);
+
+        return new MonthlyStats(
+            targetMonth.getYear() + "년 " + targetMonth.getMonthValue() + "월",
+            ranking.all(),
+            ranking.totalAmount(),
+            ranking.donorCount()
+        );
     }
     
     /**
      * 주간 통계 조회
      */
     private WeeklyStats getWeeklyStats(String streamerUuid, int page) {
-        try {
-            FileConfiguration playerData = loadPlayerData(streamerUuid);
-            if (playerData == null) {
-                return null;
-            }
-            
-            List<Map<String, Object>> allDonations = (List<Map<String, Object>>) playerData.getList("donations");
-            if (allDonations == null || allDonations.isEmpty()) {
-                return null;
-            }
-            
-            // 테스트 후원 제외 (null safe 처리)
-            List<Map<String, Object>> realDonations = allDonations.stream()
-                .filter(donation -> {
-                    Object isTestObj = donation.get("is_test");
-                    // is_test가 null이거나 false인 경우만 포함
-                    boolean isTest = isTestObj != null && (Boolean) isTestObj;
-                    return !isTest;
-                })
-                .collect(Collectors.toList());
-            
-            if (realDonations.isEmpty()) {
-                return null;
-            }
-            
-            // 페이지에 해당하는 주 계산 (1페이지 = 이번 주, 2페이지 = 지난 주)
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime targetWeek = now.minusWeeks(page - 1);
-            
-            // 해당 주의 시작일 (월요일)과 종료일 (일요일) 계산
-            LocalDateTime weekStart = targetWeek.minusDays(targetWeek.getDayOfWeek().getValue() - 1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-            LocalDateTime weekEnd = weekStart.plusDays(6).withHour(23).withMinute(59).withSecond(59).withNano(999999999);
-            
-            // 해당 주의 후원 데이터 필터링
-            List<Map<String, Object>> weeklyDonations = realDonations.stream()
-                .filter(donation -> {
-                    String timestamp = (String) donation.get("timestamp");
-                    if (timestamp == null || timestamp.isEmpty()) {
-                        return false;
-                    }
-                    
-                    try {
-                        LocalDateTime donationTime = LocalDateTime.parse(timestamp, 
-                            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-                        return !donationTime.isBefore(weekStart) && !donationTime.isAfter(weekEnd);
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
-                .collect(Collectors.toList());
-            
-            String weekPeriod = weekStart.format(DateTimeFormatter.ofPattern("yyyy년 M월 d일")) + " ~ " + 
-                              weekEnd.format(DateTimeFormatter.ofPattern("M월 d일"));
-            
-            if (weeklyDonations.isEmpty()) {
-                return new WeeklyStats(
-                    weekPeriod,
-                    new ArrayList<>(),
-                    0,
-                    0
-                );
-            }
-            
-            // 후원자별로 그룹화하고 총 후원금액 계산
-            Map<String, Map<String, Object>> donorStats = new HashMap<>();
-            int totalAmount = 0;
-            
-            for (Map<String, Object> donation : weeklyDonations) {
-                String donorName = (String) donation.get("donor_name");
-                int amount = (int) donation.get("amount");
-                totalAmount += amount;
-                
-                if (donorStats.containsKey(donorName)) {
-                    Map<String, Object> stats = donorStats.get(donorName);
-                    int donorTotalAmount = (int) stats.get("total_amount");
-                    int donorTotalCount = (int) stats.get("total_count");
-                    
-                    stats.put("total_amount", donorTotalAmount + amount);
-                    stats.put("total_count", donorTotalCount + 1);
-                } else {
-                    Map<String, Object> stats = new HashMap<>();
-                    stats.put("donor_name", donorName);
-                    stats.put("total_amount", amount);
-                    stats.put("total_count", 1);
-                    donorStats.put(donorName, stats);
-                }
-            }
-            
-            // 총 후원금액 순으로 정렬
-            List<Map<String, Object>> sortedDonations = donorStats.values().stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("total_amount"), (int) a.get("total_amount")))
-                .collect(Collectors.toList());
-            
-            return new WeeklyStats(
-                weekPeriod,
-                sortedDonations,
-                totalAmount,
-                donorStats.size()
-            );
-            
-        } catch (Exception e) {
-            Logger.error("주간 통계 조회 중 오류 발생: " + e.getMessage());
+        StreamerDonationIndex index = getDonationIndex(streamerUuid);
+        if (index == null) {
             return null;
         }
+
+        // 페이지에 해당하는 주 계산 (1페이지 = 이번 주, 2페이지 = 지난 주)
+        LocalDate weekStart = StreamerDonationIndex.weekStart(LocalDate.now().minusWeeks(page - 1));
+        LocalDate weekEnd = weekStart.plusDays(6);
+        DonorRanking ranking = index.getWeeklyRanking(weekStart);
+
+        String weekPeriod = weekStart.format(WEEK_START_FORMAT) + " ~ " + weekEnd.format(WEEK_END_FORMAT);
+
+        return new WeeklyStats(
+            weekPeriod,
+            ranking.all(),
+            ranking.totalAmount(),
+            ranking.donorCount()
+        );
     }
 
     private boolean connectChzzkForPlayer(String playerName) {
@@ -1762,6 +1874,14 @@ private void handleAddCommand(String[] args) {
      */
     @EventHandler(priority = EventPriority.NORMAL)
     public void onPlayerJoin(PlayerJoinEvent event) {
+        playerRouter.playerJoined(event.getPlayer());
+
+        // 시작 단계가 끝나기 전에 접속한 플레이어는 시작 마지막 단계에서 연결
+        if (!started) {
+            Logger.debug("[자동연결] 플러그인 시작 중이므로 자동 연결을 미룹니다.");
+            return;
+        }
+
         // 인증 상태 확인
         if (!isAuthenticated()) {
             Logger.debug("[자동연결] 인증되지 않은 서버이므로 자동 연결을 건너뜁니다.");
@@ -1774,7 +1894,13 @@ private void handleAddCommand(String[] args) {
             return;
         }
         
-        Player player = event.getPlayer();
+        connectChannelsForPlayer(event.getPlayer());
+    }
+
+    /**
+     * 플레이어의 치지직/숲 채널 연결 (이미 연결된 경우 제외)
+     */
+    private void connectChannelsForPlayer(Player player) {
         String playerName = player.getName();
         
         CompletableFuture.runAsync(() -> {
@@ -1814,6 +1940,8 @@ private void handleAddCommand(String[] args) {
      */
     @EventHandler(priority = EventPriority.NORMAL)
     public void onPlayerQuit(PlayerQuitEvent event) {
+        playerRouter.playerQuit(event.getPlayer());
+
         if (isReloading) {
             Logger.debug("[자동해제] 현재 리로딩 중이므로 자동 해제를 건너뜁니다.");
             return;
@@ -1838,6 +1966,7 @@ private void handleAddCommand(String[] args) {
                             try {
                                 Logger.info(ChatColor.YELLOW + "[자동해제] " + playerName + 
                                           "님의 치지직 채널 연결을 해제합니다.");
+                                reconnectSupervisor.release(chzzkKey(webSocket.getChzzkUser()));
                                 webSocket.shutdown();
                                 chzzkWebSocketList.remove(webSocket);
                             } catch (Exception e) {
@@ -1859,6 +1988,7 @@ private void handleAddCommand(String[] args) {
                             try {
                                 Logger.info(ChatColor.YELLOW + "[자동해제] " + playerName + 
                                           "님의 숲 채널 연결을 해제합니다.");
+                                reconnectSupervisor.release(soopKey(webSocket.getSoopUser()));
                                 webSocket.close();
                                 soopWebSocketList.remove(webSocket);
                             } catch (Exception e) {
@@ -1908,7 +2038,7 @@ private void handleAddCommand(String[] args) {
     }
 
     /**
-     * config.yml과 data 폴더에서 스트리머 이름들을 수집하여 반환
+     * config.yml과 스트리머 디렉토리에서 스트리머 이름들을 수집하여 반환
      */
     private List<String> getStreamerNames() {
         List<String> streamerNames = new ArrayList<>();
@@ -1932,28 +2062,11 @@ private void handleAddCommand(String[] args) {
             Logger.debug("config.yml에서 스트리머 이름 수집 중 오류: " + e.getMessage());
         }
         
-        // 2. data 폴더의 UUID.yml 파일들에서 streamer_name 값들도 수집
-        try {
-            File dataFolder = new File(getDataFolder(), "data");
-            
-            if (dataFolder.exists() && dataFolder.isDirectory()) {
-                File[] ymlFiles = dataFolder.listFiles((dir, name) -> name.endsWith(".yml"));
-                if (ymlFiles != null) {
-                    for (File ymlFile : ymlFiles) {
-                        try {
-                            FileConfiguration config = YamlConfiguration.loadConfiguration(ymlFile);
-                            String streamerName = config.getString("streamer_name");
-                            if (streamerName != null && !streamerName.isEmpty() && !streamerNames.contains(streamerName)) {
-                                streamerNames.add(streamerName);
-                            }
-                        } catch (Exception e) {
-                            Logger.debug("스트리머 이름 수집 중 오류 (파일: " + ymlFile.getName() + "): " + e.getMessage());
-                        }
-                    }
-                }
+        // 2. 후원 기록이 있는 스트리머 이름들도 수집 (디렉토리에서 조회)
+        for (String streamerName : streamerDirectory.names()) {
+            if (!streamerNames.contains(streamerName)) {
+                streamerNames.add(streamerName);
             }
-        } catch (Exception e) {
-            Logger.debug("data 폴더에서 스트리머 이름 수집 중 오류: " + e.getMessage());
         }
         
         // 알파벳순으로 정렬
@@ -1966,30 +2079,7 @@ private void handleAddCommand(String[] args) {
      * streamer_name으로 해당 스트리머의 UUID를 찾아 반환
      */
     private String getStreamerUuidByName(String streamerName) {
-        File dataFolder = new File(getDataFolder(), "data");
-        
-        if (!dataFolder.exists() || !dataFolder.isDirectory()) {
-            return null;
-        }
-        
-        File[] ymlFiles = dataFolder.listFiles((dir, name) -> name.endsWith(".yml"));
-        if (ymlFiles == null) {
-            return null;
-        }
-        
-        for (File ymlFile : ymlFiles) {
-            try {
-                FileConfiguration config = YamlConfiguration.loadConfiguration(ymlFile);
-                String fileStreamerName = config.getString("streamer_name");
-                if (streamerName.equalsIgnoreCase(fileStreamerName)) {
-                    return config.getString("streamer_uuid");
-                }
-            } catch (Exception e) {
-                Logger.debug("스트리머 UUID 검색 중 오류 (파일: " + ymlFile.getName() + "): " + e.getMessage());
-            }
-        }
-        
-        return null;
+        return streamerDirectory.findUuid(streamerName);
     }
 
     public List<String> onTabComplete(CommandSender sender, @NotNull Command cmd, @NotNull String label, String[] args) {
@@ -1997,12 +2087,12 @@ private void handleAddCommand(String[] args) {
             return Collections.emptyList();
         }
 
-        if (sender.isOp() == false) {
+        if (sender.isOp() == false || !started) {
             return Collections.emptyList();
         }
 
         if (args.length == 1) {
-            List<String> commandList = new ArrayList<>(Arrays.asList("on", "off", "reconnect", "reload", "add", "connect", "list", "autoconnect", "test", "ranking", "stats", "auth", "status"));
+            List<String> commandList = new ArrayList<>(Arrays.asList("on", "off", "reconnect", "reload", "add", "connect", "list", "autoconnect", "test", "ranking", "stats", "metrics", "auth", "status"));
 
             if (args[0].isEmpty()) {
                 return commandList;
@@ -2182,6 +2272,31 @@ private void handleAddCommand(String[] args) {
         return authManager;
     }
     
+    /**
+     * 후원 보상 명령어 실행기 반환
+     */
+    public RewardDispatcher getRewardDispatcher() {
+        return rewardDispatcher;
+    }
+
+    /**
+     * 디스코드 채팅 전달 릴레이 반환
+     */
+    public DiscordRelay getDiscordRelay() {
+        return discordRelay;
+    }
+
+    /**
+     * 채팅 전달 라우터 반환
+     */
+    public PlayerRouter getPlayerRouter() {
+        return playerRouter;
+    }
+
+    public ReconnectSupervisor getReconnectSupervisor() {
+        return reconnectSupervisor;
+    }
+    
     /**
      * 인증이 필요한 기능 사용 전 확인
      */
@@ -2219,50 +2334,18 @@ private void handleAddCommand(String[] args) {
                 return;
             }
             
-            File dataDir = new File(getDataFolder(), "data");
-            if (!dataDir.exists()) {
-                boolean created = dataDir.mkdirs();
-                if (!created) {
-                    Logger.error("데이터 디렉토리 생성에 실패했습니다: " + dataDir.getAbsolutePath());
-                    return;
-                }
-            }
-
-            File playerFile = new File(dataDir, streamerUuid + ".yml");
-            FileConfiguration playerConfig = YamlConfiguration.loadConfiguration(playerFile);
-
-            // 플레이어 기본 정보 저장 (최초 1회만)
-            if (!playerConfig.contains("streamer_name")) {
-                playerConfig.set("streamer_name", streamerName);
-                playerConfig.set("streamer_uuid", streamerUuid);
-                playerConfig.set("created_at", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            }
-
-            // 후원 데이터 저장
-            List<Map<String, Object>> donations = new ArrayList<>();
-            if (playerConfig.contains("donations")) {
-                Object donationsObj = playerConfig.get("donations");
-                if (donationsObj instanceof List) {
-                    donations = (List<Map<String, Object>>) donationsObj;
-                }
-            }
-
-            Map<String, Object> donation = new HashMap<>();
-            donation.put("donor_name", donorName);
-            donation.put("amount", amount);
-            donation.put("message", message != null ? message : "");
-            donation.put("platform", platform);
-            donation.put("is_test", isTest);
-            donation.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-
-            donations.add(donation);
-            playerConfig.set("donations", donations);
-
-            // 통계 업데이트
-            updatePlayerStats(playerConfig, amount, isTest);
+            DonationRecord donation = new DonationRecord(
+                donorName,
+                amount,
+                message != null ? message : "",
+                platform,
+                isTest,
+                LocalDateTime.now().format(DONATION_TIME_FORMAT)
+            );
 
-            playerConfig.save(playerFile);
-            Logger.debug("플레이어 데이터 저장 완료: " + streamerName + " - " + donorName + " - " + amount + "원");
+            streamerDirectory.update(streamerUuid, streamerName);
+            donationWriteQueue.submit(streamerUuid, streamerName, donation);
+            Logger.debug("플레이어 데이터 저장 요청: " + streamerName + " - " + donorName + " - " + amount + "원");
 
         } catch (Exception e) {
             Logger.error("플레이어 데이터 저장 중 오류 발생: " + e.getMessage());
@@ -2271,34 +2354,30 @@ private void handleAddCommand(String[] args) {
     }
 
     /**
-     * 플레이어 통계 업데이트
+     * 후원 기록 요청, 스트리머 UUID 조회와 저장 대기열 추가는 후원 기록 스레드에서 한다.
+     * 웹소켓(셀렉터) 스레드와 메인 스레드는 오프라인 플레이어 조회나 대기열 대기로 멈추지 않는다.
      */
-    private void updatePlayerStats(FileConfiguration config, int amount, boolean isTest) {
-        String statsKey = isTest ? "test_stats" : "real_stats";
-        
-        Map<String, Object> stats = new HashMap<>();
-        if (config.contains(statsKey)) {
-            stats = (Map<String, Object>) config.getConfigurationSection(statsKey).getValues(false);
+    public void recordDonation(String streamerTag, String donorName, int amount, String message, String platform, boolean isTest) {
+        try {
+            donationRecorder.execute(() -> {
+                String streamerUuid = getPlayerUuid(streamerTag);
+                if (streamerUuid != null) {
+                    savePlayerData(streamerUuid, streamerTag, donorName, amount, message, platform, isTest);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            Logger.error("후원 기록 스레드가 종료되어 기록을 저장하지 못했습니다: " + streamerTag + " - " + donorName + " " + amount + "원");
         }
-
-        int totalDonations = (int) stats.getOrDefault("total_donations", 0);
-        int totalAmount = (int) stats.getOrDefault("total_amount", 0);
-
-        stats.put("total_donations", totalDonations + 1);
-        stats.put("total_amount", totalAmount + amount);
-        stats.put("last_updated", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-
-        config.set(statsKey, stats);
     }
 
     /**
      * 플레이어 UUID 찾기 (온라인/오프라인 모두 지원)
      */
     public String getPlayerUuid(String playerName) {
-        // 먼저 온라인 플레이어에서 찾기
-        Player player = Bukkit.getPlayer(playerName);
-        if (player != null) {
-            return player.getUniqueId().toString();
+        // 먼저 접속 중인 플레이어 색인에서 찾기 (웹소켓 스레드에서도 안전)
+        UUID onlineUuid = playerRouter.find(playerName);
+        if (onlineUuid != null) {
+            return onlineUuid.toString();
         }
         
         // 오프라인 플레이어에서 찾기
@@ -2316,20 +2395,13 @@ private void handleAddCommand(String[] args) {
     }
 
     /**
-     * 플레이어 데이터 로드
+     * 스트리머 후원 집계 조회 (첫 조회 시에만 저장소에서 로드)
      */
-    public FileConfiguration loadPlayerData(String streamerUuid) {
+    private StreamerDonationIndex getDonationIndex(String streamerUuid) {
         try {
-            File dataDir = new File(getDataFolder(), "data");
-            File playerFile = new File(dataDir, streamerUuid + ".yml");
-            
-            if (!playerFile.exists()) {
-                return null;
-            }
-            
-            return YamlConfiguration.loadConfiguration(playerFile);
+            return donationStorage.getIndex(streamerUuid);
         } catch (Exception e) {
-            Logger.error("플레이어 데이터 로드 중 오류 발생: " + e.getMessage());
+            Logger.error("후원 집계 로드 중 오류 발생: " + e.getMessage());
             return null;
         }
     }
@@ -2337,110 +2409,13 @@ private void handleAddCommand(String[] args) {
     /**
      * 후원 랭킹 조회
      */
-    public List<Map<String, Object>> getDonationRanking(String streamerUuid, boolean includeTest) {
-        Logger.debug("=== getDonationRanking 시작 ===");
-        Logger.debug("streamerUuid: " + streamerUuid + ", includeTest: " + includeTest);
-        
-        FileConfiguration playerData = loadPlayerData(streamerUuid);
-        if (playerData == null) {
+    public DonorRanking getDonationRanking(String streamerUuid, boolean includeTest) {
+        StreamerDonationIndex index = getDonationIndex(streamerUuid);
+        if (index == null) {
             Logger.debug("플레이어 데이터를 찾을 수 없습니다: " + streamerUuid);
-            return new ArrayList<>();
-        }
-
-        // 플레이어 기본 정보 로그
-        String streamerName = playerData.getString("streamer_name");
-        Logger.debug("스트리머 이름: " + streamerName);
-
-        List<Map<String, Object>> donations = (List<Map<String, Object>>) playerData.getList("donations");
-        if (donations == null || donations.isEmpty()) {
-            Logger.debug("후원 데이터가 없습니다: " + streamerUuid);
-            return new ArrayList<>();
-        }
-
-        Logger.debug("전체 후원 데이터 수: " + donations.size());
-        
-        // 각 후원 데이터 상세 로그
-        for (int i = 0; i < donations.size(); i++) {
-            Map<String, Object> donation = donations.get(i);
-            Logger.debug("후원 " + (i+1) + ": " + 
-                "donor_name=" + donation.get("donor_name") + 
-                ", amount=" + donation.get("amount") + 
-                ", is_test=" + donation.get("is_test") +
-                ", platform=" + donation.get("platform"));
-        }
-
-        // 테스트 후원 포함 여부에 따라 필터링
-        List<Map<String, Object>> filteredDonations;
-        if (!includeTest) {
-            filteredDonations = donations.stream()
-                .filter(donation -> {
-                    Object isTestObj = donation.get("is_test");
-                    // is_test가 null이거나 false인 경우만 포함 (null safe 처리)
-                    boolean isTest = isTestObj != null && (Boolean) isTestObj;
-                    Logger.debug("필터링 검사: is_test=" + isTestObj + ", 결과=" + !isTest);
-                    return !isTest;
-                })
-                .collect(Collectors.toList());
-            Logger.debug("테스트 제외 후 후원 데이터 수: " + filteredDonations.size());
-        } else {
-            filteredDonations = new ArrayList<>(donations);
-            Logger.debug("모든 후원 포함: " + filteredDonations.size());
-        }
-
-        if (filteredDonations.isEmpty()) {
-            Logger.debug("필터링 후 후원 데이터가 없습니다.");
-            return new ArrayList<>();
-        }
-
-        // 후원자별로 그룹화하고 총 후원금액 계산
-        Map<String, Map<String, Object>> donorStats = new HashMap<>();
-        
-        for (Map<String, Object> donation : filteredDonations) {
-            String donorName = (String) donation.get("donor_name");
-            Object amountObj = donation.get("amount");
-            
-            if (donorName == null || amountObj == null) {
-                Logger.warn("잘못된 후원 데이터: donorName=" + donorName + ", amount=" + amountObj);
-                continue;
-            }
-            
-            int amount = (Integer) amountObj;
-            Logger.debug("처리 중인 후원: " + donorName + " - " + amount + "원");
-            
-            if (donorStats.containsKey(donorName)) {
-                Map<String, Object> stats = donorStats.get(donorName);
-                int totalAmount = (int) stats.get("total_amount");
-                int totalCount = (int) stats.get("total_count");
-                
-                stats.put("total_amount", totalAmount + amount);
-                stats.put("total_count", totalCount + 1);
-                Logger.debug("기존 후원자 업데이트: " + donorName + " - 총액: " + (totalAmount + amount) + "원, 횟수: " + (totalCount + 1));
-            } else {
-                Map<String, Object> stats = new HashMap<>();
-                stats.put("donor_name", donorName);
-                stats.put("total_amount", amount);
-                stats.put("total_count", 1);
-                donorStats.put(donorName, stats);
-                Logger.debug("새 후원자 추가: " + donorName + " - " + amount + "원, 1회");
-            }
-        }
-
-        Logger.debug("처리된 후원자 수: " + donorStats.size());
-
-        // 총 후원금액 순으로 정렬
-        List<Map<String, Object>> result = donorStats.values().stream()
-            .sorted((a, b) -> Integer.compare((int) b.get("total_amount"), (int) a.get("total_amount")))
-            .collect(Collectors.toList());
-            
-        Logger.debug("최종 랭킹 결과:");
-        for (int i = 0; i < result.size(); i++) {
-            Map<String, Object> donor = result.get(i);
-            Logger.debug((i+1) + "위: " + donor.get("donor_name") + " - " + 
-                donor.get("total_amount") + "원 (" + donor.get("total_count") + "회)");
+            return null;
         }
-        
-        Logger.debug("=== getDonationRanking 완료 ===");
-        return result;
+        return index.getRanking(includeTest);
     }
 }
 
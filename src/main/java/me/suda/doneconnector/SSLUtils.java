@@ -8,10 +8,17 @@ import java.security.cert.X509Certificate;
 
 public class SSLUtils {
     public static SSLSocketFactory createSSLSocketFactory() {
+        return createSSLContext().getSocketFactory();
+    }
+
+    /**
+     * 공유 셀렉터 연결용 (논블로킹 채널은 소켓 팩토리 대신 SSLEngine을 사용)
+     */
+    public static SSLContext createSSLContext() {
         try {
             SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(null, new TrustManager[]{new SimpleX509TrustManager()}, null);
-            return sslContext.getSocketFactory();
+            return sslContext;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
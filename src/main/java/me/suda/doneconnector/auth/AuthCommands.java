@@ -76,19 +76,19 @@ public class AuthCommands implements CommandExecutor, TabCompleter {
         
         sender.sendMessage(ChatColor.YELLOW + "웹서버 인증을 시도합니다...");
         
-        // 동기로 인증 수행 (단순화)
-        boolean success = authManager.performAuthentication();
-        
-        if (success) {
-            sender.sendMessage(ChatColor.GREEN + "인증 성공! 플러그인 기능이 활성화되었습니다.");
-            Logger.info(sender.getName() + "님이 수동 인증을 성공했습니다.");
-            
-            // 인증 성공 시 웹서버에 알림 전송
-            authManager.sendAuthenticationNotification("manual_auth_success");
-        } else {
-            sender.sendMessage(ChatColor.RED + "인증 실패! 플러그인 기능이 비활성화되었습니다.");
-            Logger.warn(sender.getName() + "님이 수동 인증을 시도했지만 실패했습니다.");
-        }
+        // 인증 전용 스레드에서 수행, 결과는 메인 스레드에서 전달
+        authManager.performAuthenticationAsync().thenAccept(success -> {
+            if (success) {
+                sender.sendMessage(ChatColor.GREEN + "인증 성공! 플러그인 기능이 활성화되었습니다.");
+                Logger.info(sender.getName() + "님이 수동 인증을 성공했습니다.");
+                
+                // 인증 성공 시 웹서버에 알림 전송
+                authManager.sendAuthenticationNotification("manual_auth_success");
+            } else {
+                sender.sendMessage(ChatColor.RED + "인증 실패! 플러그인 기능이 비활성화되었습니다.");
+                Logger.warn(sender.getName() + "님이 수동 인증을 시도했지만 실패했습니다.");
+            }
+        });
         
         return true;
     }
@@ -203,12 +203,13 @@ public class AuthCommands implements CommandExecutor, TabCompleter {
                         sender.sendMessage(ChatColor.GREEN + "웹서버 연결 테스트 성공!");
                         
                         // 추가 인증 테스트
-                        boolean authTest = authManager.performAuthentication();
-                        if (authTest) {
-                            sender.sendMessage(ChatColor.GREEN + "인증 테스트도 성공했습니다!");
-                        } else {
-                            sender.sendMessage(ChatColor.YELLOW + "웹서버 연결은 되지만 인증은 실패했습니다.");
-                        }
+                        authManager.performAuthenticationAsync().thenAccept(authTest -> {
+                            if (authTest) {
+                                sender.sendMessage(ChatColor.GREEN + "인증 테스트도 성공했습니다!");
+                            } else {
+                                sender.sendMessage(ChatColor.YELLOW + "웹서버 연결은 되지만 인증은 실패했습니다.");
+                            }
+                        });
                     } else {
                         sender.sendMessage(ChatColor.RED + "웹서버 연결 테스트 실패!");
                     }
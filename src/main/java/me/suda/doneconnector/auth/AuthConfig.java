@@ -66,6 +66,16 @@ public class AuthConfig {
         this.config = plugin.getConfig();
     }
     
+    /**
+     * config.yml 없이 웹서버 주소만 지정한 기본 설정 (테스트용)
+     */
+    AuthConfig(String webServerUrl) {
+        this.plugin = null;
+        this.config = null;
+        loadDefaultSettings();
+        this.webServerUrl = webServerUrl;
+    }
+    
     /**
      * 설정 로드
      */
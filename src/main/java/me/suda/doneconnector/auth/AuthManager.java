@@ -2,19 +2,22 @@ package me.suda.doneconnector.auth;
 
 import me.suda.doneconnector.DoneConnector;
 import me.suda.doneconnector.Logger;
+import me.suda.doneconnector.http.SharedHttpClient;
 import org.bukkit.ChatColor;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.plugin.IllegalPluginAccessException;
 
 import java.io.*;
 import java.net.InetAddress;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -24,7 +27,15 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 인증 관리자 클래스
@@ -37,6 +48,9 @@ public class AuthManager {
     private final AuthWebClient webClient;
     private final File authKeyFile;
     private final File authStatusFile;
+    private final ServerInfoCache serverInfoCache;
+    // 인증 상태 반영용 메인 스레드 실행기 (플러그인이 꺼지는 중이면 거절)
+    private final Executor mainThread;
     
     private volatile boolean isAuthenticated = false;
     private volatile boolean isAuthenticationInProgress = false;
@@ -44,18 +58,43 @@ public class AuthManager {
     private volatile String currentServerInfo = null;
     private volatile Map<String, Object> currentServerInfoMap = null;
     
+    // 인증 통신 전용 스레드 (웹서버 응답을 기다리는 동안 메인 스레드가 멈추지 않도록)
+    private ScheduledExecutorService authExecutor = null;
+    
+    // 외부 IP 재조회 (한 번에 하나만, 실패 후에는 잠시 쉬었다가 다시 시도)
+    private static final long SERVER_INFO_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private final AtomicBoolean serverInfoRefreshing = new AtomicBoolean(false);
+    private volatile long nextServerInfoRefreshAt = 0;
+    
     // 자동 인증 스케줄러
-    private BukkitTask dailyAuthTask = null;
-    private BukkitTask periodicAuthTask = null;
+    private ScheduledFuture<?> dailyAuthTask = null;
+    private ScheduledFuture<?> periodicAuthTask = null;
     
     public AuthManager(DoneConnector plugin) {
+        this(plugin, new AuthConfig(plugin), plugin.getDataFolder(), mainThreadExecutor(plugin));
+    }
+    
+    /**
+     * 플러그인 없이 만드는 인증 관리자 (테스트용)
+     *
+     * @param mainThread 인증 상태 반영을 실행할 메인 스레드 실행기
+     */
+    AuthManager(AuthConfig authConfig, File dataFolder, Executor mainThread) {
+        this(null, authConfig, dataFolder, mainThread);
+    }
+    
+    private AuthManager(DoneConnector plugin, AuthConfig authConfig, File dataFolder, Executor mainThread) {
         this.plugin = plugin;
-        this.authConfig = new AuthConfig(plugin);
-        this.webClient = new AuthWebClient(plugin, authConfig);
+        this.authConfig = authConfig;
+        this.webClient = plugin != null
+                ? new AuthWebClient(plugin, authConfig)
+                : new AuthWebClient(authConfig, "DoneConnector");
+        this.mainThread = mainThread;
         
         // 인증 파일 경로 설정
-        this.authKeyFile = new File(plugin.getDataFolder(), "auth.key");
-        this.authStatusFile = new File(plugin.getDataFolder(), "auth_status.json");
+        this.authKeyFile = new File(dataFolder, "auth.key");
+        this.authStatusFile = new File(dataFolder, "auth_status.json");
+        this.serverInfoCache = new ServerInfoCache(new File(dataFolder, "server_info_cache.json"));
         
         // 인증 상태 파일 초기화
         initializeAuthFiles();
@@ -65,6 +104,14 @@ public class AuthManager {
      * 인증 시스템 초기화
      */
     public void initialize() {
+        loadSettings();
+        bootstrap();
+    }
+    
+    /**
+     * 인증 설정과 로컬 인증키 로드 (config.yml에 인증 항목을 추가하므로 다른 설정 읽기보다 먼저 실행)
+     */
+    public void loadSettings() {
         Logger.info(ChatColor.YELLOW + "인증 시스템 초기화 중...");
         
         // 1. 설정 로드
@@ -72,17 +119,26 @@ public class AuthManager {
         
         // 2. 로컬 인증키 생성/로드
         loadOrGenerateAuthKey();
-        
-        // 3. 서버 정보 생성
-        generateServerInfo();
-        
-        // 4. 플러그인 사용 알림 전송 (인증 여부와 상관없이)
-        sendPluginUsageNotification();
-        
-        // 5. 초기 인증 시도 (실패 시 자동 등록)
-        if (!performAuthentication()) {
-            // 자동 등록 시도 (메시지 간소화)
-            performRegistration();
+    }
+    
+    /**
+     * 서버 정보 생성, 초기 인증, 자동 인증 스케줄러 시작 ({@link #loadSettings()} 이후 호출)
+     * 초기 인증은 웹서버 응답을 기다리므로 메인 스레드가 아닌 곳에서 호출한다.
+     */
+    public void bootstrap() {
+        // 3. 서버 정보 생성 (저장된 외부 IP 사용, 네트워크를 기다리지 않음)
+        if (loadServerInfo()) {
+            // 4. 플러그인 사용 알림 전송 (인증 여부와 상관없이)
+            sendPluginUsageNotification();
+            
+            // 5. 초기 인증 시도 (실패 시 자동 등록)
+            if (!performAuthentication()) {
+                // 자동 등록 시도 (메시지 간소화)
+                performRegistration();
+            }
+        } else {
+            // 저장된 외부 IP가 없으면(첫 실행 등) 조회가 끝난 뒤 백그라운드에서 알림 전송 및 인증
+            Logger.info(ChatColor.YELLOW + "외부 IP를 조회한 뒤 인증을 진행합니다...");
         }
         
         // 6. 자동 인증 스케줄러 시작
@@ -192,18 +248,99 @@ public class AuthManager {
         }
     }
     
+    /**
+     * 저장된 외부 IP로 서버 정보 생성 (네트워크를 기다리지 않음)
+     * 캐시가 없거나 만료되었거나 네트워크 인터페이스가 바뀌었으면 인증 전용 스레드에서 다시 조회한다.
+     *
+     * @return 저장된 외부 IP가 있어 서버 정보를 바로 만들었으면 true
+     */
+    private boolean loadServerInfo() {
+        serverInfoCache.load();
+        currentServerInfo = null;
+        currentServerInfoMap = null;
+        nextServerInfoRefreshAt = 0;
+        
+        String cachedIp = serverInfoCache.getExternalIp();
+        if (cachedIp != null) {
+            generateServerInfo(cachedIp);
+        }
+        refreshServerInfoIfNeeded();
+        return cachedIp != null;
+    }
+    
+    /**
+     * 캐시가 만료되었거나 네트워크 인터페이스가 바뀐 경우에만 외부 IP 재조회 요청
+     */
+    private void refreshServerInfoIfNeeded() {
+        if (System.currentTimeMillis() < nextServerInfoRefreshAt || !serverInfoCache.needsRefresh()) {
+            return;
+        }
+        if (!serverInfoRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        
+        try {
+            authExecutor().execute(() -> {
+                try {
+                    refreshServerInfo();
+                } catch (Exception e) {
+                    // 저장된 IP가 없으면 다음 정기 인증 때 바로 다시 시도
+                    if (currentServerInfo != null) {
+                        nextServerInfoRefreshAt = System.currentTimeMillis() + SERVER_INFO_RETRY_MILLIS;
+                        Logger.warn(ChatColor.YELLOW + "외부 IP 재조회에 실패해 저장된 서버 정보를 계속 사용합니다.");
+                    }
+                } finally {
+                    serverInfoRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            serverInfoRefreshing.set(false);
+        }
+    }
+    
+    /**
+     * 외부 IP를 다시 조회해 캐시와 서버 정보 갱신 (인증 전용 스레드)
+     * 처음으로 서버 정보를 만든 경우에는 초기화 때 미뤄 둔 알림 전송과 인증을 이어서 진행한다.
+     */
+    private void refreshServerInfo() {
+        String externalIp = getExternalIP();
+        boolean first = currentServerInfo == null;
+        boolean changed = !externalIp.equals(serverInfoCache.getExternalIp());
+        serverInfoCache.store(externalIp);
+        
+        if (!first && !changed) {
+            return;
+        }
+        generateServerInfo(externalIp);
+        
+        if (first) {
+            sendPluginUsageNotification();
+            performAuthenticationAsync().thenAcceptAsync(success -> {
+                if (success) {
+                    Logger.info(ChatColor.GREEN + "외부 IP 조회 후 인증이 완료되었습니다.");
+                    // 시작 때 인증이 없어 건너뛴 채널 연결을 이어서 실행
+                    plugin.onDeferredAuthentication();
+                } else {
+                    // 자동 등록 시도 (메시지 간소화)
+                    performRegistration();
+                }
+            }, authExecutor());
+        } else {
+            Logger.info(ChatColor.YELLOW + "외부 IP가 바뀌어 서버 정보를 갱신했습니다.");
+        }
+    }
+    
     /**
      * 서버 정보 생성
      */
-    private void generateServerInfo() {
+    private void generateServerInfo(String externalIp) {
         try {
             Map<String, Object> serverInfo = new HashMap<>();
             
             // 서버명
             serverInfo.put("server_name", getServerName());
             
-            // 외부 IP 주소 (필수) - 실패 시 예외 발생
-            String externalIp = getExternalIP();
+            // 외부 IP 주소 (필수)
             serverInfo.put("server_ip", externalIp);
             
             // 서버 포트
@@ -243,12 +380,13 @@ public class AuthManager {
             
         } catch (Exception e) {
             Logger.error(ChatColor.RED + "서버 정보 생성 중 오류 발생: " + e.getMessage());
-            throw new RuntimeException("외부 IP 조회 실패로 인한 서버 정보 생성 실패", e);
+            throw new RuntimeException("서버 정보 생성 실패", e);
         }
     }
     
     /**
      * 외부 IP 주소 조회 (내부 IP 차단) - 병렬 처리로 최적화
+     * 공유 HttpClient로 모든 서비스에 동시에 요청하고 가장 먼저 성공한 결과를 사용한다.
      */
     private String getExternalIP() {
         // 외부 IP 주소 조회 (로그 제거)
@@ -265,70 +403,47 @@ public class AuthManager {
             
             // 병렬 처리를 위한 CompletableFuture 리스트
             List<CompletableFuture<String>> futures = new ArrayList<>();
-            
             for (String service : services) {
-                CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
-                    try {
-                        Logger.debug("IP 조회 서비스 시도: " + service);
-                        
-                        java.net.URL url = new java.net.URL(service);
-                        java.net.HttpURLConnection conn = (java.net.HttpURLConnection) url.openConnection();
-                        conn.setConnectTimeout(5000); // 타임아웃 단축 (병렬이므로)
-                        conn.setReadTimeout(5000);
-                        conn.setRequestMethod("GET");
-                        conn.setRequestProperty("User-Agent", "DoneConnector/" + plugin.getDescription().getVersion());
-                        
-                        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-                            String ip = reader.readLine().trim();
-                            
-                            // IP 유효성 및 내부 IP 차단 검사
-                            if (isValidExternalIP(ip)) {
-                                // 외부 IP 조회 성공 (디버그 출력 제거)
-                                return ip;
-                            } else {
-                                Logger.debug("내부 IP 차단됨: " + ip + " (서비스: " + service + ")");
-                                throw new RuntimeException("내부 IP 차단");
-                            }
-                        }
-                    } catch (Exception e) {
-                        Logger.debug("IP 조회 서비스 실패: " + service + " - " + e.getMessage());
-                        throw new RuntimeException("서비스 실패: " + e.getMessage());
+                Logger.debug("IP 조회 서비스 시도: " + service);
+                futures.add(lookupExternalIP(service, Duration.ofSeconds(5)));  // 타임아웃 단축 (병렬이므로)
+            }
+            
+            // 첫 번째 성공한 결과 반환 (모두 실패하면 예외로 완료)
+            CompletableFuture<String> firstSuccess = new CompletableFuture<>();
+            AtomicInteger remaining = new AtomicInteger(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                String service = services[i];
+                futures.get(i).whenComplete((ip, error) -> {
+                    if (error == null) {
+                        firstSuccess.complete(ip);
+                        return;
+                    }
+                    Logger.debug("IP 조회 서비스 실패: " + service + " - " + rootMessage(error));
+                    if (remaining.decrementAndGet() == 0) {
+                        firstSuccess.completeExceptionally(error);
                     }
                 });
-                
-                futures.add(future);
             }
             
-            // 첫 번째 성공한 결과 반환 (anyOf 사용)
             try {
-                CompletableFuture<Object> anyOf = CompletableFuture.anyOf(futures.toArray(new CompletableFuture[0]));
-                String result = (String) anyOf.get(15, TimeUnit.SECONDS); // 15초 타임아웃
+                String result = firstSuccess.get(15, TimeUnit.SECONDS); // 15초 타임아웃
                 
-                // 나머지 작업들 취소 (리소스 절약)
+                // 나머지 요청들 취소 (리소스 절약)
                 futures.forEach(f -> f.cancel(true));
                 
                 return result;
                 
             } catch (Exception e) {
+                futures.forEach(f -> f.cancel(true));
+                
                 // 병렬 처리 실패 시 기존 방식으로 폴백
                 Logger.warn("병렬 IP 조회 실패, 순차 조회로 전환...");
                 
                 for (String service : services) {
                     try {
-                        java.net.URL url = new java.net.URL(service);
-                        java.net.HttpURLConnection conn = (java.net.HttpURLConnection) url.openConnection();
-                        conn.setConnectTimeout(3000);
-                        conn.setReadTimeout(3000);
-                        conn.setRequestMethod("GET");
-                        conn.setRequestProperty("User-Agent", "DoneConnector/" + plugin.getDescription().getVersion());
-                        
-                        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-                            String ip = reader.readLine().trim();
-                            if (isValidExternalIP(ip)) {
-                                Logger.info(ChatColor.GREEN + "외부 IP 조회 성공: " + ip);
-                                return ip;
-                            }
-                        }
+                        String ip = lookupExternalIP(service, Duration.ofSeconds(3)).get();
+                        Logger.info(ChatColor.GREEN + "외부 IP 조회 성공: " + ip);
+                        return ip;
                     } catch (Exception ex) {
                         Logger.debug("순차 IP 조회 실패: " + service);
                     }
@@ -348,6 +463,39 @@ public class AuthManager {
         }
     }
     
+    /**
+     * IP 조회 서비스 1곳에 요청 (응답 첫 줄이 외부 IP가 아니면 실패로 완료)
+     */
+    private CompletableFuture<String> lookupExternalIP(String service, Duration timeout) {
+        HttpRequest request = SharedHttpClient.request(service)
+                .timeout(timeout)
+                .setHeader("User-Agent", "DoneConnector/" + plugin.getDescription().getVersion())
+                .GET()
+                .build();
+        
+        return SharedHttpClient.get().sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        throw new IllegalStateException("HTTP " + response.statusCode());
+                    }
+                    String body = response.body();
+                    int lineEnd = body.indexOf('\n');
+                    String ip = (lineEnd >= 0 ? body.substring(0, lineEnd) : body).trim();
+                    
+                    // IP 유효성 및 내부 IP 차단 검사
+                    if (!isValidExternalIP(ip)) {
+                        Logger.debug("내부 IP 차단됨: " + ip + " (서비스: " + service + ")");
+                        throw new IllegalStateException("내부 IP 차단");
+                    }
+                    return ip;
+                });
+    }
+    
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
+    }
+    
     /**
      * IP 주소 유효성 검증 (기본)
      */
@@ -495,11 +643,42 @@ public class AuthManager {
     
     /**
      * 인증 수행 (동기) - 단순한 성공/실패 처리
+     * 호출한 스레드에서 웹서버 응답을 기다리므로 메인 스레드에서는 {@link #performAuthenticationAsync()} 사용
      */
     public boolean performAuthentication() {
+        Boolean result = requestAuthentication();
+        if (result == null) {
+            return isAuthenticated; // 현재 상태 반환
+        }
+        isAuthenticated = result;
+        return result;
+    }
+    
+    /**
+     * 인증 수행 (비동기)
+     * 웹서버 요청과 상태 파일 기록은 인증 전용 스레드에서 하고, 인증 상태 변경만 메인 스레드에서 한다.
+     * 반환값은 상태가 바뀐 뒤 메인 스레드에서 완료된다.
+     */
+    public CompletableFuture<Boolean> performAuthenticationAsync() {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        try {
+            authExecutor().execute(() -> publishAuthResult(requestAuthentication(), future));
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 현재 상태 유지
+            future.complete(isAuthenticated);
+        }
+        return future;
+    }
+    
+    /**
+     * 웹서버 인증 요청 (인증 상태는 바꾸지 않음)
+     *
+     * @return 인증 결과, 이미 인증이 진행 중이면 null
+     */
+    private Boolean requestAuthentication() {
         if (isAuthenticationInProgress) {
             Logger.warn("인증이 이미 진행 중입니다.");
-            return isAuthenticated; // 현재 상태 반환
+            return null;
         }
         
         isAuthenticationInProgress = true;
@@ -513,19 +692,16 @@ public class AuthManager {
             // 단순한 성공/실패 처리
             if (result.isSuccess()) {
                 // 인증 성공 -> 플러그인 기능 활성화
-                isAuthenticated = true;
                 updateAuthStatus(true, "인증 성공");
                 return true;
             } else {
                 // 인증 실패 -> 플러그인 기능 비활성화
-                isAuthenticated = false;
                 updateAuthStatus(false, "인증 실패");
                 return false;
             }
             
         } catch (Exception e) {
             // 오류 발생 -> 플러그인 기능 비활성화
-            isAuthenticated = false;
             updateAuthStatus(false, "인증 오류");
             // 인증 수행 중 오류 발생 (로그 간소화)
             return false;
@@ -535,12 +711,51 @@ public class AuthManager {
     }
     
     /**
-     * 인증 수행 (비동기)
+     * 인증 결과를 메인 스레드에서 반영 (플러그인이 꺼지는 중이면 바로 반영)
      */
-    public CompletableFuture<Boolean> performAuthenticationAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            return performAuthentication();
-        }, plugin.getServer().getScheduler().getMainThreadExecutor(plugin));
+    private void publishAuthResult(Boolean result, CompletableFuture<Boolean> future) {
+        Runnable apply = () -> {
+            if (result != null) {
+                isAuthenticated = result;
+            }
+            future.complete(isAuthenticated);
+        };
+        
+        try {
+            mainThread.execute(apply);
+        } catch (RejectedExecutionException e) {
+            apply.run();
+        }
+    }
+    
+    /**
+     * 다음 틱에 메인 스레드에서 실행하는 실행기, 플러그인이 꺼지는 중이면 거절한다
+     */
+    private static Executor mainThreadExecutor(DoneConnector plugin) {
+        return task -> {
+            if (!plugin.isEnabled()) {
+                throw new RejectedExecutionException("플러그인이 비활성화되었습니다.");
+            }
+            try {
+                plugin.getServer().getScheduler().runTask(plugin, task);
+            } catch (IllegalPluginAccessException e) {
+                throw new RejectedExecutionException(e);
+            }
+        };
+    }
+    
+    /**
+     * 인증 전용 스레드 (종료 후 다시 초기화하면 새로 만든다)
+     */
+    private synchronized ScheduledExecutorService authExecutor() {
+        if (authExecutor == null || authExecutor.isShutdown()) {
+            authExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "Done-Auth");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return authExecutor;
     }
     
     /**
@@ -623,28 +838,25 @@ public class AuthManager {
      */
     private void startDailyAuthScheduler() {
         if (dailyAuthTask != null) {
-            dailyAuthTask.cancel();
+            dailyAuthTask.cancel(false);
         }
         
         // 다음 00:00 KST까지의 시간 계산
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         LocalDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay();
-        long delay = java.time.Duration.between(now, nextMidnight).getSeconds() * 20; // 틱으로 변환
-        
-        dailyAuthTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                Logger.info(ChatColor.YELLOW + "매일 0시 인증 확인을 시작합니다...");
-                performAuthenticationAsync().thenAccept(success -> {
-                    if (success) {
-                        Logger.info(ChatColor.GREEN + "매일 0시 인증 확인 완료");
-                    } else {
-                        Logger.warn(ChatColor.RED + "매일 0시 인증 확인 실패 - 플러그인 기능 비활성화");
-                        isAuthenticated = false;
-                    }
-                });
-            }
-        }.runTaskTimer(plugin, delay, 20 * 60 * 60 * 24); // 24시간마다 반복
+        long delay = java.time.Duration.between(now, nextMidnight).getSeconds();
+        
+        // 인증 전용 스레드에서 실행 (메인 스레드는 결과 반영만)
+        dailyAuthTask = authExecutor().scheduleAtFixedRate(() -> {
+            Logger.info(ChatColor.YELLOW + "매일 0시 인증 확인을 시작합니다...");
+            performAuthenticationAsync().thenAccept(success -> {
+                if (success) {
+                    Logger.info(ChatColor.GREEN + "매일 0시 인증 확인 완료");
+                } else {
+                    Logger.warn(ChatColor.RED + "매일 0시 인증 확인 실패 - 플러그인 기능 비활성화");
+                }
+            });
+        }, delay, TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS); // 24시간마다 반복
         
         Logger.debug("일일 인증 스케줄러가 시작되었습니다. 다음 실행: " + nextMidnight.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
@@ -654,26 +866,25 @@ public class AuthManager {
      */
     private void startPeriodicAuthScheduler() {
         if (periodicAuthTask != null) {
-            periodicAuthTask.cancel();
+            periodicAuthTask.cancel(false);
         }
         
         // 5분마다 인증 확인 (고정값)
-        long ticks = 5 * 60 * 20; // 5분을 틱으로 변환
-        
-        periodicAuthTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                Logger.info(ChatColor.YELLOW + "5분마다 인증 확인 중...");
-                performAuthenticationAsync().thenAccept(success -> {
-                    if (success) {
-                        Logger.info(ChatColor.GREEN + "정기 인증 확인 완료");
-                    } else {
-                        Logger.warn(ChatColor.RED + "정기 인증 확인 실패 - 플러그인 기능 비활성화");
-                        isAuthenticated = false;
-                    }
-                });
-            }
-        }.runTaskTimer(plugin, ticks, ticks);
+        long minutes = 5;
+        
+        periodicAuthTask = authExecutor().scheduleAtFixedRate(() -> {
+            // 외부 IP 캐시가 만료되었으면 인증 전에 다시 조회 (같은 스레드 대기열에서 먼저 실행)
+            refreshServerInfoIfNeeded();
+            
+            Logger.info(ChatColor.YELLOW + "5분마다 인증 확인 중...");
+            performAuthenticationAsync().thenAccept(success -> {
+                if (success) {
+                    Logger.info(ChatColor.GREEN + "정기 인증 확인 완료");
+                } else {
+                    Logger.warn(ChatColor.RED + "정기 인증 확인 실패 - 플러그인 기능 비활성화");
+                }
+            });
+        }, minutes, minutes, TimeUnit.MINUTES);
         
         Logger.info(ChatColor.GREEN + "5분마다 정기 인증 스케줄러가 시작되었습니다.");
     }
@@ -683,15 +894,26 @@ public class AuthManager {
      */
     public void shutdown() {
         if (dailyAuthTask != null) {
-            dailyAuthTask.cancel();
+            dailyAuthTask.cancel(false);
             dailyAuthTask = null;
         }
         
         if (periodicAuthTask != null) {
-            periodicAuthTask.cancel();
+            periodicAuthTask.cancel(false);
             periodicAuthTask = null;
         }
         
+        // 진행 중인 요청은 기다리지 않는다 (데몬 스레드)
+        synchronized (this) {
+            if (authExecutor != null) {
+                authExecutor.shutdownNow();
+                authExecutor = null;
+            }
+        }
+        // 실행되지 못하고 버려진 외부 IP 재조회가 있으면 다음 초기화 때 다시 시도
+        serverInfoRefreshing.set(false);
+        webClient.shutdown();
+        
         Logger.info(ChatColor.YELLOW + "인증 시스템이 종료되었습니다.");
     }
     
@@ -827,19 +1049,13 @@ public class AuthManager {
      */
     public void sendAuthenticationNotification(String action) {
         try {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    AuthWebClient.AuthResult result = webClient.sendPluginUsageNotification(currentAuthKey, currentServerInfoMap, action);
-                    
-                    if (result.isSuccess()) {
-                        Logger.debug("인증 알림 전송 성공: " + action);
-                    } else {
-                        Logger.warn("인증 알림 전송 실패: " + result.getMessage());
-                    }
-                } catch (Exception e) {
-                    Logger.error("인증 알림 전송 중 오류: " + e.getMessage());
+            webClient.sendPluginUsageNotificationAsync(currentAuthKey, currentServerInfoMap, action).thenAccept(result -> {
+                if (result.isSuccess()) {
+                    Logger.debug("인증 알림 전송 성공: " + action);
+                } else {
+                    Logger.warn("인증 알림 전송 실패: " + result.getMessage());
                 }
-            }, plugin.getServer().getScheduler().getMainThreadExecutor(plugin));
+            });
             
         } catch (Exception e) {
             Logger.error("인증 알림 전송 중 오류 발생: " + e.getMessage());
@@ -854,17 +1070,11 @@ public class AuthManager {
             // 웹서버에 플러그인 사용 정보 전송 (로그 제거)
             
             // 비동기로 플러그인 사용 알림 전송 (인증 여부와 상관없이)
-            CompletableFuture.runAsync(() -> {
-                try {
-                    AuthWebClient.AuthResult result = webClient.sendPluginUsageNotification(currentAuthKey, currentServerInfoMap, "plugin_loaded");
-                    
-                    if (result.isSuccess()) {
-                        // 플러그인 사용 정보 전송 성공 (로그 제거)
-                    } else {
-                        Logger.warn(ChatColor.YELLOW + "플러그인 사용 정보 전송 실패: " + result.getMessage());
-                    }
-                } catch (Exception e) {
-                    Logger.error("플러그인 사용 정보 전송 중 오류: " + e.getMessage());
+            webClient.sendPluginUsageNotificationAsync(currentAuthKey, currentServerInfoMap, "plugin_loaded").thenAccept(result -> {
+                if (result.isSuccess()) {
+                    // 플러그인 사용 정보 전송 성공 (로그 제거)
+                } else {
+                    Logger.warn(ChatColor.YELLOW + "플러그인 사용 정보 전송 실패: " + result.getMessage());
                 }
             });
             
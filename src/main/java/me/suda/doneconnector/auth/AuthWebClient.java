@@ -2,47 +2,73 @@ package me.suda.doneconnector.auth;
 
 import me.suda.doneconnector.DoneConnector;
 import me.suda.doneconnector.Logger;
-import org.bukkit.ChatColor;
+import me.suda.doneconnector.http.SharedHttpClient;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 웹서버와의 인증 통신을 담당하는 클래스
  * HTTPS 통신, SSL 인증서 검증, HMAC 서명 등을 처리
+ *
+ * 요청은 공유 HttpClient로 비동기 전송하므로 정기 인증마다 TCP/TLS 연결을 새로 맺지 않는다.
+ * SSL 검증을 끈 경우에만 전용 클라이언트 1개를 따로 만들어 재사용한다.
  */
 public class AuthWebClient {
     
-    private final DoneConnector plugin;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    
+    // 서명/지문 계산용 SHA-256 (스레드마다 1개를 만들어 재사용)
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    });
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
     private final AuthConfig config;
-    private final JSONParser jsonParser;
+    private final String userAgent;
     
     // SSL 컨텍스트 (SSL 검증 비활성화용)
     private SSLContext sslContext;
     
+    // SSL 검증 비활성화 시 사용하는 클라이언트 (처음 필요할 때 생성)
+    private HttpClient insecureClient;
+    
     public AuthWebClient(DoneConnector plugin, AuthConfig config) {
-        this.plugin = plugin;
+        this(config, "DoneConnector/" + plugin.getDescription().getVersion());
+    }
+    
+    AuthWebClient(AuthConfig config, String userAgent) {
         this.config = config;
-        this.jsonParser = new JSONParser();
+        this.userAgent = userAgent;
         
         // SSL 컨텍스트 초기화
         initializeSSLContext();
@@ -56,10 +82,11 @@ public class AuthWebClient {
             if (!config.isEnableSSLVerification()) {
                 // SSL 검증 비활성화 (개발/테스트용)
                 sslContext = SSLContext.getInstance("TLS");
+                // HttpClient는 HostnameVerifier를 받지 않으므로 호스트명 확인까지 생략하는 확장 TrustManager 사용
                 TrustManager[] trustAllCerts = new TrustManager[] {
-                    new X509TrustManager() {
+                    new X509ExtendedTrustManager() {
                         public X509Certificate[] getAcceptedIssuers() {
-                            return null;
+                            return new X509Certificate[0];
                         }
                         
                         public void checkClientTrusted(X509Certificate[] certs, String authType) {
@@ -69,6 +96,22 @@ public class AuthWebClient {
                         public void checkServerTrusted(X509Certificate[] certs, String authType) {
                             // 검증 생략
                         }
+                        
+                        public void checkClientTrusted(X509Certificate[] certs, String authType, Socket socket) {
+                            // 검증 생략
+                        }
+                        
+                        public void checkServerTrusted(X509Certificate[] certs, String authType, Socket socket) {
+                            // 검증 생략
+                        }
+                        
+                        public void checkClientTrusted(X509Certificate[] certs, String authType, SSLEngine engine) {
+                            // 검증 생략
+                        }
+                        
+                        public void checkServerTrusted(X509Certificate[] certs, String authType, SSLEngine engine) {
+                            // 검증 생략
+                        }
                     }
                 };
                 sslContext.init(null, trustAllCerts, new SecureRandom());
@@ -83,6 +126,13 @@ public class AuthWebClient {
      * 인증 검증 요청
      */
     public AuthResult validateAuthentication(String authKey, String serverInfo) {
+        return SharedHttpClient.await(validateAuthenticationAsync(authKey, serverInfo));
+    }
+    
+    /**
+     * 인증 검증 요청 (비동기, 실패해도 예외 대신 실패 결과로 완료)
+     */
+    public CompletableFuture<AuthResult> validateAuthenticationAsync(String authKey, String serverInfo) {
         Logger.debug("웹서버 인증 검증을 시작합니다...");
         
         try {
@@ -108,15 +158,13 @@ public class AuthWebClient {
             // JSON 요청 데이터 생성
             String jsonData = convertMapToJson(requestData);
             
-            // HTTP 요청 전송
-            String response = sendHttpRequest(config.getValidateApiUrl(), "POST", jsonData);
-            
-            // 응답 파싱
-            return parseAuthResponse(response);
+            // HTTP 요청 전송 후 응답 파싱
+            return sendHttpRequestAsync(config.getValidateApiUrl(), "POST", jsonData)
+                    .thenApply(this::parseAuthResponse)
+                    .exceptionally(e -> failure("인증 검증 중 오류 발생: ", e));
             
         } catch (Exception e) {
-            Logger.error("인증 검증 중 오류 발생: " + e.getMessage());
-            return new AuthResult(false, "인증 검증 중 오류 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(failure("인증 검증 중 오류 발생: ", e));
         }
     }
     
@@ -124,6 +172,13 @@ public class AuthWebClient {
      * 서버 등록 요청
      */
     public AuthResult registerServer(String authKey, String serverInfo) {
+        return SharedHttpClient.await(registerServerAsync(authKey, serverInfo));
+    }
+    
+    /**
+     * 서버 등록 요청 (비동기)
+     */
+    public CompletableFuture<AuthResult> registerServerAsync(String authKey, String serverInfo) {
         Logger.debug("웹서버에 서버 등록을 요청합니다...");
         
         try {
@@ -141,15 +196,13 @@ public class AuthWebClient {
             // JSON 요청 데이터 생성
             String jsonData = convertMapToJson(requestData);
             
-            // HTTP 요청 전송
-            String response = sendHttpRequest(config.getRegisterApiUrl(), "POST", jsonData);
-            
-            // 응답 파싱
-            return parseAuthResponse(response);
+            // HTTP 요청 전송 후 응답 파싱
+            return sendHttpRequestAsync(config.getRegisterApiUrl(), "POST", jsonData)
+                    .thenApply(this::parseAuthResponse)
+                    .exceptionally(e -> failure("서버 등록 중 오류 발생: ", e));
             
         } catch (Exception e) {
-            Logger.error("서버 등록 중 오류 발생: " + e.getMessage());
-            return new AuthResult(false, "서버 등록 중 오류 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(failure("서버 등록 중 오류 발생: ", e));
         }
     }
     
@@ -157,6 +210,13 @@ public class AuthWebClient {
      * 플러그인 사용 알림 전송 - 직접 Map 전달로 파싱 오류 방지
      */
     public AuthResult sendPluginUsageNotification(String authKey, Map<String, Object> serverInfoMap, String action) {
+        return SharedHttpClient.await(sendPluginUsageNotificationAsync(authKey, serverInfoMap, action));
+    }
+    
+    /**
+     * 플러그인 사용 알림 전송 (비동기)
+     */
+    public CompletableFuture<AuthResult> sendPluginUsageNotificationAsync(String authKey, Map<String, Object> serverInfoMap, String action) {
         Logger.debug("웹서버에 플러그인 사용 알림을 전송합니다...");
         
         try {
@@ -170,15 +230,13 @@ public class AuthWebClient {
             // JSON 요청 데이터 생성
             String jsonData = convertMapToJson(requestData);
             
-            // HTTP 요청 전송 (플러그인 사용 추적 API)
-            String response = sendHttpRequest(config.getWebServerUrl() + "/api/auth/plugin_usage.php", "POST", jsonData);
-            
-            // 응답 파싱
-            return parseAuthResponse(response);
+            // HTTP 요청 전송 (플러그인 사용 추적 API) 후 응답 파싱
+            return sendHttpRequestAsync(config.getWebServerUrl() + "/api/auth/plugin_usage.php", "POST", jsonData)
+                    .thenApply(this::parseAuthResponse)
+                    .exceptionally(e -> failure("플러그인 사용 알림 전송 중 오류 발생: ", e));
             
         } catch (Exception e) {
-            Logger.error("플러그인 사용 알림 전송 중 오류 발생: " + e.getMessage());
-            return new AuthResult(false, "플러그인 사용 알림 전송 중 오류 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(failure("플러그인 사용 알림 전송 중 오류 발생: ", e));
         }
     }
     
@@ -186,6 +244,13 @@ public class AuthWebClient {
      * 서버 상태 확인 요청
      */
     public AuthResult checkServerStatus(String authKey) {
+        return SharedHttpClient.await(checkServerStatusAsync(authKey));
+    }
+    
+    /**
+     * 서버 상태 확인 요청 (비동기)
+     */
+    public CompletableFuture<AuthResult> checkServerStatusAsync(String authKey) {
         Logger.debug("웹서버에서 서버 상태를 확인합니다...");
         
         try {
@@ -198,96 +263,92 @@ public class AuthWebClient {
             // JSON 요청 데이터 생성
             String jsonData = convertMapToJson(requestData);
             
-            // HTTP 요청 전송
-            String response = sendHttpRequest(config.getStatusApiUrl(), "POST", jsonData);
-            
-            // 응답 파싱
-            return parseAuthResponse(response);
+            // HTTP 요청 전송 후 응답 파싱
+            return sendHttpRequestAsync(config.getStatusApiUrl(), "POST", jsonData)
+                    .thenApply(this::parseAuthResponse)
+                    .exceptionally(e -> failure("서버 상태 확인 중 오류 발생: ", e));
             
         } catch (Exception e) {
-            Logger.error("서버 상태 확인 중 오류 발생: " + e.getMessage());
-            return new AuthResult(false, "서버 상태 확인 중 오류 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(failure("서버 상태 확인 중 오류 발생: ", e));
         }
     }
     
     /**
-     * HTTP 요청 전송
+     * HTTP 요청 전송 (비동기)
+     * 응답 본문은 받는 대로 UTF-8로 디코딩하고, 실패 응답의 본문은 읽어서 버린다. (연결 재사용)
      */
-    private String sendHttpRequest(String urlString, String method, String data) throws Exception {
-        URL url = new URL(urlString);
-        HttpURLConnection connection = null;
+    private CompletableFuture<String> sendHttpRequestAsync(String urlString, String method, String data) {
+        HttpRequest.BodyPublisher body = data != null && !data.isEmpty()
+                ? HttpRequest.BodyPublishers.ofString(data, StandardCharsets.UTF_8)
+                : HttpRequest.BodyPublishers.noBody();
         
-        try {
-            // 연결 설정
-            if (urlString.startsWith("https://")) {
-                connection = (HttpsURLConnection) url.openConnection();
-                
-                // SSL 검증 설정
-                if (!config.isEnableSSLVerification() && sslContext != null) {
-                    ((HttpsURLConnection) connection).setSSLSocketFactory(sslContext.getSocketFactory());
-                    ((HttpsURLConnection) connection).setHostnameVerifier((hostname, session) -> true);
-                }
-            } else {
-                connection = (HttpURLConnection) url.openConnection();
-            }
-            
-            // 연결 설정
-            connection.setRequestMethod(method);
-            connection.setConnectTimeout(10000); // 10초
-            connection.setReadTimeout(15000); // 15초
-            connection.setDoOutput(true);
-            connection.setDoInput(true);
-            
-            // 헤더 설정
-            connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-            connection.setRequestProperty("User-Agent", "DoneConnector/" + plugin.getDescription().getVersion());
-            connection.setRequestProperty("Accept", "application/json");
-            
-            // 요청 데이터 전송
-            if (data != null && !data.isEmpty()) {
-                try (OutputStream os = connection.getOutputStream()) {
-                    byte[] input = data.getBytes(StandardCharsets.UTF_8);
-                    os.write(input, 0, input.length);
-                }
-            }
-            
-            // 응답 코드 확인
-            int responseCode = connection.getResponseCode();
-            
-            // 응답 데이터 읽기
-            InputStream inputStream;
-            if (responseCode >= 200 && responseCode < 300) {
-                inputStream = connection.getInputStream();
-            } else {
-                inputStream = connection.getErrorStream();
-            }
-            
-            StringBuilder response = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-            }
-            
-            String responseBody = response.toString();
-            
-            if (responseCode >= 200 && responseCode < 300) {
-                Logger.debug("HTTP 요청 성공: " + responseCode);
-                Logger.debug("응답 데이터: " + responseBody);
-                return responseBody;
-            } else {
-                // HTTP 요청 실패 (로그 간소화)
-                throw new Exception("HTTP 요청 실패: " + responseCode);
-            }
-            
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
+        HttpRequest request = SharedHttpClient.request(urlString)
+                .setHeader("User-Agent", userAgent)
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .header("Accept", "application/json")
+                .method(method, body)
+                .build();
+        
+        return httpClient(urlString).sendAsync(request, AuthWebClient::responseBody)
+                .thenApply(response -> {
+                    int responseCode = response.statusCode();
+                    if (responseCode >= 200 && responseCode < 300) {
+                        Logger.debug("HTTP 요청 성공: " + responseCode);
+                        Logger.debug("응답 데이터: " + response.body());
+                        return response.body();
+                    }
+                    // HTTP 요청 실패 (로그 간소화)
+                    throw new CompletionException(new IOException("HTTP 요청 실패: " + responseCode));
+                });
+    }
+    
+    private static HttpResponse.BodySubscriber<String> responseBody(HttpResponse.ResponseInfo info) {
+        if (info.statusCode() >= 200 && info.statusCode() < 300) {
+            return HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+        }
+        return HttpResponse.BodySubscribers.replacing(null);
+    }
+    
+    /**
+     * 요청에 사용할 클라이언트 (SSL 검증을 끈 https 요청만 전용 클라이언트 사용)
+     */
+    private HttpClient httpClient(String urlString) {
+        if (urlString.startsWith("https://") && !config.isEnableSSLVerification() && sslContext != null) {
+            return insecureClient();
+        }
+        return SharedHttpClient.get();
+    }
+    
+    private synchronized HttpClient insecureClient() {
+        if (insecureClient == null) {
+            insecureClient = HttpClient.newBuilder()
+                    .sslContext(sslContext)
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        return insecureClient;
+    }
+    
+    /**
+     * 전용 클라이언트 종료 (플러그인 종료 시, 셀렉터 스레드가 리로드 뒤에 남지 않도록)
+     */
+    public synchronized void shutdown() {
+        if (insecureClient != null) {
+            insecureClient.shutdownNow();
+            insecureClient = null;
         }
     }
     
+    /**
+     * 요청 실패 결과 (비동기 예외는 원인 예외의 메시지 사용)
+     */
+    private static AuthResult failure(String prefix, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        Logger.error(prefix + cause.getMessage());
+        return new AuthResult(false, prefix + cause.getMessage());
+    }
+    
     /**
      * 인증 응답 파싱
      */
@@ -297,7 +358,8 @@ public class AuthWebClient {
                 return new AuthResult(false, "빈 응답을 받았습니다.");
             }
             
-            JSONObject jsonResponse = (JSONObject) jsonParser.parse(response);
+            // 응답은 HttpClient 스레드에서 파싱하므로 파서를 공유하지 않는다
+            JSONObject jsonResponse = (JSONObject) new JSONParser().parse(response);
             
             // 응답 상태 확인
             String status = (String) jsonResponse.get("status");
@@ -382,7 +444,7 @@ public class AuthWebClient {
             String secretKey = "doneconnector_secret_key_2024"; // 실제로는 더 복잡한 키 사용
             String dataToSign = dataString.toString();
             
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = SHA256.get();
             byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
             byte[] dataBytes = dataToSign.getBytes(StandardCharsets.UTF_8);
             
@@ -396,7 +458,7 @@ public class AuthWebClient {
             // Base64 인코딩
             return Base64.getEncoder().encodeToString(hash);
             
-        } catch (NoSuchAlgorithmException e) {
+        } catch (IllegalStateException e) {
             Logger.error("HMAC 생성 중 오류 발생: " + e.getMessage());
             return "error";
         }
@@ -413,17 +475,11 @@ public class AuthWebClient {
             String timestamp = String.valueOf(System.currentTimeMillis());
             String combined = serverUrl + timestamp + "ssl_fingerprint";
             
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] hash = md.digest(combined.getBytes(StandardCharsets.UTF_8));
+            byte[] hash = SHA256.get().digest(combined.getBytes(StandardCharsets.UTF_8));
             
-            StringBuilder fingerprint = new StringBuilder();
-            for (byte b : hash) {
-                fingerprint.append(String.format("%02x", b));
-            }
+            return HexFormat.of().formatHex(hash);
             
-            return fingerprint.toString();
-            
-        } catch (NoSuchAlgorithmException e) {
+        } catch (IllegalStateException e) {
             Logger.error("SSL 인증서 지문 생성 중 오류 발생: " + e.getMessage());
             return "unknown";
         }
@@ -433,9 +489,8 @@ public class AuthWebClient {
      * 랜덤 nonce 생성
      */
     private String generateNonce() {
-        SecureRandom random = new SecureRandom();
         byte[] nonceBytes = new byte[16];
-        random.nextBytes(nonceBytes);
+        RANDOM.nextBytes(nonceBytes);
         return Base64.getEncoder().encodeToString(nonceBytes);
     }
     
@@ -449,7 +504,7 @@ public class AuthWebClient {
                 throw new RuntimeException("빈 서버 정보");
             }
             
-            JSONObject serverInfoObj = (JSONObject) jsonParser.parse(serverInfoJson);
+            JSONObject serverInfoObj = (JSONObject) new JSONParser().parse(serverInfoJson);
             Map<String, Object> serverInfoMap = new HashMap<>();
             
             // 필수 필드들 안전하게 추출
@@ -0,0 +1,132 @@
+package me.suda.doneconnector.auth;
+
+import me.suda.doneconnector.Logger;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.io.File;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 외부 IP 조회 결과 캐시 (auth_status.json 옆 server_info_cache.json에 저장)
+ *
+ * 서버 정보를 만들 때마다 외부 IP 조회 서비스를 기다리지 않도록 마지막 조회 결과를 보관한다.
+ * 유효 시간이 지났거나 로컬 네트워크 인터페이스(IPv4 주소) 구성이 바뀐 경우에만 다시 조회가 필요하다.
+ * IPv6 임시 주소는 수시로 바뀌므로 인터페이스 비교에서 제외한다.
+ */
+final class ServerInfoCache {
+
+    static final Duration TTL = Duration.ofHours(12);
+
+    private final File file;
+
+    private volatile String externalIp;
+    private volatile long checkedAt;
+    private volatile String interfaces;
+
+    ServerInfoCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * 저장된 캐시 읽기 (없거나 손상되었으면 비어 있는 상태)
+     */
+    synchronized void load() {
+        externalIp = null;
+        checkedAt = 0;
+        interfaces = null;
+        if (!file.exists()) {
+            return;
+        }
+
+        try {
+            String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+            JSONObject json = (JSONObject) new JSONParser().parse(content);
+            Object ip = json.get("external_ip");
+            Object time = json.get("checked_at");
+            Object network = json.get("interfaces");
+            externalIp = ip instanceof String value && !value.isEmpty() ? value : null;
+            checkedAt = time instanceof Number number ? number.longValue() : 0;
+            interfaces = network instanceof String value ? value : null;
+        } catch (Exception e) {
+            Logger.debug("서버 정보 캐시를 읽지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 외부 IP, 없으면 null
+     */
+    String getExternalIp() {
+        return externalIp;
+    }
+
+    /**
+     * 다시 조회해야 하는지 (캐시 없음, 유효 시간 만료, 네트워크 인터페이스 변경)
+     */
+    boolean needsRefresh() {
+        if (externalIp == null) {
+            return true;
+        }
+        if (System.currentTimeMillis() - checkedAt >= TTL.toMillis()) {
+            return true;
+        }
+        return !currentInterfaces().equals(interfaces);
+    }
+
+    /**
+     * 조회 결과 저장 (현재 네트워크 인터페이스 구성도 함께 기록)
+     */
+    @SuppressWarnings("unchecked")
+    synchronized void store(String ip) {
+        externalIp = ip;
+        checkedAt = System.currentTimeMillis();
+        interfaces = currentInterfaces();
+
+        try {
+            JSONObject json = new JSONObject();
+            json.put("external_ip", externalIp);
+            json.put("checked_at", checkedAt);
+            json.put("interfaces", interfaces);
+            Files.writeString(file.toPath(), json.toJSONString(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            Logger.error("서버 정보 캐시 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 사용 중인 인터페이스와 IPv4 주소 목록의 해시 (네트워크 조회 없음)
+     */
+    static String currentInterfaces() {
+        try {
+            List<String> entries = new ArrayList<>();
+            for (NetworkInterface networkInterface : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+                if (!networkInterface.isUp() || networkInterface.isLoopback()) {
+                    continue;
+                }
+                for (InetAddress address : Collections.list(networkInterface.getInetAddresses())) {
+                    if (address instanceof Inet4Address) {
+                        entries.add(networkInterface.getName() + "=" + address.getHostAddress());
+                    }
+                }
+            }
+            Collections.sort(entries);
+
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(String.join(",", entries).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (Exception e) {
+            Logger.debug("네트워크 인터페이스 조회 실패: " + e.getMessage());
+            return "unknown";
+        }
+    }
+}
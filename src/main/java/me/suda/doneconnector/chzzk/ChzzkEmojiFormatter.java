@@ -0,0 +1,78 @@
+package me.suda.doneconnector.chzzk;
+
+import java.util.List;
+
+/**
+ * 치지직 채팅의 이모지 토큰 {@code {:키:}}를 {@code :키:}로 바꾸는 변환기
+ *
+ * 이모지마다 정규식을 만들어 replaceAll 하지 않고 메시지를 한 번만 훑으며 바꾼다.
+ * 기존 정규식({@code \{:키:\}+})과 같이 토큰 뒤에 이어진 '}'는 모두 함께 지운다.
+ * 연결마다 하나씩 쓰며 스레드 안전하지 않다. (웹소켓 읽기 스레드 전용)
+ */
+final class ChzzkEmojiFormatter {
+
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private final StringBuilder builder = new StringBuilder(256);
+
+    /**
+     * @param emojiKeys 메시지의 extras.emojis 키
+     */
+    String format(String message, List<String> emojiKeys) {
+        if (emojiKeys.isEmpty()) {
+            return message;
+        }
+        int next = message.indexOf("{:");
+        if (next < 0) {
+            return message;
+        }
+
+        StringBuilder out = builder;
+        out.setLength(0);
+        int copied = 0;
+        int length = message.length();
+
+        while (next >= 0) {
+            String key = matchKey(message, next + 2, emojiKeys);
+            if (key == null) {
+                next = message.indexOf("{:", next + 1);
+                continue;
+            }
+
+            // {:키:} 뒤에 이어진 '}'까지 한 토큰
+            int end = next + 2 + key.length() + 2;
+            while (end < length && message.charAt(end) == '}') {
+                end++;
+            }
+
+            out.append(message, copied, next).append(':').append(key).append(':');
+            copied = end;
+            next = message.indexOf("{:", end);
+        }
+
+        if (copied == 0) {
+            return message;
+        }
+        out.append(message, copied, length);
+        String result = out.toString();
+
+        // 아주 긴 메시지로 늘어난 버퍼는 붙잡아 두지 않는다
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            out.setLength(0);
+            out.trimToSize();
+        }
+        return result;
+    }
+
+    /**
+     * start 위치에서 시작하는 "키:}"의 키, 없으면 null
+     */
+    private static String matchKey(String message, int start, List<String> emojiKeys) {
+        for (String key : emojiKeys) {
+            if (message.startsWith(key, start) && message.startsWith(":}", start + key.length())) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
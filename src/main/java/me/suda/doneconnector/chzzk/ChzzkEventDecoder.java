@@ -0,0 +1,315 @@
+package me.suda.doneconnector.chzzk;
+
+import lombok.Getter;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 치지직 채팅 프레임에서 필요한 필드만 뽑아내는 스트리밍 디코더
+ *
+ * JSONObject 트리를 만들지 않고 json-simple의 ContentHandler(SAX) 이벤트를 한 번 훑으며
+ * cmd, bdy[0]의 uid/msg, 프로필(닉네임, 역할, 닉네임 색상), extras(이모지, 후원 금액)만 기록하고 나머지는 건너뛴다.
+ * profile/extras/streamingProperty/nicknameColor는 값이 JSON 문자열로 올 때만 해당 문자열을 같은 방식으로 한 번 더 훑는다.
+ * 연결마다 하나씩 쓰며 스레드 안전하지 않다. (웹소켓 읽기 스레드 전용)
+ */
+final class ChzzkEventDecoder implements ContentHandler {
+
+    private static final int NO_COMMAND = Integer.MIN_VALUE;
+
+    /**
+     * 디코딩 결과
+     */
+    @Getter
+    static final class Event {
+        private int cmd = NO_COMMAND;
+        private String uid;
+        private String msg;
+        // profile 값이 있었는지 (문자열 또는 객체)
+        private boolean profile;
+        private String nickname;
+        private String userRoleCode;
+        // nicknameColor.colorCode, 없으면 null
+        private String colorCode;
+        private final List<String> emojis = new ArrayList<>(2);
+        // extras.payAmount 원문, 없으면 null
+        private String payAmount;
+
+        public boolean hasCmd() {
+            return cmd != NO_COMMAND;
+        }
+    }
+
+    /**
+     * 값의 위치 (컨테이너 단위)
+     */
+    private enum Scope {
+        ENVELOPE, BODY_LIST, BODY, PROFILE, STREAMING_PROPERTY, NICKNAME_COLOR, EXTRAS, EMOJIS, SKIP
+    }
+
+    private static final class Frame {
+        private Scope scope;
+        private String key;
+        private int index;
+    }
+
+    private record Nested(Scope scope, String json) {}
+
+    private final JSONParser parser = new JSONParser();
+    private final int[] bodyCommands;
+
+    // 파싱 중 상태 (재사용)
+    private final Frame[] frames = new Frame[32];
+    private int depth;
+    private Scope rootScope;
+    private int skipDepth;
+    private Event event;
+    private final Deque<Nested> nested = new ArrayDeque<>();
+
+    /**
+     * @param bodyCommands bdy를 읽을 명령어, 그 외 명령어는 cmd만 읽고 멈춘다
+     */
+    ChzzkEventDecoder(int... bodyCommands) {
+        this.bodyCommands = bodyCommands.clone();
+        // cmd, bdy, uid 등 반복되는 키는 같은 문자열 인스턴스를 재사용
+        parser.setInternKeys(true);
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new Frame();
+        }
+    }
+
+    /**
+     * 프레임 1개 디코딩
+     *
+     * @throws ParseException JSON 형식이 잘못된 경우 (문자열로 들어온 profile/extras 포함)
+     */
+    Event decode(String frame) throws ParseException {
+        Event result = new Event();
+        event = result;
+        nested.clear();
+        try {
+            run(Scope.ENVELOPE, frame);
+
+            // cmd가 bdy 앞에 오지 않아 끝까지 읽은 경우, 필요 없는 명령어면 중첩 문자열은 파싱하지 않는다
+            if (!needsBody(result.cmd)) {
+                return result;
+            }
+            Nested next;
+            while ((next = nested.pollFirst()) != null) {
+                run(next.scope(), next.json());
+            }
+            return result;
+        } finally {
+            event = null;
+            nested.clear();
+        }
+    }
+
+    private void run(Scope scope, String json) throws ParseException {
+        rootScope = scope;
+        depth = 0;
+        skipDepth = 0;
+        parser.parse(json, this);
+    }
+
+    private boolean needsBody(int cmd) {
+        for (int bodyCommand : bodyCommands) {
+            if (bodyCommand == cmd) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void startJSON() {
+    }
+
+    @Override
+    public void endJSON() {
+    }
+
+    @Override
+    public boolean startObject() {
+        enter(false);
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        leave();
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        enter(true);
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        leave();
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        if (skipDepth == 0 && depth > 0) {
+            Frame frame = frames[depth - 1];
+            frame.key = key;
+            if (frame.scope == Scope.EMOJIS) {
+                event.emojis.add(key);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        if (skipDepth > 0 || depth == 0) {
+            return true;
+        }
+
+        Frame frame = frames[depth - 1];
+        Scope parent = frame.scope;
+        String key = frame.key;
+        if (parent == Scope.BODY_LIST) {
+            frame.index++;
+            return true;
+        }
+        if (key == null) {
+            return true;
+        }
+
+        switch (parent) {
+            case ENVELOPE -> {
+                if (key.equals("cmd") && value != null) {
+                    event.cmd = Integer.parseInt(value.toString());
+                    // 필요 없는 명령어는 나머지를 읽지 않는다
+                    return needsBody(event.cmd);
+                }
+            }
+            case BODY -> {
+                switch (key) {
+                    case "uid" -> event.uid = asString(value);
+                    case "msg" -> event.msg = asString(value);
+                    case "profile" -> {
+                        if (value instanceof String json) {
+                            event.profile = true;
+                            nested.addLast(new Nested(Scope.PROFILE, json));
+                        }
+                    }
+                    case "extras" -> {
+                        if (value instanceof String json) {
+                            nested.addLast(new Nested(Scope.EXTRAS, json));
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            case PROFILE -> {
+                switch (key) {
+                    case "nickname" -> event.nickname = asString(value);
+                    case "userRoleCode" -> event.userRoleCode = asString(value);
+                    case "streamingProperty" -> {
+                        if (value instanceof String json) {
+                            nested.addLast(new Nested(Scope.STREAMING_PROPERTY, json));
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            case STREAMING_PROPERTY -> {
+                if (key.equals("nicknameColor") && value instanceof String json) {
+                    nested.addLast(new Nested(Scope.NICKNAME_COLOR, json));
+                }
+            }
+            case NICKNAME_COLOR -> {
+                if (key.equals("colorCode")) {
+                    event.colorCode = asString(value);
+                }
+            }
+            case EXTRAS -> {
+                if (key.equals("payAmount") && value != null) {
+                    event.payAmount = value.toString();
+                }
+            }
+            default -> {
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 객체/배열 시작, 관심 없는 위치면 끝날 때까지 건너뛴다
+     */
+    private void enter(boolean array) {
+        if (skipDepth > 0) {
+            skipDepth++;
+            return;
+        }
+
+        Scope scope = depth == 0 ? rootScope : childScope(frames[depth - 1]);
+        // bdy는 배열, 나머지는 객체일 때만 읽는다
+        if (scope == Scope.SKIP || array != (scope == Scope.BODY_LIST) || depth == frames.length) {
+            skipDepth = 1;
+            return;
+        }
+        if (scope == Scope.PROFILE) {
+            event.profile = true;
+        }
+
+        Frame frame = frames[depth++];
+        frame.scope = scope;
+        frame.key = null;
+        frame.index = 0;
+    }
+
+    private void leave() {
+        if (skipDepth > 0) {
+            skipDepth--;
+        } else if (depth > 0) {
+            depth--;
+        }
+
+        // 배열 원소로 들어있던 컨테이너가 끝나면 다음 원소 번호로
+        if (skipDepth == 0 && depth > 0 && frames[depth - 1].scope == Scope.BODY_LIST) {
+            frames[depth - 1].index++;
+        }
+    }
+
+    private static Scope childScope(Frame parent) {
+        String key = parent.key;
+        return switch (parent.scope) {
+            case ENVELOPE -> "bdy".equals(key) ? Scope.BODY_LIST : Scope.SKIP;
+            case BODY_LIST -> parent.index == 0 ? Scope.BODY : Scope.SKIP;
+            case BODY -> {
+                if ("profile".equals(key)) {
+                    yield Scope.PROFILE;
+                }
+                yield "extras".equals(key) ? Scope.EXTRAS : Scope.SKIP;
+            }
+            case PROFILE -> "streamingProperty".equals(key) ? Scope.STREAMING_PROPERTY : Scope.SKIP;
+            case STREAMING_PROPERTY -> "nicknameColor".equals(key) ? Scope.NICKNAME_COLOR : Scope.SKIP;
+            case EXTRAS -> "emojis".equals(key) ? Scope.EMOJIS : Scope.SKIP;
+            default -> Scope.SKIP;
+        };
+    }
+
+    private static String asString(Object value) {
+        return value instanceof String string ? string : null;
+    }
+}
@@ -3,14 +3,16 @@ package me.suda.doneconnector.chzzk;
 import lombok.Getter;
 import me.suda.doneconnector.DoneConnector;
 import me.suda.doneconnector.Logger;
-import org.bukkit.Bukkit;
+import me.suda.doneconnector.connection.ConnectionThreads;
+import me.suda.doneconnector.connection.HeartbeatWheel;
+import me.suda.doneconnector.connection.ReconnectSupervisor;
+import me.suda.doneconnector.reward.RewardTable;
+import me.suda.doneconnector.reward.RewardTemplate;
 import org.bukkit.ChatColor;
-import org.bukkit.entity.Player;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
-import org.json.simple.JSONArray;
+import org.java_websocket.util.HeartbeatScheduler;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 
 import java.net.URI;
 import java.util.*;
@@ -20,20 +22,19 @@ public class ChzzkWebSocket extends WebSocketClient {
     @Getter
     private final Map<String, String> chzzkUser;
     private static final int CONNECTION_TIMEOUT_MS = 30000;
-    private static final int COMMAND_EXECUTION_TIMEOUT = 5000;
 
     private final String chatChannelId;
     private final String accessToken;
     private final String extraToken;
     @Getter
-    private final Map<Integer, List<String>> donationRewards;
+    private final RewardTable donationRewards;
     
-    private final ScheduledExecutorService scheduler;
+    private final HeartbeatWheel heartbeat;
     private final Random random;
     private final Object connectionLock;
     
     private volatile ConnectionState connectionState;
-    private ScheduledFuture<?> pingSchedule;
+    private HeartbeatScheduler.Registration pingSchedule;
 
     private static final int CHZZK_CHAT_CMD_PING = 0;
     private static final int CHZZK_CHAT_CMD_PONG = 10000;
@@ -42,13 +43,11 @@ public class ChzzkWebSocket extends WebSocketClient {
     private static final int CHZZK_CHAT_CMD_CHAT = 93101;
     private static final int CHZZK_CHAT_CMD_DONATION = 93102;
 
-    private final JSONParser jsonParser = new JSONParser();
+    // 채팅/후원 프레임에서 필요한 필드만 한 번에 읽는 디코더 (읽기 스레드 전용)
+    private final ChzzkEventDecoder eventDecoder = new ChzzkEventDecoder(CHZZK_CHAT_CMD_CHAT, CHZZK_CHAT_CMD_DONATION);
+    private final ChzzkEmojiFormatter emojiFormatter = new ChzzkEmojiFormatter();
 
     private volatile boolean isShuttingDown = false;
-    private final Set<Future<?>> pendingTasks = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    
-    // 메모리 최적화를 위한 정리 스케줄러
-    private ScheduledFuture<?> cleanupTask;
 
     enum ConnectionState {
         CONNECTED, DISCONNECTED
@@ -57,47 +56,25 @@ public class ChzzkWebSocket extends WebSocketClient {
     @SuppressWarnings("unchecked")
     public ChzzkWebSocket(String serverUri, String chatChannelId, String accessToken, 
                          String extraToken, Map<String, String> chzzkUser,
-                         Map<Integer, List<String>> donationRewards,
-                         ScheduledExecutorService sharedScheduler) {
+                         RewardTable donationRewards,
+                         HeartbeatWheel heartbeat) {
         super(URI.create(serverUri));
         this.chzzkUser = new ConcurrentHashMap<>(chzzkUser);
-        this.donationRewards = new ConcurrentHashMap<>(donationRewards);
+        this.donationRewards = donationRewards;
         
         this.chatChannelId = chatChannelId;
         this.accessToken = accessToken;
         this.extraToken = extraToken;
         
-        this.scheduler = sharedScheduler;
+        this.heartbeat = heartbeat;
         this.random = new Random();
         this.connectionLock = new Object();
         this.connectionState = ConnectionState.DISCONNECTED;
 
         this.setConnectionLostTimeout(CONNECTION_TIMEOUT_MS / 1000);
-    }
-
-    private void attemptReconnect() {
-        synchronized (connectionLock) {
-            if (!DoneConnector.isReloading || 
-                connectionState != ConnectionState.DISCONNECTED) {
-                return;
-            }
-
-            try {
-                if (reconnectBlocking()) {
-                    connectionState = ConnectionState.CONNECTED;
-                    Logger.info(ChatColor.GREEN + "[ChzzkWebsocket][" + 
-                        chzzkUser.get("nickname") + "] 재연결 성공");
-                } else {
-                    connectionState = ConnectionState.DISCONNECTED;
-                    Logger.warn("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                        "] 재연결 실패");
-                }
-            } catch (Exception e) {
-                Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                    "] 재연결 시도 중 오류 발생: " + e.getMessage());
-                connectionState = ConnectionState.DISCONNECTED;
-            }
-        }
+        this.setThreadFactory(ConnectionThreads.websocketFactory());
+        this.setSelector(ConnectionThreads.selector());
+        this.setHeartbeatScheduler(heartbeat);
     }
 
     @Override
@@ -109,7 +86,6 @@ public class ChzzkWebSocket extends WebSocketClient {
                         "] 메시지 전송 실패: " + e.getMessage());
             synchronized (connectionLock) {
                 connectionState = ConnectionState.DISCONNECTED;
-                attemptReconnect();
             }
         }
     }
@@ -140,7 +116,6 @@ public class ChzzkWebSocket extends WebSocketClient {
                         "] 인증 메시지 전송 실패: " + e.getMessage());
             synchronized (connectionLock) {
                 connectionState = ConnectionState.DISCONNECTED;
-                attemptReconnect();
             }
         }
     }
@@ -155,7 +130,6 @@ public class ChzzkWebSocket extends WebSocketClient {
             
             sendAuthenticationMessage();
             startPingThread();
-            startCleanupTask(); // 메모리 정리 작업 시작
         }
     }
 
@@ -165,8 +139,12 @@ public class ChzzkWebSocket extends WebSocketClient {
             return;
         }
         try {
-            JSONObject messageObject = (JSONObject) jsonParser.parse(message);
-            int cmd = Integer.parseInt(messageObject.get("cmd").toString());
+            ChzzkEventDecoder.Event event = eventDecoder.decode(message);
+            if (!event.hasCmd()) {
+                Logger.debug("[ChzzkWebsocket][" + chzzkUser.get("nickname") + "] cmd가 없는 메시지: " + message);
+                return;
+            }
+            int cmd = event.getCmd();
 
             switch (cmd) {
                 case CHZZK_CHAT_CMD_PING:
@@ -179,10 +157,10 @@ public class ChzzkWebSocket extends WebSocketClient {
                     // 연결 응답 로그 제거
                     break;
                 case CHZZK_CHAT_CMD_DONATION:
-                    handleDonation(messageObject);
+                    handleDonation(event);
                     break;
                 case CHZZK_CHAT_CMD_CHAT:
-                    handleChat(messageObject);
+                    handleChat(event);
                     break;
                 default:
                     Logger.debug("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
@@ -195,34 +173,24 @@ public class ChzzkWebSocket extends WebSocketClient {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void handleDonation(JSONObject messageObject) {
+    private void handleDonation(ChzzkEventDecoder.Event event) {
         try {
-            JSONObject bdyObject = (JSONObject) ((JSONArray) messageObject.get("bdy")).get(0);
-            String uid = (String) bdyObject.get("uid");
-            String msg = (String) bdyObject.get("msg");
+            String uid = event.getUid();
+            String msg = event.getMsg();
             
             String nickname = "익명";
             if (!Objects.equals(uid, "anonymous")) {
-                String profile = (String) bdyObject.get("profile");
-                JSONObject profileObject = (JSONObject) jsonParser.parse(profile);
-                nickname = (String) profileObject.get("nickname");
+                nickname = event.getNickname();
             }
 
-            String extras = (String) bdyObject.get("extras");
-            JSONObject extraObject = (JSONObject) jsonParser.parse(extras);
-            
-            Object payAmountObj = extraObject.get("payAmount");
-            if (payAmountObj == null) {
+            String payAmountText = event.getPayAmount();
+            if (payAmountText == null) {
                 return;
             }
             
-            int payAmount = Integer.parseInt(payAmountObj.toString());
+            int payAmount = Integer.parseInt(payAmountText);
             
-            List<String> commands = donationRewards.get(payAmount);
-            if (commands == null) {
-                commands = donationRewards.get(0);
-            }
+            List<RewardTemplate> commands = donationRewards.resolve(payAmount);
             
             if (commands == null || commands.isEmpty()) {
                 return;
@@ -231,21 +199,24 @@ public class ChzzkWebSocket extends WebSocketClient {
             Logger.info(ChatColor.YELLOW + nickname + ChatColor.WHITE + "님께서 " + 
                     ChatColor.GREEN + payAmount + "원" + ChatColor.WHITE + "을 후원해주셨습니다.");
             
-            // 플레이어 데이터 저장 (실제 후원으로 구분)
-            String streamerUuid = DoneConnector.plugin.getPlayerUuid(chzzkUser.get("tag"));
-            if (streamerUuid != null) {
-                DoneConnector.plugin.savePlayerData(streamerUuid, chzzkUser.get("tag"), nickname, payAmount, msg, "치지직", false);
-            }
+            // 플레이어 데이터 저장 (실제 후원으로 구분, 조회와 저장은 후원 기록 스레드에서)
+            DoneConnector.plugin.recordDonation(chzzkUser.get("tag"), nickname, payAmount, msg, "치지직", false);
             
+            // 후원 1건의 명령어를 한 묶음으로 메인 스레드에 넘기고 기다리지 않는다
+            List<String> finalCommands = new ArrayList<>();
             if (DoneConnector.random) {
-                String command = commands.get(random.nextInt(commands.size()));
-                executeCommand(chzzkUser.get("tag"), nickname, payAmount, msg, command);
+                RewardTemplate command = commands.get(random.nextInt(commands.size()));
+                command.render(chzzkUser.get("tag"), nickname, payAmount, msg, finalCommands);
             } else {
-                for (String command : commands) {
-                    executeCommand(chzzkUser.get("tag"), nickname, payAmount, msg, command);
+                for (RewardTemplate command : commands) {
+                    command.render(chzzkUser.get("tag"), nickname, payAmount, msg, finalCommands);
                 }
             }
             
+            if (!isShuttingDown) {
+                DoneConnector.plugin.getRewardDispatcher().dispatch(chzzkUser.get("nickname"), finalCommands);
+            }
+            
         } catch (Exception e) {
             Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
                       "] 후원 처리 중 오류 발생: " + e.getMessage());
@@ -254,11 +225,12 @@ public class ChzzkWebSocket extends WebSocketClient {
     }
 
     private void startPingThread() {
-        if (pingSchedule != null && !pingSchedule.isDone()) {
-            pingSchedule.cancel(false);
+        if (pingSchedule != null) {
+            pingSchedule.cancel();
         }
 
-        pingSchedule = scheduler.scheduleAtFixedRate(() -> {
+        // 모든 연결이 공유하는 하트비트 휠에 등록
+        pingSchedule = heartbeat.schedulePeriodic(() -> {
             if (isOpen() && connectionState == ConnectionState.CONNECTED && !isShuttingDown) {
                 try {
                     JSONObject pongObject = new JSONObject();
@@ -273,78 +245,6 @@ public class ChzzkWebSocket extends WebSocketClient {
         }, 10, 20, TimeUnit.SECONDS);
     }
     
-    /**
-     * 메모리 정리 작업 시작 (성능 최적화)
-     */
-    private void startCleanupTask() {
-        if (cleanupTask != null && !cleanupTask.isDone()) {
-            cleanupTask.cancel(false);
-        }
-        
-        cleanupTask = scheduler.scheduleAtFixedRate(() -> {
-            if (!isShuttingDown) {
-                try {
-                    // 완료된 작업들 정리
-                    pendingTasks.removeIf(Future::isDone);
-                    
-                    // 너무 많은 대기 작업이 있으면 경고
-                    if (pendingTasks.size() > 50) {
-                        Logger.warn("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                                "] 대기 중인 작업이 많습니다: " + pendingTasks.size());
-                    }
-                } catch (Exception e) {
-                    Logger.debug("[ChzzkWebsocket] 정리 작업 중 오류: " + e.getMessage());
-                }
-            }
-        }, 30, 30, TimeUnit.SECONDS); // 30초마다 정리
-    }
-
-    private void executeCommand(String tag, String nickname, int payAmount, 
-                              String msg, String command) {
-        if (isShuttingDown) {
-            return;
-        }
-
-        String[] commandArray = command.split(";");
-        for (String cmd : commandArray) {
-            if (isShuttingDown) break;
-
-            String finalCommand = cmd
-                .replace("%tag%", tag)
-                .replace("%name%", nickname)
-                .replace("%amount%", String.valueOf(payAmount))
-                .replace("%message%", msg);
-
-            try {
-                Future<?> task = Bukkit.getScheduler()
-                    .callSyncMethod(DoneConnector.plugin, () -> {
-                        if (!isShuttingDown) {
-                            return Bukkit.dispatchCommand(
-                                Bukkit.getConsoleSender(), 
-                                finalCommand
-                            );
-                        }
-                        return false;
-                    });
-                
-                pendingTasks.add(task);
-                
-                try {
-                    task.get(COMMAND_EXECUTION_TIMEOUT, TimeUnit.MILLISECONDS);
-                } finally {
-                    pendingTasks.remove(task);
-                }
-                
-            } catch (TimeoutException e) {
-                Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                           "] 명령어 실행 시간 초과: " + finalCommand);
-            } catch (Exception e) {
-                Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                           "] 명령어 실행 중 오류 발생: " + e.getMessage());
-            }
-        }
-    }
-
     private void handlePing() {
         JSONObject pongObject = new JSONObject();
         pongObject.put("cmd", CHZZK_CHAT_CMD_PONG);
@@ -358,6 +258,17 @@ public class ChzzkWebSocket extends WebSocketClient {
             Logger.info(String.format(ChatColor.RED + "[ChzzkWebsocket][%s] 웹소켓 연결이 종료되었습니다. (코드: %d, 사유: %s)",
                     chzzkUser.get("nickname"), code, reason));
             connectionState = ConnectionState.DISCONNECTED;
+
+            if (pingSchedule != null) {
+                pingSchedule.cancel();
+                pingSchedule = null;
+            }
+        }
+
+        // 의도하지 않은 종료면 재연결 관리자가 토큰을 새로 받아 다시 연결
+        if (!isShuttingDown) {
+            DoneConnector.plugin.getReconnectSupervisor()
+                    .connectionLost(ReconnectSupervisor.key("치지직", chzzkUser.get("nickname")), this);
         }
     }
 
@@ -366,13 +277,9 @@ public class ChzzkWebSocket extends WebSocketClient {
         Logger.error(String.format("[ChzzkWebsocket][%s] 웹소켓 오류 발생: %s",
                     chzzkUser.get("nickname"), ex.getMessage()));
 
+        // 연결 오류 뒤에는 onClose가 호출되므로 재연결은 onClose에서 처리
         synchronized (connectionLock) {
-            if (connectionState == ConnectionState.CONNECTED) {
-                connectionState = ConnectionState.DISCONNECTED;
-            } else {
-                connectionState = ConnectionState.DISCONNECTED;
-                attemptReconnect();
-            }
+            connectionState = ConnectionState.DISCONNECTED;
         }
     }
 
@@ -384,57 +291,48 @@ public class ChzzkWebSocket extends WebSocketClient {
             isShuttingDown = true;
 
             if (pingSchedule != null) {
-                pingSchedule.cancel(false);
+                pingSchedule.cancel();
                 pingSchedule = null;
             }
-            
-            if (cleanupTask != null) {
-                cleanupTask.cancel(false);
-                cleanupTask = null;
-            }
+        }
 
-            try {
-                pendingTasks.forEach(task -> task.cancel(true));
-                pendingTasks.clear();
-                
-                this.close(1000, "Shutdown requested");
-                CountDownLatch closeLatch = new CountDownLatch(1);
-                
-                Thread closeThread = new Thread(() -> {
-                    try {
-                        if (this.isOpen()) {
-                            this.closeBlocking();
-                        }
-                    } catch (Exception e) {
-                        Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                                "] 종료 중 오류: " + e.getMessage());
-                    } finally {
-                        closeLatch.countDown();
+        // onClose가 같은 잠금을 쓰므로 잠금을 놓고 종료를 기다린다 (셀렉터 스레드가 onClose에서 멈추지 않도록)
+        try {
+            this.close(1000, "Shutdown requested");
+            CountDownLatch closeLatch = new CountDownLatch(1);
+            
+            ConnectionThreads.start("ChzzkWebSocket-Close", () -> {
+                try {
+                    if (this.isOpen()) {
+                        this.closeBlocking();
                     }
-                });
-                closeThread.setDaemon(true);
-                closeThread.start();
-                
-                if (!closeLatch.await(5, TimeUnit.SECONDS)) {
-                    Logger.warn("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                            "] 웹소켓 종료 타임아웃");
+                } catch (Exception e) {
+                    Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
+                            "] 종료 중 오류: " + e.getMessage());
+                } finally {
+                    closeLatch.countDown();
                 }
-                
-            } catch (Exception e) {
-                Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
-                        "] 종료 중 오류: " + e.getMessage());
-            } finally {
+            });
+            
+            if (!closeLatch.await(5, TimeUnit.SECONDS)) {
+                Logger.warn("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
+                        "] 웹소켓 종료 타임아웃");
+            }
+            
+        } catch (Exception e) {
+            Logger.error("[ChzzkWebsocket][" + chzzkUser.get("nickname") + 
+                    "] 종료 중 오류: " + e.getMessage());
+        } finally {
+            synchronized (connectionLock) {
                 connectionState = ConnectionState.DISCONNECTED;
             }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void handleChat(JSONObject messageObject) {
+    private void handleChat(ChzzkEventDecoder.Event event) {
         try {
-            JSONObject bdyObject = (JSONObject) ((JSONArray) messageObject.get("bdy")).get(0);
-            String uid = (String) bdyObject.get("uid");
-            String message = (String) bdyObject.get("msg");
+            String uid = event.getUid();
+            String message = event.getMsg();
             
             if (message == null || message.trim().isEmpty()) {
                 return;
@@ -445,23 +343,14 @@ public class ChzzkWebSocket extends WebSocketClient {
             String nickColorCode = "#FFFFFF";
             
             if (!Objects.equals(uid, "anonymous")) {
-                Object profileObj = bdyObject.get("profile");
-                JSONObject profileObject;
-                
-                if (profileObj instanceof String) {
-                    profileObject = (JSONObject) jsonParser.parse((String) profileObj);
-                } else if (profileObj instanceof JSONObject) {
-                    profileObject = (JSONObject) profileObj;
-                } else {
-                    Logger.error("[ChzzkWebsocket] 알 수 없는 프로필 형식: " + profileObj);
+                if (!event.isProfile()) {
+                    Logger.error("[ChzzkWebsocket] 알 수 없는 프로필 형식: null");
                     return;
                 }
                 
-                senderNickname = (String) profileObject.get("nickname");
-                
-                String userRoleCode = (String) profileObject.get("userRoleCode");
-                Object streamingPropertyObj = profileObject.get("streamingProperty");
+                senderNickname = event.getNickname();
                 
+                String userRoleCode = event.getUserRoleCode();
                 if (userRoleCode != null) {
                     userRole = switch (userRoleCode) {
                         case "streaming_chat_manager" -> "매니저";
@@ -470,47 +359,12 @@ public class ChzzkWebSocket extends WebSocketClient {
                     };
                 }
                 
-                if (streamingPropertyObj != null) {
-                    JSONObject streamingProperty;
-                    if (streamingPropertyObj instanceof String) {
-                        streamingProperty = (JSONObject) jsonParser.parse((String) streamingPropertyObj);
-                    } else {
-                        streamingProperty = (JSONObject) streamingPropertyObj;
-                    }
-                    
-                    Object nicknameColor = streamingProperty.get("nicknameColor");
-                    if (nicknameColor != null) {
-                        if (nicknameColor instanceof String) {
-                            JSONObject nicknameColorJson = (JSONObject) jsonParser.parse((String) nicknameColor);
-                            nickColorCode = "#" + (String) nicknameColorJson.get("colorCode");
-                        } else if (nicknameColor instanceof JSONObject) {
-                            nickColorCode = "#" + (String) ((JSONObject) nicknameColor).get("colorCode");
-                        }
-                    }
+                if (event.getColorCode() != null) {
+                    nickColorCode = "#" + event.getColorCode();
                 }
             }
 
-            Object extrasObj = bdyObject.get("extras");
-            String displayMessage = message;
-            
-            if (extrasObj != null) {
-                JSONObject extraObject;
-                if (extrasObj instanceof String) {
-                    extraObject = (JSONObject) jsonParser.parse((String) extrasObj);
-                } else {
-                    extraObject = (JSONObject) extrasObj;
-                }
-                
-                Object emojisObj = extraObject.get("emojis");
-                if (emojisObj instanceof JSONObject) {
-                    JSONObject emojis = (JSONObject) emojisObj;
-                    for (Object key : emojis.keySet()) {
-                        String emojiKey = (String) key;
-                        String emojiPattern = "\\{:" + emojiKey + ":\\}+";
-                        displayMessage = displayMessage.replaceAll(emojiPattern, ":" + emojiKey + ":");
-                    }
-                }
-            }
+            String displayMessage = emojiFormatter.format(message, event.getEmojis());
 
             ChatColor nickColor = getChatColorFromHex(nickColorCode);
             
@@ -528,32 +382,19 @@ public class ChzzkWebSocket extends WebSocketClient {
                                 (userRole.equals("일반") ? "" : " (" + userRole + ")") + 
                                 ": " + displayMessage;
 
-                boolean messageDelivered = false;
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    String playerName = player.getName();
-                    
-                    if (playerName.equalsIgnoreCase(markNickname)) {
-                        player.sendMessage(gameMessage);
-                        Logger.debug("[ChzzkWebsocket] 채팅 전송 성공 -> " + markNickname);
-                        messageDelivered = true;
-                        break;
-                    }
-                }
-
-                if (!messageDelivered) {
+                // 접속 중인 플레이어 색인으로 찾고, 전달은 메인 스레드에서 모아서 처리
+                if (DoneConnector.plugin.getPlayerRouter().send(markNickname, gameMessage)) {
+                    Logger.debug("[ChzzkWebsocket] 채팅 전송 요청 -> " + markNickname);
+                } else {
                     Logger.debug("[ChzzkWebsocket] 대상 플레이어가 오프라인 상태: " + markNickname);
                 }
 
                 String discordMessage = "[치지직 | " + streamerNickname + 
                                     (userRole.equals("일반") ? "" : " | " + userRole) + "] " +
                                     senderNickname + ": " + displayMessage;
-                
-                Bukkit.getScheduler().runTask(DoneConnector.plugin, () -> 
-                    Bukkit.dispatchCommand(
-                        Bukkit.getConsoleSender(),
-                        "discord broadcast " + discordMessage
-                    )
-                );
+
+                // 스트리머별로 모아서 메인 스레드에서 한 번에 전송
+                DoneConnector.plugin.getDiscordRelay().relay(streamerNickname, discordMessage);
             } else {
                 Logger.error("[ChzzkWebsocket] 마크닉네임 설정을 찾을 수 없음");
                 Logger.error(" - 채널 식별자: " + channelId);
@@ -0,0 +1,204 @@
+package me.suda.doneconnector.connection;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 채널을 동시에 연결하는 연결 관리자
+ *
+ * 동시 연결 수를 제한하고, 같은 호스트에는 정해진 간격 이상을 두고 요청하며,
+ * 실패한 연결은 지터를 더한 지수 간격으로 재시도한다. 대기는 모두 공유 스케줄러 예약으로 처리한다.
+ */
+public class ConnectionOrchestrator {
+
+    private static final long RETRY_BASE_DELAY_MS = 1000;
+    private static final long RETRY_JITTER_MS = 500;
+
+    /**
+     * 채널 1개 연결 작업
+     *
+     * @param host    요청 간격을 제한할 호스트
+     * @param connect 연결 성공 시 true를 반환하는 연결 동작 (블로킹 가능)
+     */
+    public record ConnectionTask(String platform, String name, String host, BooleanSupplier connect) {}
+
+    public record ConnectionReport(int total, int succeeded, List<String> failed, long elapsedMs) {}
+
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, Long> nextHostSlot = new ConcurrentHashMap<>();
+
+    private volatile int maxRetries;
+    private volatile long hostIntervalMs;
+
+    public ConnectionOrchestrator(ScheduledExecutorService scheduler, int parallelism, int maxRetries, long hostIntervalMs) {
+        this.scheduler = scheduler;
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workers = new ThreadPoolExecutor(parallelism, parallelism, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    // 가상 스레드 설정을 따르며, 설정이 바뀌면 새로 만드는 작업 스레드부터 적용
+                    Thread thread = ConnectionThreads.newThread(r);
+                    thread.setName("Done-Connect-" + threadNumber.getAndIncrement());
+                    return thread;
+                });
+        this.workers.allowCoreThreadTimeOut(true);
+
+        configure(parallelism, maxRetries, hostIntervalMs);
+    }
+
+    /**
+     * 설정 변경 (리로드 시 호출)
+     */
+    public void configure(int parallelism, int maxRetries, long hostIntervalMs) {
+        int size = Math.max(1, parallelism);
+        if (size > workers.getMaximumPoolSize()) {
+            workers.setMaximumPoolSize(size);
+            workers.setCorePoolSize(size);
+        } else {
+            workers.setCorePoolSize(size);
+            workers.setMaximumPoolSize(size);
+        }
+        this.maxRetries = Math.max(0, maxRetries);
+        this.hostIntervalMs = Math.max(0, hostIntervalMs);
+    }
+
+    /**
+     * 작업들을 동시에 연결하고 모두 끝나면 결과를 완료하는 future 반환
+     *
+     * @param label        진행 로그에 표시할 이름
+     * @param initialDelay 첫 연결 시도 전 대기 시간 (ms)
+     */
+    public CompletableFuture<ConnectionReport> connectAll(String label, List<ConnectionTask> tasks, long initialDelay) {
+        Run run = new Run(label, tasks.size());
+        if (tasks.isEmpty()) {
+            run.future.complete(new ConnectionReport(0, 0, List.of(), 0));
+            return run.future;
+        }
+
+        Logger.info("[연결] " + label + " " + tasks.size() + "개 채널 연결 시작 (동시 " + workers.getMaximumPoolSize() + "개)");
+        for (ConnectionTask task : tasks) {
+            schedule(run, task, 0, initialDelay);
+        }
+        return run.future;
+    }
+
+    /**
+     * 연결 작업 스레드 (재연결 관리자와 공유)
+     */
+    public Executor getExecutor() {
+        return workers;
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void schedule(Run run, ConnectionTask task, int attempt, long minDelayMs) {
+        long delay = reserveHostSlot(task.host(), minDelayMs);
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    workers.execute(() -> attempt(run, task, attempt));
+                } catch (RejectedExecutionException e) {
+                    run.complete(task, false);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            run.complete(task, false);
+        }
+    }
+
+    private void attempt(Run run, ConnectionTask task, int attempt) {
+        boolean connected;
+        try {
+            connected = task.connect().getAsBoolean();
+        } catch (Exception e) {
+            Logger.debug("[연결] " + task.platform() + " " + task.name() + " 연결 중 예외: " + e.getMessage());
+            connected = false;
+        }
+
+        if (connected || attempt >= maxRetries) {
+            run.complete(task, connected);
+            return;
+        }
+
+        long backoff = RETRY_BASE_DELAY_MS * (1L << attempt) + ThreadLocalRandom.current().nextLong(RETRY_JITTER_MS + 1);
+        Logger.warn("[연결] " + task.platform() + " " + task.name() + " 연결 실패, "
+                + backoff + "ms 후 재시도 (" + (attempt + 1) + "/" + maxRetries + ")");
+        schedule(run, task, attempt + 1, backoff);
+    }
+
+    /**
+     * 호스트별 다음 요청 가능 시각을 예약하고 지금부터의 대기 시간 반환
+     */
+    private long reserveHostSlot(String host, long minDelayMs) {
+        long earliest = System.currentTimeMillis() + minDelayMs;
+        long interval = hostIntervalMs;
+        long[] slot = new long[1];
+        nextHostSlot.compute(host, (key, next) -> {
+            slot[0] = next == null ? earliest : Math.max(earliest, next);
+            return slot[0] + interval;
+        });
+        return Math.max(0, slot[0] - System.currentTimeMillis());
+    }
+
+    private static final class Run {
+        private final String label;
+        private final int total;
+        private final int progressStep;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final Queue<String> failed = new ConcurrentLinkedQueue<>();
+        private final CompletableFuture<ConnectionReport> future = new CompletableFuture<>();
+
+        private Run(String label, int total) {
+            this.label = label;
+            this.total = total;
+            this.progressStep = Math.max(1, total / 4);
+        }
+
+        private void complete(ConnectionTask task, boolean connected) {
+            if (connected) {
+                succeeded.incrementAndGet();
+            } else {
+                failed.add(task.platform() + ":" + task.name());
+            }
+
+            int count = done.incrementAndGet();
+            if (count < total) {
+                if (count % progressStep == 0) {
+                    Logger.info("[연결] " + label + " 진행 중: " + count + "/" + total + " (성공 " + succeeded.get() + ")");
+                }
+                return;
+            }
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            ConnectionReport report = new ConnectionReport(total, succeeded.get(), new ArrayList<>(failed), elapsedMs);
+            if (report.failed().isEmpty()) {
+                Logger.info(ChatColor.GREEN + "[연결] " + label + " 완료: " + report.succeeded() + "/" + total + " (" + elapsedMs + "ms)");
+            } else {
+                Logger.warn("[연결] " + label + " 완료: " + report.succeeded() + "/" + total + " 성공 (" + elapsedMs + "ms), 실패: " + report.failed());
+            }
+            future.complete(report);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package me.suda.doneconnector.connection;
+
+import me.suda.doneconnector.Logger;
+import org.java_websocket.client.WebSocketSelector;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채널 연결용 스레드 생성 방식
+ *
+ * 기본은 기존처럼 일반(플랫폼) 데몬 스레드를 만들고, {@code 연결.가상_스레드}를 켜면
+ * 웹소켓 읽기/쓰기 스레드와 연결 작업 스레드를 가상 스레드로 만든다.
+ *
+ * {@code 연결.셀렉터_스레드}가 1 이상이면 웹소켓은 연결마다 스레드를 만들지 않고
+ * 공유 셀렉터 스레드가 모든 연결의 읽기/쓰기를 처리한다. (프록시 등 셀렉터를 쓸 수 없는 연결은 스레드 사용)
+ * 리스너 콜백도 셀렉터 스레드에서 실행되므로 콜백에서 오래 기다리는 작업(저장, 플레이어 조회 등)은 다른 스레드로 넘긴다.
+ * 기본값은 1이고, 0이면 연결마다 스레드를 쓴다.
+ */
+public final class ConnectionThreads {
+
+    private static final ThreadFactory virtualFactory = Thread.ofVirtual().name("Done-Virtual-", 1).factory();
+    private static volatile boolean virtual;
+
+    private static volatile WebSocketSelector selector;
+    // 설정 변경 전 셀렉터 (남아 있는 연결이 모두 닫히면 {@link #closeIdleRetiredSelectors()}에서 종료)
+    private static final List<WebSocketSelector> retiredSelectors = new ArrayList<>();
+
+    private static final AtomicInteger active = new AtomicInteger();
+    private static final AtomicLong created = new AtomicLong();
+
+    private ConnectionThreads() {
+    }
+
+    /**
+     * 가상 스레드 사용 여부 설정 (설정 로드 시 호출, 이후 새로 만드는 연결부터 적용)
+     */
+    public static void configure(boolean useVirtualThreads) {
+        virtual = useVirtualThreads;
+    }
+
+    public static boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 공유 셀렉터 스레드 수 설정 (설정 로드 시 호출, 이후 새로 만드는 연결부터 적용)
+     *
+     * @param threads 0이면 연결마다 읽기/쓰기 스레드 사용
+     */
+    public static synchronized void configureSelector(int threads) {
+        int wanted = Math.max(0, threads);
+        WebSocketSelector current = selector;
+        if (wanted == (current != null ? current.getThreadCount() : 0)) {
+            return;
+        }
+
+        if (current != null) {
+            retiredSelectors.add(current);
+        }
+        selector = null;
+        if (wanted > 0) {
+            try {
+                selector = new WebSocketSelector(wanted);
+                Logger.info("채널 웹소켓을 공유 셀렉터 스레드 " + wanted + "개로 처리합니다.");
+            } catch (IOException e) {
+                Logger.warn("공유 셀렉터를 열지 못해 연결마다 스레드를 사용합니다: " + e.getMessage());
+            }
+        }
+        closeIdleRetiredSelectors();
+    }
+
+    /**
+     * 연결이 모두 닫힌 이전 셀렉터 종료 (설정 변경 시, 이후 주기적으로 호출)
+     * 셀렉터 스레드가 끝나기를 기다리지 않도록 종료는 별도 스레드에서 한다.
+     */
+    public static synchronized void closeIdleRetiredSelectors() {
+        Iterator<WebSocketSelector> iterator = retiredSelectors.iterator();
+        while (iterator.hasNext()) {
+            WebSocketSelector retired = iterator.next();
+            if (retired.getConnectionCount() == 0) {
+                iterator.remove();
+                start("Done-Selector-Close", retired::close);
+            }
+        }
+    }
+
+    /**
+     * 웹소켓 연결에 사용할 공유 셀렉터, 연결마다 스레드를 쓰는 경우 null
+     */
+    public static WebSocketSelector selector() {
+        return selector;
+    }
+
+    /**
+     * 공유 셀렉터 종료 (플러그인 종료 시 연결을 모두 닫은 뒤 호출)
+     */
+    public static synchronized void shutdown() {
+        if (selector != null) {
+            retiredSelectors.add(selector);
+            selector = null;
+        }
+        for (WebSocketSelector retired : retiredSelectors) {
+            retired.close();
+        }
+        retiredSelectors.clear();
+    }
+
+    /**
+     * 웹소켓 내부 스레드용 팩토리, 일반 스레드 모드면 null (라이브러리 기본 동작)
+     */
+    public static ThreadFactory websocketFactory() {
+        return virtual ? ConnectionThreads::newThread : null;
+    }
+
+    /**
+     * 현재 모드로 스레드 생성 (일반 스레드는 데몬)
+     */
+    public static Thread newThread(Runnable task) {
+        Runnable counted = () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+        created.incrementAndGet();
+
+        if (virtual) {
+            return virtualFactory.newThread(counted);
+        }
+        Thread thread = new Thread(counted);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 이름을 붙여 바로 시작
+     */
+    public static Thread start(String name, Runnable task) {
+        Thread thread = newThread(task);
+        thread.setName(name);
+        thread.start();
+        return thread;
+    }
+
+    public static Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("virtualThreads", virtual);
+        metrics.put("activeThreads", active.get());
+        metrics.put("createdThreads", created.get());
+        WebSocketSelector current = selector;
+        metrics.put("selectorThreads", current != null ? current.getThreadCount() : 0);
+        metrics.put("selectorConnections", current != null ? current.getConnectionCount() : 0);
+        synchronized (ConnectionThreads.class) {
+            metrics.put("retiredSelectors", retiredSelectors.size());
+        }
+        // JVM 전체 플랫폼 스레드 수 (가상 스레드는 포함되지 않음)
+        metrics.put("jvmPlatformThreads", ManagementFactory.getThreadMXBean().getThreadCount());
+        return metrics;
+    }
+}
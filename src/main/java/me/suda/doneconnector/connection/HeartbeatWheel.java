@@ -0,0 +1,261 @@
+package me.suda.doneconnector.connection;
+
+import me.suda.doneconnector.Logger;
+import org.java_websocket.util.HeartbeatScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 모든 연결이 함께 쓰는 하트비트 타이머 (해시 타이밍 휠)
+ *
+ * 웹소켓 연결 끊김 확인, 치지직/숲 핑, 숲 후원 메시지 대기 시간 초과를 연결마다 따로 예약하지 않고 스레드 1개가 일정 간격으로 돌며 처리한다.
+ * 작업은 만료 틱 기준으로 버킷에 나눠 담기 때문에 틱마다 해당 버킷만 확인하면 되고, 등록/취소는 O(1)이다.
+ * 작업은 휠 스레드에서 바로 실행되므로 오래 걸리는 작업을 등록하면 안 된다.
+ */
+public class HeartbeatWheel implements HeartbeatScheduler {
+
+    private static final long DEFAULT_TICK_MS = 100;
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<ArrayDeque<Entry>> buckets;
+    private final Queue<Entry> incoming = new ConcurrentLinkedQueue<>();
+
+    private Thread worker;
+    private volatile boolean running;
+    private boolean stopped;
+
+    // 지표
+    private final AtomicInteger registered = new AtomicInteger();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile long ticks = 0;
+    private volatile int lastTickTasks = 0;
+    private volatile long lastTickLagNanos = 0;
+    private volatile long maxTickLagNanos = 0;
+
+    /**
+     * 등록된 작업 1개 (periodTicks가 0이면 한 번만 실행)
+     */
+    private final class Entry implements Registration {
+        private final Runnable task;
+        private final long periodTicks;
+        private final long initialTicks;
+        private long deadlineTick; // 휠 스레드에서만 접근
+        private volatile boolean cancelled;
+
+        private Entry(Runnable task, long initialTicks, long periodTicks) {
+            this.task = task;
+            this.initialTicks = initialTicks;
+            this.periodTicks = periodTicks;
+        }
+
+        @Override
+        public synchronized void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                registered.updateAndGet(count -> Math.max(0, count - 1));
+            }
+        }
+    }
+
+    public HeartbeatWheel() {
+        this(DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param tickMs    틱 간격 (작업 실행 시각의 정밀도)
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     */
+    public HeartbeatWheel(long tickMs, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    @Override
+    public Registration schedulePeriodic(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        Entry entry = new Entry(task, toTicks(unit.toNanos(initialDelay)), Math.max(1, toTicks(unit.toNanos(period))));
+        registered.incrementAndGet();
+        incoming.add(entry);
+        ensureStarted();
+        return entry;
+    }
+
+    /**
+     * 한 번만 실행할 작업 등록 (시간 초과 처리 등), 실행 전에 취소할 수 있다.
+     */
+    public Registration scheduleOnce(Runnable task, long delay, TimeUnit unit) {
+        Entry entry = new Entry(task, toTicks(unit.toNanos(delay)), 0);
+        registered.incrementAndGet();
+        incoming.add(entry);
+        ensureStarted();
+        return entry;
+    }
+
+    /**
+     * 휠 스레드 종료, 등록된 작업은 모두 버리며 이후 등록된 작업은 실행되지 않는다.
+     */
+    public synchronized void shutdown() {
+        stopped = true;
+        running = false;
+        registered.set(0);
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("registered", registered.get());
+        metrics.put("ticks", ticks);
+        metrics.put("tickMs", nanosToMillis(tickNanos));
+        metrics.put("lastTickTasks", lastTickTasks);
+        metrics.put("lastTickLagMs", nanosToMillis(lastTickLagNanos));
+        metrics.put("maxTickLagMs", nanosToMillis(maxTickLagNanos));
+        metrics.put("executed", executed.get());
+        metrics.put("failed", failed.get());
+        return metrics;
+    }
+
+    private synchronized void ensureStarted() {
+        if (running || stopped) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "Done-Heartbeat");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        long startNanos = System.nanoTime();
+        long tick = 0;
+
+        while (running) {
+            // 틱 시각은 시작 시각 기준으로 계산해 지연이 누적되지 않게 한다
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long wait;
+            while ((wait = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, wait);
+                if (!running) {
+                    clear();
+                    return;
+                }
+            }
+
+            long lag = System.nanoTime() - deadline;
+            lastTickLagNanos = lag;
+            if (lag > maxTickLagNanos) {
+                maxTickLagNanos = lag;
+            }
+
+            transferIncoming(tick);
+            lastTickTasks = expire(tick);
+            ticks = ++tick;
+        }
+        clear();
+    }
+
+    private void transferIncoming(long tick) {
+        Entry entry;
+        while ((entry = incoming.poll()) != null) {
+            if (!entry.cancelled) {
+                entry.deadlineTick = tick + entry.initialTicks;
+                buckets.get((int) (entry.deadlineTick & mask)).add(entry);
+            }
+        }
+    }
+
+    /**
+     * 현재 틱 버킷에서 만료된 작업 실행 후 다음 주기로 재배치
+     *
+     * @return 실행한 작업 수
+     */
+    private int expire(long tick) {
+        ArrayDeque<Entry> bucket = buckets.get((int) (tick & mask));
+        if (bucket.isEmpty()) {
+            return 0;
+        }
+
+        List<Entry> rescheduled = null;
+        int count = 0;
+        Iterator<Entry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+                continue;
+            }
+            if (entry.deadlineTick > tick) {
+                // 다음 바퀴에 만료
+                continue;
+            }
+
+            count++;
+            try {
+                entry.task.run();
+                executed.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                Logger.debug("[Heartbeat] 주기 작업 실행 중 오류: " + e.getMessage());
+            }
+
+            if (entry.periodTicks == 0) {
+                iterator.remove();
+                entry.cancel();
+                continue;
+            }
+
+            entry.deadlineTick = tick + entry.periodTicks;
+            if ((entry.deadlineTick & mask) != (tick & mask)) {
+                iterator.remove();
+                if (rescheduled == null) {
+                    rescheduled = new ArrayList<>();
+                }
+                rescheduled.add(entry);
+            }
+        }
+
+        if (rescheduled != null) {
+            for (Entry entry : rescheduled) {
+                if (!entry.cancelled) {
+                    buckets.get((int) (entry.deadlineTick & mask)).add(entry);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void clear() {
+        incoming.clear();
+        for (ArrayDeque<Entry> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    private long toTicks(long nanos) {
+        return Math.max(0, (nanos + tickNanos - 1) / tickNanos);
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,292 @@
+package me.suda.doneconnector.connection;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.ChatColor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 끊어진 치지직/숲 연결 자동 재연결 관리자
+ *
+ * 연결에 성공한 채널을 등록해 두고, 의도하지 않게 끊어지면 지터를 더한 지수 간격으로 다시 연결한다.
+ * 재연결은 채널 정보와 토큰을 새로 조회하는 연결 동작을 그대로 사용하고,
+ * 연속으로 실패한 채널은 채널별 회로 차단기로 일정 시간 시도를 멈춘다.
+ * 연결 직후 {@link #STABLE_MS} 안에 다시 끊어지는 채널도 실패로 세며, 실패 횟수는 재연결로 새로 등록해도 이어진다.
+ * 대기는 모두 공유 스케줄러 예약으로 처리하며 연결 자체는 연결 관리자 작업 스레드에서 실행한다.
+ */
+public class ReconnectSupervisor {
+
+    private static final long BASE_DELAY_MS = 2000;
+    private static final long MAX_DELAY_MS = 60_000;
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_DURATION_MS = TimeUnit.MINUTES.toMillis(5);
+    // 이 시간 이상 유지된 연결이 끊어진 경우에만 실패 횟수를 초기화
+    private static final long STABLE_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ScheduledExecutorService scheduler;
+    private final Executor workers;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong lost = new AtomicLong();
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+    private final AtomicLong circuitTrips = new AtomicLong();
+
+    /**
+     * 감시 중인 채널 1개
+     */
+    private static final class Channel {
+        private final String key;
+        private final Object connection;
+        private final Runnable discard;
+        private final BooleanSupplier reconnect;
+        private final long watchedAt = System.currentTimeMillis();
+
+        // this로 동기화
+        private boolean reconnecting;
+        private boolean released;   // 의도적으로 종료됨
+        private boolean superseded; // 새 연결로 대체됨
+        private int failures;
+        private long openUntil;
+        private ScheduledFuture<?> pending;
+
+        private Channel(String key, Object connection, Runnable discard, BooleanSupplier reconnect) {
+            this.key = key;
+            this.connection = connection;
+            this.discard = discard;
+            this.reconnect = reconnect;
+        }
+    }
+
+    public ReconnectSupervisor(ScheduledExecutorService scheduler, Executor workers) {
+        this.scheduler = scheduler;
+        this.workers = workers;
+    }
+
+    /**
+     * 채널 식별 키
+     */
+    public static String key(String platform, String name) {
+        return platform + ":" + name;
+    }
+
+    /**
+     * 연결에 성공한 채널 등록, 같은 채널의 이전 등록과 예약된 재연결은 대체된다.
+     * 이전 등록의 실패 횟수와 회로 차단 상태는 이어받는다.
+     *
+     * @param connection 현재 연결 객체 (이 객체가 끊어졌을 때만 재연결)
+     * @param discard    끊어진 연결을 정리하는 동작 (목록에서 제거 등)
+     * @param reconnect  채널 정보와 토큰을 새로 받아 연결하고 성공 시 다시 watch를 호출하는 동작
+     */
+    public void watch(String key, Object connection, Runnable discard, BooleanSupplier reconnect) {
+        Channel channel = new Channel(key, connection, discard, reconnect);
+        synchronized (channel) {
+            Channel previous = channels.put(key, channel);
+            if (previous != null) {
+                synchronized (previous) {
+                    previous.superseded = true;
+                    cancelPending(previous);
+                    channel.failures = previous.failures;
+                    channel.openUntil = previous.openUntil;
+                }
+            }
+        }
+    }
+
+    /**
+     * 의도적으로 종료하는 채널 등록 해제 (연결을 닫기 전에 호출)
+     */
+    public void release(String key) {
+        Channel channel = channels.remove(key);
+        if (channel != null) {
+            synchronized (channel) {
+                channel.released = true;
+                cancelPending(channel);
+            }
+        }
+    }
+
+    public void releaseAll() {
+        for (String key : channels.keySet()) {
+            release(key);
+        }
+    }
+
+    /**
+     * 연결이 끊어졌을 때 호출, 등록된 현재 연결이면 재연결을 예약한다.
+     */
+    public void connectionLost(String key, Object connection) {
+        Channel channel = channels.get(key);
+        if (channel == null || channel.connection != connection) {
+            return;
+        }
+
+        int failures;
+        synchronized (channel) {
+            if (channel.reconnecting || channel.released || channel.superseded) {
+                return;
+            }
+            channel.reconnecting = true;
+            // 연결되자마자 끊어진 경우(서버가 받아들였다가 바로 닫는 채널)는 연결 실패로 센다
+            if (System.currentTimeMillis() - channel.watchedAt < STABLE_MS) {
+                failures = ++channel.failures;
+            } else {
+                failures = channel.failures = 0;
+            }
+        }
+        lost.incrementAndGet();
+
+        try {
+            channel.discard.run();
+        } catch (Exception e) {
+            Logger.debug("[재연결] " + key + " 이전 연결 정리 중 오류: " + e.getMessage());
+        }
+
+        if (failures >= FAILURE_THRESHOLD) {
+            openCircuit(channel, failures);
+            return;
+        }
+        long delay = backoff(failures);
+        Logger.warn("[재연결] " + key + " 연결이 끊어졌습니다. " + delay + "ms 후 다시 연결합니다.");
+        schedule(channel, delay);
+    }
+
+    public Map<String, Object> getMetrics() {
+        int reconnecting = 0;
+        int openCircuits = 0;
+        long now = System.currentTimeMillis();
+        for (Channel channel : channels.values()) {
+            synchronized (channel) {
+                if (channel.reconnecting) {
+                    reconnecting++;
+                }
+                if (channel.openUntil > now) {
+                    openCircuits++;
+                }
+            }
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("watched", channels.size());
+        metrics.put("reconnecting", reconnecting);
+        metrics.put("openCircuits", openCircuits);
+        metrics.put("lost", lost.get());
+        metrics.put("attempts", attempts.get());
+        metrics.put("recovered", recovered.get());
+        metrics.put("failedAttempts", failedAttempts.get());
+        metrics.put("circuitTrips", circuitTrips.get());
+        return metrics;
+    }
+
+    private void schedule(Channel channel, long delayMs) {
+        synchronized (channel) {
+            if (channel.released || channel.superseded) {
+                return;
+            }
+            try {
+                channel.pending = scheduler.schedule(() -> {
+                    try {
+                        workers.execute(() -> attempt(channel));
+                    } catch (RejectedExecutionException e) {
+                        Logger.debug("[재연결] " + channel.key + " 재연결 작업을 시작할 수 없습니다 (종료 중)");
+                    }
+                }, delayMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                Logger.debug("[재연결] " + channel.key + " 재연결을 예약할 수 없습니다 (종료 중)");
+            }
+        }
+    }
+
+    private void attempt(Channel channel) {
+        synchronized (channel) {
+            if (channel.released || channel.superseded) {
+                return;
+            }
+            channel.pending = null;
+        }
+
+        attempts.incrementAndGet();
+        boolean connected;
+        try {
+            connected = channel.reconnect.getAsBoolean();
+        } catch (Exception e) {
+            Logger.debug("[재연결] " + channel.key + " 재연결 중 예외: " + e.getMessage());
+            connected = false;
+        }
+
+        int failures;
+        synchronized (channel) {
+            if (connected) {
+                if (channel.released) {
+                    // 재연결 도중 해제된 채널이면 새 연결도 정리
+                    Channel current = channels.remove(channel.key);
+                    if (current != null && current != channel) {
+                        current.discard.run();
+                    }
+                    return;
+                }
+                recovered.incrementAndGet();
+                Logger.info(ChatColor.GREEN + "[재연결] " + channel.key + " 재연결 성공 ("
+                        + (channel.failures + 1) + "번째 시도)");
+                return;
+            }
+
+            failedAttempts.incrementAndGet();
+            if (channel.released || channel.superseded) {
+                return;
+            }
+            failures = ++channel.failures;
+        }
+
+        // 차단 후 다시 시도(반열림)에서도 실패하면 바로 다시 차단
+        if (failures >= FAILURE_THRESHOLD) {
+            openCircuit(channel, failures);
+            return;
+        }
+
+        long delay = backoff(failures);
+        Logger.warn("[재연결] " + channel.key + " 재연결 실패, " + delay + "ms 후 다시 시도합니다. (" + failures + "회 실패)");
+        schedule(channel, delay);
+    }
+
+    /**
+     * 회로 차단, 차단 시간이 지나면 한 번 다시 시도한다
+     */
+    private void openCircuit(Channel channel, int failures) {
+        circuitTrips.incrementAndGet();
+        synchronized (channel) {
+            channel.openUntil = System.currentTimeMillis() + OPEN_DURATION_MS;
+        }
+        Logger.warn("[재연결] " + channel.key + " " + failures + "회 연속 실패, "
+                + TimeUnit.MILLISECONDS.toMinutes(OPEN_DURATION_MS) + "분 동안 재연결을 중단합니다.");
+        schedule(channel, OPEN_DURATION_MS);
+    }
+
+    private static void cancelPending(Channel channel) {
+        if (channel.pending != null) {
+            channel.pending.cancel(false);
+            channel.pending = null;
+        }
+    }
+
+    /**
+     * 실패 횟수에 따른 대기 시간, 최대값 안에서 절반은 고정, 절반은 무작위로 둔다
+     */
+    private static long backoff(int failures) {
+        long delay = Math.min(MAX_DELAY_MS, BASE_DELAY_MS << Math.min(failures, 10));
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+}
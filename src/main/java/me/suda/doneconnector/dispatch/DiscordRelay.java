@@ -0,0 +1,205 @@
+package me.suda.doneconnector.dispatch;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방송 채팅을 디스코드로 전달하는 릴레이 ({@code discord broadcast} 명령어 사용)
+ *
+ * 웹소켓 스레드는 스트리머별 버퍼에 채팅 줄을 넣기만 하고, 메인 스레드 반복 작업 1개가
+ * 묶음 간격이 지났거나 최대 줄 수가 찬 버퍼를 여러 줄짜리 메시지 하나로 합쳐 보낸다.
+ * 버퍼가 가득 차면 새 채팅은 버리고, 버린 개수는 다음 메시지와 지표에 표시한다.
+ * 묶어서 전송을 끄면 채팅마다 따로 보낸다. (다음 틱에 전송)
+ */
+public class DiscordRelay {
+
+    // 디스코드 메시지 길이 제한(2000자)보다 조금 작게 나눠 보낸다
+    private static final int MAX_BROADCAST_CHARS = 1900;
+    private static final String COMMAND_PREFIX = "discord broadcast ";
+
+    private final Plugin plugin;
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+    private BukkitTask flushTask;
+
+    private volatile boolean batching = true;
+    private volatile long windowNanos = TimeUnit.MILLISECONDS.toNanos(2000);
+    private volatile int maxLines = 20;
+    private volatile int maxPending = 200;
+
+    // 지표
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong broadcasts = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile int lastBatchLines = 0;
+
+    /**
+     * 스트리머 1명의 대기 중인 채팅 (버퍼 자체로 동기화)
+     */
+    private static final class Buffer {
+        private final ArrayDeque<String> lines = new ArrayDeque<>();
+        private long firstAtNanos;
+        private int dropped;
+    }
+
+    public DiscordRelay(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 설정 변경 (리로드 시 호출)
+     *
+     * @param windowMs 첫 줄이 들어온 뒤 모아서 보낼 때까지 최대 대기 시간
+     * @param maxLines 이 줄 수가 모이면 대기 시간 전이라도 전송
+     * @param maxPending 스트리머별 최대 대기 줄 수, 넘치면 버린다
+     */
+    public void configure(boolean batching, long windowMs, int maxLines, int maxPending) {
+        this.batching = batching;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMs));
+        this.maxLines = Math.max(1, maxLines);
+        this.maxPending = Math.max(this.maxLines, maxPending);
+    }
+
+    public void start() {
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> flush(false), 1L, 1L);
+        }
+    }
+
+    /**
+     * 작업 중지, 남은 채팅은 바로 보낸다. (메인 스레드에서 호출)
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush(true);
+        buffers.clear();
+    }
+
+    /**
+     * 채팅 1줄 전달 요청, 어느 스레드에서나 호출 가능하며 기다리지 않는다.
+     *
+     * @param streamer 묶음 단위 (스트리머 닉네임)
+     */
+    public void relay(String streamer, String line) {
+        received.incrementAndGet();
+        Buffer buffer = buffers.computeIfAbsent(streamer, key -> new Buffer());
+        synchronized (buffer) {
+            if (buffer.lines.size() >= maxPending) {
+                buffer.dropped++;
+                dropped.incrementAndGet();
+                return;
+            }
+            if (buffer.lines.isEmpty()) {
+                buffer.firstAtNanos = System.nanoTime();
+            }
+            buffer.lines.addLast(line);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("batching", batching);
+        metrics.put("pendingLines", pendingLines());
+        metrics.put("receivedLines", received.get());
+        metrics.put("broadcasts", broadcasts.get());
+        metrics.put("droppedLines", dropped.get());
+        metrics.put("failed", failed.get());
+        metrics.put("lastBatchLines", lastBatchLines);
+        return metrics;
+    }
+
+    private int pendingLines() {
+        int count = 0;
+        for (Buffer buffer : buffers.values()) {
+            synchronized (buffer) {
+                count += buffer.lines.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 보낼 때가 된 버퍼를 비우고 전송 (메인 스레드)
+     *
+     * @param force 묶음 간격과 상관없이 모두 전송
+     */
+    private void flush(boolean force) {
+        long now = System.nanoTime();
+        for (Buffer buffer : buffers.values()) {
+            List<String> lines;
+            int droppedLines;
+            synchronized (buffer) {
+                if (buffer.lines.isEmpty()) {
+                    continue;
+                }
+                boolean ready = force || !batching
+                        || buffer.lines.size() >= maxLines
+                        || now - buffer.firstAtNanos >= windowNanos;
+                if (!ready) {
+                    continue;
+                }
+                lines = new ArrayList<>(buffer.lines);
+                buffer.lines.clear();
+                droppedLines = buffer.dropped;
+                buffer.dropped = 0;
+            }
+
+            lastBatchLines = lines.size();
+            if (batching) {
+                sendCombined(lines, droppedLines);
+            } else {
+                for (String line : lines) {
+                    broadcast(line);
+                }
+                if (droppedLines > 0) {
+                    broadcast("(채팅 " + droppedLines + "개 생략)");
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 줄을 길이 제한 안에서 최대한 합쳐 전송
+     */
+    private void sendCombined(List<String> lines, int droppedLines) {
+        StringBuilder message = new StringBuilder();
+        for (String line : lines) {
+            if (message.length() > 0 && message.length() + 1 + line.length() > MAX_BROADCAST_CHARS) {
+                broadcast(message.toString());
+                message.setLength(0);
+            }
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(line);
+        }
+        if (droppedLines > 0) {
+            message.append('\n').append("(채팅 ").append(droppedLines).append("개 생략)");
+        }
+        broadcast(message.toString());
+    }
+
+    private void broadcast(String message) {
+        try {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), COMMAND_PREFIX + message);
+            broadcasts.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            Logger.error("[DiscordRelay] 디스코드 전송 중 오류 발생: " + e.getMessage());
+        }
+    }
+}
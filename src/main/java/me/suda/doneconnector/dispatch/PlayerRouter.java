@@ -0,0 +1,142 @@
+package me.suda.doneconnector.dispatch;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마크 닉네임(태그)으로 접속 중인 플레이어를 찾고 채팅을 전달하는 라우터
+ *
+ * 접속/퇴장 이벤트에서 닉네임(대소문자 무시) → UUID 색인을 갱신하므로 웹소켓 스레드에서도
+ * 온라인 플레이어 목록을 훑지 않고 바로 찾을 수 있다. 메시지는 큐에 넣기만 하고,
+ * 메인 스레드 반복 작업 1개가 매 틱 모아서 전달한다.
+ */
+public class PlayerRouter {
+
+    private final Plugin plugin;
+    private final Map<String, UUID> online = new ConcurrentHashMap<>();
+    private final Queue<Delivery> outbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private BukkitTask deliverTask;
+
+    // 지표
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong offline = new AtomicLong();
+    private final AtomicLong unrouted = new AtomicLong();
+    private volatile int lastBatch = 0;
+
+    private record Delivery(UUID uuid, String message) {}
+
+    public PlayerRouter(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * 현재 접속 중인 플레이어로 색인을 만들고 전달 작업 시작 (메인 스레드에서 호출)
+     */
+    public void start() {
+        online.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            playerJoined(player);
+        }
+        if (deliverTask == null) {
+            deliverTask = Bukkit.getScheduler().runTaskTimer(plugin, this::deliver, 1L, 1L);
+        }
+    }
+
+    public void shutdown() {
+        if (deliverTask != null) {
+            deliverTask.cancel();
+            deliverTask = null;
+        }
+        outbox.clear();
+        pending.set(0);
+        online.clear();
+    }
+
+    public void playerJoined(Player player) {
+        online.put(key(player.getName()), player.getUniqueId());
+    }
+
+    public void playerQuit(Player player) {
+        // 같은 이름으로 먼저 다시 접속한 경우 새 항목은 지우지 않는다
+        online.remove(key(player.getName()), player.getUniqueId());
+    }
+
+    /**
+     * 접속 중인 플레이어의 UUID, 접속 중이 아니면 null (어느 스레드에서나 호출 가능)
+     */
+    public UUID find(String playerName) {
+        if (playerName == null) {
+            return null;
+        }
+        return online.get(key(playerName));
+    }
+
+    /**
+     * 플레이어에게 보낼 메시지를 다음 틱 전달 대기열에 추가 (어느 스레드에서나 호출 가능)
+     *
+     * @return 대상 플레이어가 접속 중이면 true
+     */
+    public boolean send(String playerName, String message) {
+        UUID uuid = find(playerName);
+        if (uuid == null) {
+            unrouted.incrementAndGet();
+            return false;
+        }
+        pending.incrementAndGet();
+        queued.incrementAndGet();
+        outbox.offer(new Delivery(uuid, message));
+        return true;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("indexedPlayers", online.size());
+        metrics.put("pending", pending.get());
+        metrics.put("queued", queued.get());
+        metrics.put("delivered", delivered.get());
+        metrics.put("offlineOnDelivery", offline.get());
+        metrics.put("unrouted", unrouted.get());
+        metrics.put("lastBatch", lastBatch);
+        return metrics;
+    }
+
+    private void deliver() {
+        if (outbox.isEmpty()) {
+            return;
+        }
+
+        int count = 0;
+        Delivery delivery;
+        while ((delivery = outbox.poll()) != null) {
+            pending.decrementAndGet();
+            count++;
+
+            Player player = Bukkit.getPlayer(delivery.uuid());
+            if (player == null || !player.isOnline()) {
+                offline.incrementAndGet();
+                continue;
+            }
+            player.sendMessage(delivery.message());
+            delivered.incrementAndGet();
+        }
+        lastBatch = count;
+    }
+
+    private static String key(String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,169 @@
+package me.suda.doneconnector.dispatch;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 후원 보상 명령어 실행기
+ *
+ * 웹소켓 스레드는 후원 1건의 명령어 묶음을 큐에 넣기만 하고 기다리지 않는다.
+ * 메인 스레드의 반복 작업 1개가 매 틱마다 정해진 시간 안에서 큐를 비우며,
+ * 후원 1건의 명령어는 항상 설정된 순서대로, 후원끼리는 들어온 순서대로 실행된다.
+ * 종료 시 남은 명령어는 정해진 시간 안에서 메인 스레드에서 바로 실행한다.
+ */
+public class RewardDispatcher {
+
+    private static final long DEFAULT_TICK_BUDGET_MS = 5;
+    private static final long SHUTDOWN_BUDGET_MS = 2000;
+
+    private final Plugin plugin;
+    private final long tickBudgetNanos;
+    private final Queue<CommandBatch> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCommands = new AtomicInteger();
+    private BukkitTask drainTask;
+
+    // 메인 스레드에서만 접근 (예산을 넘겨 중간에 멈춘 묶음)
+    private CommandBatch current;
+    private int currentIndex;
+
+    // 지표
+    private final AtomicLong submittedBatches = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deferredTicks = new AtomicLong();
+    private volatile long lastTickNanos = 0;
+    private volatile long maxTickNanos = 0;
+
+    private record CommandBatch(String source, List<String> commands) {}
+
+    public RewardDispatcher(Plugin plugin) {
+        this(plugin, DEFAULT_TICK_BUDGET_MS);
+    }
+
+    public RewardDispatcher(Plugin plugin, long tickBudgetMs) {
+        this.plugin = plugin;
+        this.tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(tickBudgetMs);
+    }
+
+    public void start() {
+        if (drainTask == null) {
+            drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+        }
+    }
+
+    /**
+     * 후원 1건의 명령어 묶음 실행 요청, 어느 스레드에서나 호출 가능하며 기다리지 않는다.
+     *
+     * @param source   로그에 남길 요청 출처 (채널 닉네임)
+     * @param commands 순서대로 실행할 콘솔 명령어
+     */
+    public void dispatch(String source, List<String> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        pendingCommands.addAndGet(commands.size());
+        submittedBatches.incrementAndGet();
+        queue.offer(new CommandBatch(source, List.copyOf(commands)));
+    }
+
+    /**
+     * 실행 작업 중지, 이미 받은 명령어는 {@link #SHUTDOWN_BUDGET_MS} 안에서 모두 실행하고
+     * 그래도 남은 명령어만 버린다. (메인 스레드에서 호출)
+     */
+    public void shutdown() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+
+        if (current != null || !queue.isEmpty()) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_BUDGET_MS);
+            while ((current != null || !queue.isEmpty()) && System.nanoTime() < deadline) {
+                runUntil(deadline);
+            }
+        }
+        queue.clear();
+        current = null;
+
+        int dropped = pendingCommands.getAndSet(0);
+        if (dropped > 0) {
+            Logger.warn("종료 전에 실행하지 못한 후원 보상 명령어 " + dropped + "개가 취소되었습니다.");
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("backlogCommands", pendingCommands.get());
+        metrics.put("submittedBatches", submittedBatches.get());
+        metrics.put("dispatched", dispatched.get());
+        metrics.put("failed", failed.get());
+        metrics.put("deferredTicks", deferredTicks.get());
+        metrics.put("lastTickMs", nanosToMillis(lastTickNanos));
+        metrics.put("maxTickMs", nanosToMillis(maxTickNanos));
+        metrics.put("tickBudgetMs", nanosToMillis(tickBudgetNanos));
+        return metrics;
+    }
+
+    private void drain() {
+        if (current == null && queue.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        runUntil(start + tickBudgetNanos);
+
+        if (current != null || !queue.isEmpty()) {
+            deferredTicks.incrementAndGet();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        lastTickNanos = elapsed;
+        if (elapsed > maxTickNanos) {
+            maxTickNanos = elapsed;
+        }
+    }
+
+    /**
+     * 마감 시각까지 명령어 실행, 최소 1개는 실행해서 예산이 작아도 멈추지 않게 한다.
+     */
+    private void runUntil(long deadline) {
+        do {
+            if (current == null) {
+                current = queue.poll();
+                currentIndex = 0;
+                if (current == null) {
+                    break;
+                }
+            }
+
+            String command = current.commands().get(currentIndex++);
+            pendingCommands.decrementAndGet();
+            try {
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+                dispatched.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                Logger.error("[RewardDispatcher][" + current.source() + "] 명령어 실행 중 오류 발생: " + command + " - " + e.getMessage());
+            }
+
+            if (currentIndex >= current.commands().size()) {
+                current = null;
+            }
+        } while (System.nanoTime() < deadline);
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
@@ -0,0 +1,101 @@
+package me.suda.doneconnector.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 치지직/숲 API 호출용 공유 HTTP 클라이언트
+ *
+ * 요청마다 클라이언트를 만들면 TLS 연결과 스레드 풀도 매번 새로 생기므로,
+ * 플러그인 전체에서 클라이언트 1개(HTTP/2 우선, 고정 크기 스레드 풀)를 재사용한다.
+ */
+public final class SharedHttpClient {
+
+    public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+    private static final int THREADS = 4;
+
+    private static HttpClient client;
+    private static ExecutorService executor;
+
+    private SharedHttpClient() {
+    }
+
+    /**
+     * 공유 클라이언트 반환 (종료된 뒤 다시 호출하면 새로 생성)
+     */
+    public static synchronized HttpClient get() {
+        if (client == null) {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            executor = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                        Thread thread = new Thread(r, "Done-Http-" + threadNumber.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            ((ThreadPoolExecutor) executor).allowCoreThreadTimeOut(true);
+
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(CONNECT_TIMEOUT)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .executor(executor)
+                    .build();
+        }
+        return client;
+    }
+
+    /**
+     * 공통 헤더와 타임아웃이 설정된 요청 빌더
+     */
+    public static HttpRequest.Builder request(String url) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("User-Agent", USER_AGENT);
+        // 평문 http는 h2c 업그레이드를 시도하지 않고 HTTP/1.1 keep-alive로 보낸다
+        if (url.startsWith("http://")) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        return builder;
+    }
+
+    /**
+     * 비동기 결과를 기다려 반환, 실패 시 원래 예외를 그대로 던진다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 플러그인 종료 시 클라이언트(연결, 셀렉터 스레드)와 스레드 풀 정리
+     */
+    public static synchronized void shutdown() {
+        if (client != null) {
+            client.shutdownNow();
+            client = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
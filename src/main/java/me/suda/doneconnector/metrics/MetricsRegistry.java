@@ -0,0 +1,31 @@
+package me.suda.doneconnector.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 플러그인 구성요소별 지표를 모아 보여주기 위한 등록소
+ */
+public class MetricsRegistry {
+    private static final Map<String, Supplier<Map<String, Object>>> sources = new LinkedHashMap<>();
+
+    public static synchronized void register(String name, Supplier<Map<String, Object>> source) {
+        sources.put(name, source);
+    }
+
+    public static synchronized void unregister(String name) {
+        sources.remove(name);
+    }
+
+    /**
+     * 등록된 모든 지표의 현재 값 (등록 순서 유지)
+     */
+    public static synchronized Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<Map<String, Object>>> entry : sources.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,265 @@
+package me.suda.doneconnector.reward;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 후원 금액 → 보상 명령어 조회표
+ *
+ * {@code 후원 보상} 설정 키를 로드 시 정렬된 배열로 컴파일해 두고 후원마다 이진 탐색으로 찾는다.
+ * <ul>
+ *   <li>{@code 1000} - 정확히 1000원</li>
+ *   <li>{@code 1000~4999} - 1000원 이상 4999원 이하 (겹치면 범위가 좁은 쪽 우선)</li>
+ *   <li>{@code x1000} - 1000원의 배수 (여러 개면 큰 단위 우선)</li>
+ *   <li>{@code 5000+} - 5000원 이상 (여러 개면 가장 높은 기준 우선)</li>
+ *   <li>{@code 0} - 위 어디에도 해당하지 않는 후원</li>
+ * </ul>
+ * 우선순위는 위에 적힌 순서와 같다.
+ *
+ * 배수 항목은 단위들의 최대공약수로 나눈 몫 {@link #MULTIPLE_TABLE_SIZE}개까지 결과를 미리 계산해 두고,
+ * 그보다 큰 금액만 단위를 큰 것부터 차례로 확인한다.
+ */
+public final class RewardTable {
+
+    public static final RewardTable EMPTY = compile(Map.of());
+
+    // 배수 조회표 크기 (단위가 1000원이면 6500만원까지 바로 조회)
+    private static final int MULTIPLE_TABLE_SIZE = 1 << 16;
+
+    // 정확한 금액
+    private final int[] exactAmounts;
+    private final List<List<RewardTemplate>> exactRewards;
+
+    // 범위: 경계값으로 나눈 구간마다 적용할 보상을 미리 계산
+    private final int[] rangeBounds;
+    private final List<List<RewardTemplate>> rangeRewards;
+
+    // 배수 (큰 단위부터)
+    private final int[] multipleUnits;
+    private final List<List<RewardTemplate>> multipleRewards;
+    // 모든 단위의 최대공약수와, 금액 / 최대공약수 → 적용할 단위 위치 + 1 (0은 해당 없음)
+    private final int multipleGcd;
+    private final short[] multipleTable;
+
+    // 이상 (오름차순)
+    private final int[] minimumAmounts;
+    private final List<List<RewardTemplate>> minimumRewards;
+
+    private final List<RewardTemplate> fallback;
+    private final int size;
+
+    private record Range(int from, int to, List<RewardTemplate> rewards) {
+        long width() {
+            return (long) to - from;
+        }
+    }
+
+    private RewardTable(int[] exactAmounts, List<List<RewardTemplate>> exactRewards,
+                        int[] rangeBounds, List<List<RewardTemplate>> rangeRewards,
+                        int[] multipleUnits, List<List<RewardTemplate>> multipleRewards,
+                        int[] minimumAmounts, List<List<RewardTemplate>> minimumRewards,
+                        List<RewardTemplate> fallback, int size) {
+        this.exactAmounts = exactAmounts;
+        this.exactRewards = exactRewards;
+        this.rangeBounds = rangeBounds;
+        this.rangeRewards = rangeRewards;
+        this.multipleUnits = multipleUnits;
+        this.multipleRewards = multipleRewards;
+        this.multipleGcd = gcd(multipleUnits);
+        this.multipleTable = buildMultipleTable(multipleUnits, multipleGcd);
+        this.minimumAmounts = minimumAmounts;
+        this.minimumRewards = minimumRewards;
+        this.fallback = fallback;
+        this.size = size;
+    }
+
+    /**
+     * 설정 키별 명령어 목록을 조회표로 컴파일
+     *
+     * @throws IllegalArgumentException 키 형식이 잘못된 경우
+     */
+    public static RewardTable compile(Map<String, List<String>> entries) {
+        TreeMap<Integer, List<RewardTemplate>> exact = new TreeMap<>();
+        List<Range> ranges = new ArrayList<>();
+        TreeMap<Integer, List<RewardTemplate>> multiples = new TreeMap<>(Comparator.reverseOrder());
+        TreeMap<Integer, List<RewardTemplate>> minimums = new TreeMap<>();
+
+        for (Map.Entry<String, List<String>> entry : entries.entrySet()) {
+            String key = entry.getKey().trim();
+            List<RewardTemplate> rewards = RewardTemplate.compileAll(entry.getValue());
+
+            if (key.endsWith("+")) {
+                minimums.put(parseAmount(key.substring(0, key.length() - 1), key), rewards);
+            } else if (key.startsWith("x") || key.startsWith("X")) {
+                int unit = parseAmount(key.substring(1), key);
+                if (unit <= 0) {
+                    throw new IllegalArgumentException("배수 단위는 1 이상이어야 합니다: " + key);
+                }
+                multiples.put(unit, rewards);
+            } else if (key.contains("~")) {
+                int separator = key.indexOf('~');
+                int from = parseAmount(key.substring(0, separator), key);
+                int to = parseAmount(key.substring(separator + 1), key);
+                if (from > to) {
+                    throw new IllegalArgumentException("범위 시작이 끝보다 큽니다: " + key);
+                }
+                ranges.add(new Range(from, to, rewards));
+            } else {
+                exact.put(parseAmount(key, key), rewards);
+            }
+        }
+
+        List<RewardTemplate> fallback = exact.remove(0);
+
+        // 범위 경계값으로 구간을 나누고 구간마다 가장 좁은 범위를 선택
+        TreeSet<Integer> bounds = new TreeSet<>();
+        for (Range range : ranges) {
+            bounds.add(range.from());
+            if (range.to() < Integer.MAX_VALUE) {
+                bounds.add(range.to() + 1);
+            }
+        }
+        int[] rangeBounds = toArray(bounds);
+        List<List<RewardTemplate>> rangeRewards = new ArrayList<>(rangeBounds.length);
+        for (int start : rangeBounds) {
+            Range best = null;
+            for (Range range : ranges) {
+                if (range.from() <= start && start <= range.to()
+                        && (best == null || range.width() < best.width()
+                        || (range.width() == best.width() && range.from() < best.from()))) {
+                    best = range;
+                }
+            }
+            rangeRewards.add(best != null ? best.rewards() : null);
+        }
+
+        int size = exact.size() + ranges.size() + multiples.size() + minimums.size() + (fallback != null ? 1 : 0);
+        return new RewardTable(
+                toArray(exact.keySet()), new ArrayList<>(exact.values()),
+                rangeBounds, rangeRewards,
+                toArray(multiples.keySet()), new ArrayList<>(multiples.values()),
+                toArray(minimums.keySet()), new ArrayList<>(minimums.values()),
+                fallback, size);
+    }
+
+    /**
+     * 후원 금액에 해당하는 보상 명령어 조회, 없으면 null
+     */
+    public List<RewardTemplate> resolve(int amount) {
+        int index = Arrays.binarySearch(exactAmounts, amount);
+        if (index >= 0) {
+            return exactRewards.get(index);
+        }
+
+        index = floorIndex(rangeBounds, amount);
+        if (index >= 0 && rangeRewards.get(index) != null) {
+            return rangeRewards.get(index);
+        }
+
+        index = multipleIndex(amount);
+        if (index >= 0) {
+            return multipleRewards.get(index);
+        }
+
+        index = floorIndex(minimumAmounts, amount);
+        if (index >= 0) {
+            return minimumRewards.get(index);
+        }
+
+        return fallback;
+    }
+
+    /**
+     * 설정된 보상 항목 수 (0원 포함)
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 금액을 나누어떨어지게 하는 가장 큰 배수 단위의 위치, 없으면 -1 (0원 이하는 배수로 보지 않는다)
+     */
+    private int multipleIndex(int amount) {
+        // 어떤 단위로든 나누어떨어지면 최대공약수로도 나누어떨어진다
+        if (amount <= 0 || multipleGcd == 0 || amount % multipleGcd != 0) {
+            return -1;
+        }
+        int quotient = amount / multipleGcd;
+        if (quotient < multipleTable.length) {
+            return multipleTable[quotient] - 1;
+        }
+        for (int i = 0; i < multipleUnits.length; i++) {
+            if (amount % multipleUnits[i] == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 몫마다 가장 큰 단위를 미리 기록 (작은 단위부터 채우고 큰 단위가 덮어쓴다)
+     */
+    private static short[] buildMultipleTable(int[] units, int gcd) {
+        if (units.length == 0 || units.length > Short.MAX_VALUE) {
+            return new short[0];
+        }
+        short[] table = new short[MULTIPLE_TABLE_SIZE];
+        for (int i = units.length - 1; i >= 0; i--) {
+            int step = units[i] / gcd;
+            for (int quotient = step; quotient < table.length; quotient += step) {
+                table[quotient] = (short) (i + 1);
+            }
+        }
+        return table;
+    }
+
+    private static int gcd(int[] values) {
+        int result = 0;
+        for (int value : values) {
+            int a = result;
+            int b = value;
+            while (b != 0) {
+                int t = a % b;
+                a = b;
+                b = t;
+            }
+            result = a;
+        }
+        return result;
+    }
+
+    /**
+     * value 이하인 가장 큰 원소의 위치, 없으면 -1
+     */
+    private static int floorIndex(int[] sorted, int value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static int parseAmount(String text, String key) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("후원 보상 금액 형식이 잘못되었습니다: " + key);
+        }
+    }
+
+    private static int[] toArray(Collection<Integer> values) {
+        int[] array = new int[values.size()];
+        int i = 0;
+        for (int value : values) {
+            array[i++] = value;
+        }
+        return array;
+    }
+}
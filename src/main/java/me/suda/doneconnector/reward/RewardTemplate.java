@@ -0,0 +1,145 @@
+package me.suda.doneconnector.reward;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 컴파일된 후원 보상 명령어 템플릿
+ *
+ * {@code 후원 보상} 설정의 문자열 1개(";"로 여러 명령어 연결 가능)를 설정 로드 시 한 번만 분석해
+ * 고정 문자열 조각과 {@code %tag%}, {@code %name%}, {@code %amount%}, {@code %message%} 자리로 나눠 둔다.
+ * 후원마다 정규식이나 반복 치환 없이 한 번에 명령어를 만들며,
+ * 후원 메시지에 {@code $}, {@code \} 또는 다른 치환자가 있어도 그대로 들어간다.
+ */
+public final class RewardTemplate {
+
+    private static final String[] PLACEHOLDERS = {"%tag%", "%name%", "%amount%", "%message%"};
+    private static final int TAG = 0;
+    private static final int NAME = 1;
+    private static final int AMOUNT = 2;
+    private static final int MESSAGE = 3;
+
+    private final String source;
+    private final CommandTemplate[] commands;
+
+    /**
+     * 명령어 1개: literals[0] + slot[0] + literals[1] + ... + literals[n]
+     */
+    private record CommandTemplate(String[] literals, int[] slots, int literalLength) {}
+
+    private RewardTemplate(String source, CommandTemplate[] commands) {
+        this.source = source;
+        this.commands = commands;
+    }
+
+    /**
+     * 설정 문자열 1개 컴파일
+     */
+    public static RewardTemplate compile(String source) {
+        String[] parts = source.split(";");
+        CommandTemplate[] commands = new CommandTemplate[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            commands[i] = compileCommand(parts[i]);
+        }
+        return new RewardTemplate(source, commands);
+    }
+
+    /**
+     * 설정 문자열 목록 컴파일
+     */
+    public static List<RewardTemplate> compileAll(List<String> sources) {
+        List<RewardTemplate> templates = new ArrayList<>(sources.size());
+        for (String source : sources) {
+            templates.add(compile(source));
+        }
+        return templates;
+    }
+
+    /**
+     * 치환자를 채워 실행할 명령어들을 out에 순서대로 추가
+     */
+    public void render(String tag, String name, int amount, String message, List<String> out) {
+        String[] values = {
+                tag != null ? tag : "",
+                name != null ? name : "",
+                String.valueOf(amount),
+                message != null ? message : ""
+        };
+
+        for (CommandTemplate command : commands) {
+            String[] literals = command.literals();
+            int[] slots = command.slots();
+            if (slots.length == 0) {
+                out.add(literals[0]);
+                continue;
+            }
+
+            int length = command.literalLength();
+            for (int slot : slots) {
+                length += values[slot].length();
+            }
+
+            StringBuilder builder = new StringBuilder(length);
+            builder.append(literals[0]);
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(values[slots[i]]).append(literals[i + 1]);
+            }
+            out.add(builder.toString());
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private static CommandTemplate compileCommand(String command) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int literalStart = 0;
+        int index = command.indexOf('%');
+        while (index >= 0) {
+            int slot = placeholderAt(command, index);
+            if (slot < 0) {
+                index = command.indexOf('%', index + 1);
+                continue;
+            }
+            literals.add(command.substring(literalStart, index));
+            slots.add(slot);
+            literalStart = index + PLACEHOLDERS[slot].length();
+            index = command.indexOf('%', literalStart);
+        }
+        literals.add(command.substring(literalStart));
+
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new CommandTemplate(literals.toArray(new String[0]), slotArray, literalLength);
+    }
+
+    private static int placeholderAt(String command, int index) {
+        if (command.startsWith(PLACEHOLDERS[TAG], index)) {
+            return TAG;
+        }
+        if (command.startsWith(PLACEHOLDERS[NAME], index)) {
+            return NAME;
+        }
+        if (command.startsWith(PLACEHOLDERS[AMOUNT], index)) {
+            return AMOUNT;
+        }
+        if (command.startsWith(PLACEHOLDERS[MESSAGE], index)) {
+            return MESSAGE;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,179 @@
+package me.suda.doneconnector.soop;
+
+import me.suda.doneconnector.Logger;
+import me.suda.doneconnector.connection.HeartbeatWheel;
+import org.java_websocket.util.HeartbeatScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 숲 후원 패킷과 후원 메시지(채팅) 짝짓기
+ *
+ * 후원(0018) 직후 같은 닉네임의 채팅이 후원 메시지로 오므로, 후원을 닉네임별 대기열에 넣고
+ * 제한 시간 안에 채팅이 오면 메시지와 함께, 오지 않으면 메시지 없이 처리한다.
+ * 시간 초과는 하트비트 휠의 1회성 예약으로 처리해 후원마다 스레드를 재우지 않으며,
+ * 같은 닉네임이 제한 시간 안에 여러 번 후원하면 먼저 온 후원부터 차례로 채팅과 짝짓는다.
+ */
+public final class DonationCorrelator {
+
+    private static final long MATCH_TIMEOUT_MS = 1000;
+
+    private static final AtomicInteger totalPending = new AtomicInteger();
+    private static final AtomicLong matched = new AtomicLong();
+    private static final AtomicLong timedOut = new AtomicLong();
+    private static final AtomicLong duplicates = new AtomicLong();
+    private static final AtomicLong flushed = new AtomicLong();
+
+    private final HeartbeatWheel wheel;
+    private final Executor executor;
+    private final Consumer<SoopPacket> onTimeout;
+    private final Map<String, ArrayDeque<PendingDonation>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private static final class PendingDonation {
+        private final SoopPacket packet;
+        private volatile HeartbeatScheduler.Registration timeout;
+
+        private PendingDonation(SoopPacket packet) {
+            this.packet = packet;
+        }
+    }
+
+    /**
+     * @param onTimeout 메시지 없이 처리할 후원 (executor에서 실행)
+     */
+    DonationCorrelator(HeartbeatWheel wheel, Executor executor, Consumer<SoopPacket> onTimeout) {
+        this.wheel = wheel;
+        this.executor = executor;
+        this.onTimeout = onTimeout;
+    }
+
+    /**
+     * 후원 패킷을 메시지 대기열에 추가
+     */
+    void offer(String nickname, SoopPacket packet) {
+        PendingDonation donation = new PendingDonation(packet);
+        pending.compute(nickname, (key, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>(2);
+            } else if (!queue.isEmpty()) {
+                duplicates.incrementAndGet();
+            }
+            queue.addLast(donation);
+            return queue;
+        });
+        pendingCount.incrementAndGet();
+        totalPending.incrementAndGet();
+
+        donation.timeout = wheel.scheduleOnce(() -> expire(nickname, donation), MATCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 채팅 닉네임으로 가장 먼저 대기 중인 후원을 꺼냄, 없으면 null
+     */
+    SoopPacket match(String nickname) {
+        PendingDonation[] found = new PendingDonation[1];
+        pending.computeIfPresent(nickname, (key, queue) -> {
+            found[0] = queue.pollFirst();
+            return queue.isEmpty() ? null : queue;
+        });
+
+        PendingDonation donation = found[0];
+        if (donation == null) {
+            return null;
+        }
+        if (donation.timeout != null) {
+            donation.timeout.cancel();
+        }
+        release();
+        matched.incrementAndGet();
+        return donation.packet;
+    }
+
+    /**
+     * 대기 중인 후원이 없으면 true (채팅 필드를 읽지 않고 건너뛰는 용도)
+     */
+    boolean isEmpty() {
+        return pendingCount.get() == 0;
+    }
+
+    /**
+     * 연결 종료 시 대기 중인 후원을 모두 메시지 없이 처리
+     */
+    void flush() {
+        flush(executor);
+    }
+
+    /**
+     * 대기 중인 후원을 모두 메시지 없이 지정한 실행기에서 처리
+     */
+    void flush(Executor target) {
+        List<PendingDonation> remaining = new ArrayList<>();
+        for (String nickname : pending.keySet()) {
+            pending.computeIfPresent(nickname, (key, queue) -> {
+                remaining.addAll(queue);
+                return null;
+            });
+        }
+
+        for (PendingDonation donation : remaining) {
+            if (donation.timeout != null) {
+                donation.timeout.cancel();
+            }
+            release();
+            flushed.incrementAndGet();
+            dispatchTimeout(target, donation.packet);
+        }
+    }
+
+    /**
+     * 전체 숲 연결 합계 지표
+     */
+    public static Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pending", totalPending.get());
+        metrics.put("matched", matched.get());
+        metrics.put("timedOut", timedOut.get());
+        metrics.put("duplicates", duplicates.get());
+        metrics.put("flushedOnClose", flushed.get());
+        return metrics;
+    }
+
+    private void expire(String nickname, PendingDonation donation) {
+        boolean[] removed = new boolean[1];
+        pending.computeIfPresent(nickname, (key, queue) -> {
+            removed[0] = queue.remove(donation);
+            return queue.isEmpty() ? null : queue;
+        });
+        if (!removed[0]) {
+            return;
+        }
+
+        release();
+        timedOut.incrementAndGet();
+        dispatchTimeout(executor, donation.packet);
+    }
+
+    private void dispatchTimeout(Executor target, SoopPacket packet) {
+        try {
+            target.execute(() -> onTimeout.accept(packet));
+        } catch (Exception e) {
+            Logger.error("[SoopWebsocket] 메시지 없는 후원 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private void release() {
+        pendingCount.decrementAndGet();
+        totalPending.decrementAndGet();
+    }
+}
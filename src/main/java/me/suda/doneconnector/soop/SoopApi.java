@@ -3,74 +3,74 @@ package me.suda.doneconnector.soop;
 import me.suda.doneconnector.Logger;
 import me.suda.doneconnector.exception.DoneException;
 import me.suda.doneconnector.exception.ExceptionCode;
+import me.suda.doneconnector.http.SharedHttpClient;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 
-import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class SoopApi {
     public static SoopLiveInfo getPlayerLive(String bjid) {
-        String requestURL = String.format("https://live.sooplive.co.kr/afreeca/player_live_api.php?bjid=%s", bjid);
-
-        try {
-            HttpClient client = HttpClient.newHttpClient();
-            JSONObject bodyJson = new JSONObject();
-            bodyJson.put("bid", bjid);
-            bodyJson.put("type", "live");
-            bodyJson.put("pwd", "");
-            bodyJson.put("player_type", "html5");
-            bodyJson.put("stream_type", "common");
-            bodyJson.put("quality", "HD");
-            bodyJson.put("mode", "landing");
-            bodyJson.put("is_revive", "false");
-            bodyJson.put("from_api", "0");
+        return SharedHttpClient.await(getPlayerLiveAsync(bjid));
+    }
 
-            Logger.debug("Request URL: " + requestURL + "\n" + "Request Body: " + bodyJson.toJSONString());
+    public static CompletableFuture<SoopLiveInfo> getPlayerLiveAsync(String bjid) {
+        String requestURL = String.format("https://live.sooplive.co.kr/afreeca/player_live_api.php?bjid=%s", bjid);
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .POST(ofFormData(bodyJson))
-                    .uri(URI.create(requestURL))
-                    .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36")
-                    .header("Content-Type", "application/x-www-form-urlencoded")
-                    .build(); // HttpRequest 생성
+        JSONObject bodyJson = new JSONObject();
+        bodyJson.put("bid", bjid);
+        bodyJson.put("type", "live");
+        bodyJson.put("pwd", "");
+        bodyJson.put("player_type", "html5");
+        bodyJson.put("stream_type", "common");
+        bodyJson.put("quality", "HD");
+        bodyJson.put("mode", "landing");
+        bodyJson.put("is_revive", "false");
+        bodyJson.put("from_api", "0");
 
+        Logger.debug("Request URL: " + requestURL + "\n" + "Request Body: " + bodyJson.toJSONString());
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpRequest request = SharedHttpClient.request(requestURL)
+                .POST(ofFormData(bodyJson))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .build(); // HttpRequest 생성
 
-            if (response.statusCode() == 200) {
-                JSONParser parser = new JSONParser();
-                JSONObject jsonObject = (JSONObject) parser.parse(response.body());
-                JSONObject channel = (JSONObject) jsonObject.get("CHANNEL");
-                SoopLiveInfo soopLiveInfo = new SoopLiveInfo(
-                        channel.get("CHDOMAIN").toString(),
-                        channel.get("CHATNO").toString(),
-                        channel.get("FTK").toString(),
-                        channel.get("TITLE").toString(),
-                        channel.get("BJID").toString(),
-                        channel.get("BNO").toString(),
-                        channel.get("CHIP").toString(),
-                        String.valueOf(Integer.parseInt(channel.get("CHPT").toString()) + 1),
-                        channel.get("CTIP").toString(),
-                        channel.get("CTPT").toString(),
-                        channel.get("GWIP").toString(),
-                        channel.get("GWPT").toString()
-                );
+        return SharedHttpClient.get().sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        throw new DoneException(ExceptionCode.API_CHAT_CHANNEL_ID_ERROR);
+                    }
+                    try {
+                        JSONParser parser = new JSONParser();
+                        JSONObject jsonObject = (JSONObject) parser.parse(response.body());
+                        JSONObject channel = (JSONObject) jsonObject.get("CHANNEL");
+                        SoopLiveInfo soopLiveInfo = new SoopLiveInfo(
+                                channel.get("CHDOMAIN").toString(),
+                                channel.get("CHATNO").toString(),
+                                channel.get("FTK").toString(),
+                                channel.get("TITLE").toString(),
+                                channel.get("BJID").toString(),
+                                channel.get("BNO").toString(),
+                                channel.get("CHIP").toString(),
+                                String.valueOf(Integer.parseInt(channel.get("CHPT").toString()) + 1),
+                                channel.get("CTIP").toString(),
+                                channel.get("CTPT").toString(),
+                                channel.get("GWIP").toString(),
+                                channel.get("GWPT").toString()
+                        );
 
-                Logger.debug(soopLiveInfo.toString());
+                        Logger.debug(soopLiveInfo.toString());
 
-                return soopLiveInfo;
-            } else {
-                throw new DoneException(ExceptionCode.API_CHAT_CHANNEL_ID_ERROR);
-            }
-        } catch (Exception e) {
-            throw new DoneException(ExceptionCode.API_CHAT_CHANNEL_ID_ERROR);
-        }
+                        return soopLiveInfo;
+                    } catch (Exception e) {
+                        throw new DoneException(ExceptionCode.API_CHAT_CHANNEL_ID_ERROR);
+                    }
+                });
     }
 
     public static HttpRequest.BodyPublisher ofFormData(Map<Object, Object> data) {
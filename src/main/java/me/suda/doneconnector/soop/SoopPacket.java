@@ -1,24 +1,184 @@
 package me.suda.doneconnector.soop;
 
-import lombok.Getter;
-
-import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.List;
 
-@Getter  // Lombok annotation 추가
-public class SoopPacket {
+/**
+ * 숲 채팅 패킷
+ *
+ * 패킷 형식: {@code ESC(1B 09) + 명령어(4) + 길이(6) + "00" + (\f + 필드)...}
+ * 받은 버퍼를 복사하거나 문자열로 바꾸지 않고 필드 위치(시작/끝)만 기록해 두며,
+ * 필드는 실제로 읽을 때 한 번만 문자열로 변환한다. (UTF-8 다중 바이트 문자에는 \f 바이트가 나오지 않으므로 바이트 단위로 나눠도 안전)
+ */
+public final class SoopPacket {
+
+    private static final byte ESC = 0x1b;
+    private static final byte TAB = 0x09;
+    private static final byte F = 0x0c;
+    private static final int COMMAND_LENGTH = 4;
+    private static final int INITIAL_FIELDS = 16;
+
+    private final ByteBuffer buffer;
     private final String command;
-    private final List<String> dataList;
-    private final LocalDateTime receivedTime;
-    
-    public SoopPacket(String[] args) {
-        this.dataList = new ArrayList<>(Arrays.asList(args));
-        String cmd = dataList.remove(0);
-        this.command = cmd.substring(0, 4);
-        this.receivedTime = LocalDateTime.now();
+    private final long receivedAt;
+
+    // 필드 i = buffer[starts[i], ends[i])
+    private int[] starts = new int[INITIAL_FIELDS];
+    private int[] ends = new int[INITIAL_FIELDS];
+    private int size;
+    private String[] decoded;
+
+    private SoopPacket(ByteBuffer buffer, String command) {
+        this.buffer = buffer;
+        this.command = command;
+        this.receivedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 받은 프레임 해석, 형식이 맞지 않으면 null
+     *
+     * 버퍼의 position/limit은 바꾸지 않으며, 패킷은 버퍼를 그대로 참조하므로 이후 버퍼 내용을 바꾸면 안 된다.
+     */
+    public static SoopPacket decode(ByteBuffer frame) {
+        int position = frame.position();
+        int limit = frame.limit();
+
+        if (limit - position >= 2 && frame.get(position) == ESC && frame.get(position + 1) == TAB) {
+            position += 2;
+        }
+        if (limit - position < COMMAND_LENGTH) {
+            return null;
+        }
+
+        char[] command = new char[COMMAND_LENGTH];
+        for (int i = 0; i < COMMAND_LENGTH; i++) {
+            command[i] = (char) (frame.get(position + i) & 0xff);
+        }
+        SoopPacket packet = new SoopPacket(frame, new String(command));
+
+        // 헤더(명령어 + 길이) 다음 첫 \f부터 필드 시작
+        int index = position + COMMAND_LENGTH;
+        while (index < limit && frame.get(index) != F) {
+            index++;
+        }
+
+        int start = index + 1;
+        for (int i = start; i < limit; i++) {
+            if (frame.get(i) == F) {
+                packet.addField(start, i);
+                start = i + 1;
+            }
+        }
+        if (start < limit) {
+            packet.addField(start, limit);
+        }
+
+        // 끝에 붙은 빈 필드는 버린다 (String.split과 동일)
+        while (packet.size > 0 && packet.starts[packet.size - 1] == packet.ends[packet.size - 1]) {
+            packet.size--;
+        }
+        return packet;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * 받은 시각 (epoch ms)
+     */
+    public long getReceivedAt() {
+        return receivedAt;
+    }
+
+    /**
+     * 필드 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * index번째 필드를 문자열로 반환 (처음 읽을 때만 변환)
+     */
+    public String get(int index) {
+        checkIndex(index);
+        if (decoded == null) {
+            decoded = new String[size];
+        }
+        String value = decoded[index];
+        if (value == null) {
+            value = decode(starts[index], ends[index]);
+            decoded[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * index번째 필드를 문자열 변환 없이 정수로 해석
+     *
+     * @throws NumberFormatException 숫자가 아닌 경우
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        int start = starts[index];
+        int end = ends[index];
+        if (start == end || end - start > 9) {
+            return Integer.parseInt(get(index));
+        }
+
+        boolean negative = buffer.get(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end) {
+            throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+        }
+
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + get(index) + "\"");
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private void addField(int start, int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private String decode(int start, int end) {
+        if (start == end) {
+            return "";
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(end).position(start);
+        return StandardCharsets.UTF_8.decode(slice).toString();
     }
-}
 
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
 
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(command);
+        for (int i = 0; i < size; i++) {
+            builder.append('|').append(get(i));
+        }
+        return builder.toString();
+    }
+}
@@ -3,30 +3,34 @@ package me.suda.doneconnector.soop;
 import lombok.Getter;
 import me.suda.doneconnector.DoneConnector;
 import me.suda.doneconnector.Logger;
-import org.bukkit.Bukkit;
+import me.suda.doneconnector.connection.ConnectionThreads;
+import me.suda.doneconnector.connection.HeartbeatWheel;
+import me.suda.doneconnector.connection.ReconnectSupervisor;
+import me.suda.doneconnector.reward.RewardTable;
+import me.suda.doneconnector.reward.RewardTemplate;
 import org.bukkit.ChatColor;
 import me.suda.doneconnector.SSLUtils;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.drafts.Draft_6455;
 import org.java_websocket.handshake.ServerHandshake;
+import org.java_websocket.util.HeartbeatScheduler;
 
+import javax.net.ssl.SSLContext;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 
 public class SoopWebSocket extends WebSocketClient {
     private final SoopLiveInfo liveInfo;
     @Getter
     private final Map<String, String> soopUser;
-    private final Map<Integer, List<String>> donationRewards;
-    private final java.util.concurrent.ScheduledExecutorService sharedScheduler;
+    private final RewardTable donationRewards;
+    private final HeartbeatWheel heartbeat;
 
-    private java.util.concurrent.ScheduledFuture<?> pingTask;
+    private HeartbeatScheduler.Registration pingTask;
     private volatile boolean isAlive = true;
     private boolean poong = false;
 
@@ -46,24 +50,39 @@ public class SoopWebSocket extends WebSocketClient {
     private static final String COMMNAD_F = "0094";
 
     // 최초 연결시 전달하는 패킷, CONNECT_PACKET = f'{ESC}000100000600{F*3}16{F}'
-    private static final String CONNECT_PACKET = makePacket(COMMAND_CONNECT, String.format("%s16%s", F.repeat(3), F));
+    private static final ByteBuffer CONNECT_PACKET = encodePacket(COMMAND_CONNECT, String.format("%s16%s", F.repeat(3), F));
     // CONNECT_PACKET 전송시 수신 하는 패킷, CONNECT_PACKET = f'{ESC}000100000700{F*3}16|0{F}'
-    private static final String CONNECT_RES_PACKET = makePacket(COMMAND_CONNECT, String.format("%s16|0%s", F.repeat(2), F));
+    private static final ByteBuffer CONNECT_RES_PACKET = encodePacket(COMMAND_CONNECT, String.format("%s16|0%s", F.repeat(2), F));
     // 주기적으로 핑을 보내서 메세지를 계속 수신하는 패킷, PING_PACKET = f'{ESC}000000000100{F}'
-    private static final String PING_PACKET = makePacket(COMMAND_PING, F);
+    private static final ByteBuffer PING_PACKET = encodePacket(COMMAND_PING, F);
 
-    private final Map<String, SoopPacket> packetMap = new HashMap<>();
+    // 메세지를 내려받기 위해 보내는 패킷, JOIN_PACKET = f'{ESC}0002{calculate_byte_size(CHATNO):06}00{F}{CHATNO}{F*5}'
+    private final ByteBuffer joinPacket;
 
-    public SoopWebSocket(String serverUri, Draft_6455 draft6455, SoopLiveInfo liveInfo, Map<String, String> soopUser, HashMap<Integer, List<String>> donationRewards, boolean poong, java.util.concurrent.ScheduledExecutorService sharedScheduler) {
+    // 후원 패킷과 직후 같은 닉네임의 채팅(후원 메시지) 짝짓기
+    private final DonationCorrelator correlator;
+    // 종료를 요청한 쪽이 직접 대기 후원을 처리하는 경우 onClose에서는 넘기지 않는다
+    private volatile boolean flushOnClose = true;
+
+    public SoopWebSocket(String serverUri, Draft_6455 draft6455, SoopLiveInfo liveInfo, Map<String, String> soopUser, RewardTable donationRewards, boolean poong, HeartbeatWheel heartbeat) {
         super(URI.create(serverUri), draft6455);
         this.setConnectionLostTimeout(0);
-        this.setSocketFactory(SSLUtils.createSSLSocketFactory());
+        // 셀렉터 연결은 SSLEngine, 스레드 연결은 소켓 팩토리로 같은 인증서 설정을 사용
+        SSLContext sslContext = SSLUtils.createSSLContext();
+        this.setSocketFactory(sslContext.getSocketFactory());
+        this.setSSLContext(sslContext);
+        this.setThreadFactory(ConnectionThreads.websocketFactory());
+        this.setSelector(ConnectionThreads.selector());
+        this.setHeartbeatScheduler(heartbeat);
 
         this.liveInfo = liveInfo;
         this.soopUser = soopUser;
         this.donationRewards = donationRewards;
         this.poong = poong;
-        this.sharedScheduler = sharedScheduler;
+        this.heartbeat = heartbeat;
+        this.joinPacket = encodePacket(COMMAND_JOIN, F + liveInfo.CHATNO() + F.repeat(5));
+        this.correlator = new DonationCorrelator(heartbeat, ForkJoinPool.commonPool(),
+                donePacket -> handleDone(donePacket.get(2), payAmount(donePacket), ""));
     }
 
     @Override
@@ -73,23 +92,13 @@ public class SoopWebSocket extends WebSocketClient {
         isAlive = true;
 
         // Connect msg Send
-        byte[] connectPacketBytes = CONNECT_PACKET.getBytes(StandardCharsets.UTF_8);
-        send(connectPacketBytes);
+        sendShared(CONNECT_PACKET);
 
-        // 공유 스케줄러를 사용하여 ping 및 정리 작업 수행 (성능 최적화)
-        pingTask = sharedScheduler.scheduleAtFixedRate(() -> {
+        // 모든 연결이 공유하는 하트비트 휠에서 ping 전송
+        pingTask = heartbeat.schedulePeriodic(() -> {
             if (isAlive && isOpen()) {
                 try {
-                    // Ping 전송
-                    byte[] pingPacketBytes = PING_PACKET.getBytes(StandardCharsets.UTF_8);
-                    send(pingPacketBytes);
-
-                    // 오래된 패킷 정리 (메모리 최적화)
-                    synchronized (packetMap) {
-                        packetMap.entrySet().removeIf(entry -> 
-                            entry.getValue().getReceivedTime().isBefore(LocalDateTime.now().minusMinutes(1))
-                        );
-                    }
+                    sendShared(PING_PACKET);
                 } catch (Exception e) {
                     Logger.error("[SoopWebSocket][" + soopUser.get("nickname") + "] ping 작업 중 오류: " + e.getMessage());
                 }
@@ -103,75 +112,39 @@ public class SoopWebSocket extends WebSocketClient {
 
     @Override
     public void onMessage(ByteBuffer bytes) {
-        Logger.debug("[SoopWebSocket][" + soopUser.get("nickname") + "] onMessage: " + new String(bytes.array(), StandardCharsets.UTF_8));
-
-        String message = new String(bytes.array(), StandardCharsets.UTF_8);
-
-        if (CONNECT_RES_PACKET.equals(message)) {
-            String CHATNO = liveInfo.CHATNO();
-            // 메세지를 내려받기 위해 보내는 패킷, JOIN_PACKET = f'{ESC}0002{calculate_byte_size(CHATNO):06}00{F}{CHATNO}{F*5}'
-            String JOIN_PACKET = makePacket(COMMAND_JOIN, String.format("%s%s%s", F, CHATNO, F.repeat(5)));
-            byte[] joinPacketBytes = JOIN_PACKET.getBytes(StandardCharsets.UTF_8);
-
-            send(joinPacketBytes);
+        if (DoneConnector.debug) {
+            Logger.debug("[SoopWebSocket][" + soopUser.get("nickname") + "] onMessage: " + StandardCharsets.UTF_8.decode(bytes.duplicate()));
+        }
 
+        if (CONNECT_RES_PACKET.equals(bytes)) {
+            sendShared(joinPacket);
             return;
         }
 
         try {
-            SoopPacket packet = new SoopPacket(message.replace(ESC, "").split(F));
+            // 헤더와 필드 위치만 읽고, 필드는 실제로 쓰는 것만 문자열로 변환
+            SoopPacket packet = SoopPacket.decode(bytes);
+            if (packet == null) {
+                return;
+            }
 
             String cmd = packet.getCommand();
             Logger.debug("COMMAND: " + cmd);
-            List<String> dataList = switch (cmd) {
-                case COMMAND_ENTER -> null;
-                case COMMAND_ENTER_FAN -> null;
-                default -> packet.getDataList();
-            };
-
-            if (dataList == null) {
-                return;
-            }
 
             if (cmd.equals(COMMAND_DONE)) {
-                String nickname = dataList.get(2);
-                synchronized (packetMap) {
-                    packetMap.put(nickname, packet);
-                }
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        Thread.sleep(1000); // 1초 타임아웃
-                        synchronized (packetMap) {
-                            var removed = packetMap.remove(nickname);
-                            if (removed == null) {
-                                return;
-                            }
-                        }
-
-                        int tempPayAmount = Integer.parseInt(dataList.get(3));
-                        int payAmount = poong ? tempPayAmount : tempPayAmount * 100;
-                        handleDone(nickname, payAmount, "");
-                    } catch (InterruptedException e) {
-                        Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + "] 숲 패킷 타임아웃 중 오류가 발생했습니다.");
-                        Logger.debug(e.getMessage());
-                    }
-                });
+                // 1초 안에 같은 닉네임의 채팅이 오지 않으면 메시지 없이 처리
+                correlator.offer(packet.get(2), packet);
             } else if (cmd.equals(COMMAND_CHAT)) {
-                String nick = dataList.get(5);
-
-                SoopPacket donePacket;
-                synchronized (packetMap) {
-                    donePacket = packetMap.remove(nick);
-                    if (donePacket == null) {
-                        return;
-                    }
+                // 대기 중인 후원이 없으면 채팅 필드는 읽지 않는다
+                if (correlator.isEmpty()) {
+                    return;
+                }
+                SoopPacket donePacket = correlator.match(packet.get(5));
+                if (donePacket == null) {
+                    return;
                 }
 
-                String msg = dataList.get(0);
-                String nickname = donePacket.getDataList().get(2);
-                int tempPayAmount = Integer.parseInt(donePacket.getDataList().get(3));
-                int payAmount = poong ? tempPayAmount : tempPayAmount * 100;
-                handleDone(nickname, payAmount, msg);
+                handleDone(donePacket.get(2), payAmount(donePacket), packet.get(0));
             }
         } catch (Exception e) {
             Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + "] 숲 메시지 파싱 중 오류가 발생했습니다.");
@@ -179,57 +152,38 @@ public class SoopWebSocket extends WebSocketClient {
         }
     }
 
+    private int payAmount(SoopPacket donePacket) {
+        int tempPayAmount = donePacket.getInt(3);
+        return poong ? tempPayAmount : tempPayAmount * 100;
+    }
+
     private void handleDone(String nickname, int payAmount, String msg) {
         Logger.info(ChatColor.YELLOW + nickname + ChatColor.WHITE + "님께서 " + ChatColor.GREEN + payAmount + "원" + ChatColor.WHITE + "을 후원해주셨습니다.");
 
-        // 플레이어 데이터 저장 (실제 후원으로 구분)
-        String streamerUuid = DoneConnector.plugin.getPlayerUuid(soopUser.get("tag"));
-        if (streamerUuid != null) {
-            DoneConnector.plugin.savePlayerData(streamerUuid, soopUser.get("tag"), nickname, payAmount, msg, "숲", false);
-        }
+        // 플레이어 데이터 저장 (실제 후원으로 구분, 조회와 저장은 후원 기록 스레드에서)
+        DoneConnector.plugin.recordDonation(soopUser.get("tag"), nickname, payAmount, msg, "숲", false);
 
-        List<String> commands = null;
-        if (donationRewards.containsKey(payAmount)) {
-            commands = donationRewards.get(payAmount);
-        } else {
-            commands = donationRewards.get(0);
-        }
+        List<RewardTemplate> commands = donationRewards.resolve(payAmount);
 
         if (commands == null) {
             return;
         }
 
+        // 후원 1건의 명령어를 한 묶음으로 메인 스레드에 넘기고 기다리지 않는다
+        List<String> finalCommands = new ArrayList<>();
         if (DoneConnector.random) {
             Random rand = new Random();
             int randomIndex = rand.nextInt(commands.size());
-            String command = commands.get(randomIndex);
+            RewardTemplate command = commands.get(randomIndex);
 
-            callBukkit(soopUser.get("tag"), nickname, payAmount, msg, command);
+            command.render(soopUser.get("tag"), nickname, payAmount, msg, finalCommands);
         } else {
-            for (String command : commands) {
-                callBukkit(soopUser.get("tag"), nickname, payAmount, msg, command);
+            for (RewardTemplate command : commands) {
+                command.render(soopUser.get("tag"), nickname, payAmount, msg, finalCommands);
             }
         }
-    }
 
-    private void callBukkit(String tag, String nickname, int payAmount, String msg, String command) {
-        String[] commandArray = command.split(";");
-
-        for (String cmd : commandArray) {
-            String tempCommand = cmd;
-            tempCommand = tempCommand.replaceAll("%tag%", tag);
-            tempCommand = tempCommand.replaceAll("%name%", nickname);
-            tempCommand = tempCommand.replaceAll("%amount%", String.valueOf(payAmount));
-            tempCommand = tempCommand.replaceAll("%message%", msg);
-            String finalCommand = tempCommand;
-
-            try {
-                Bukkit.getScheduler()
-                        .callSyncMethod(DoneConnector.plugin, () -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), finalCommand)).get();
-            } catch (InterruptedException | ExecutionException e) {
-                Logger.info(ChatColor.RED + e.getMessage());
-            }
-        }
+        DoneConnector.plugin.getRewardDispatcher().dispatch(soopUser.get("nickname"), finalCommands);
     }
 
     @Override
@@ -239,27 +193,52 @@ public class SoopWebSocket extends WebSocketClient {
         isAlive = false;
 
         // 스케줄러 작업 정리 (메모리 누수 방지)
-        if (pingTask != null && !pingTask.isDone()) {
-            pingTask.cancel(false);
+        if (pingTask != null) {
+            pingTask.cancel();
             pingTask = null;
         }
-        
-        // 패킷 맵 정리
-        synchronized (packetMap) {
-            packetMap.clear();
+
+        // 메시지를 기다리던 후원은 버리지 않고 메시지 없이 처리
+        if (flushOnClose) {
+            correlator.flush();
         }
+
+        // 의도하지 않은 종료면 재연결 관리자가 다시 연결
+        DoneConnector.plugin.getReconnectSupervisor()
+                .connectionLost(ReconnectSupervisor.key("숲", soopUser.get("nickname")), this);
+    }
+
+    /**
+     * 연결을 닫고, 메시지를 기다리던 후원을 호출한 스레드에서 바로 처리
+     * (플러그인 종료 시 보상 실행기가 멈추기 전에 보상 명령어가 들어가도록)
+     */
+    public void closeAndFlush() throws InterruptedException {
+        flushOnClose = false;
+        closeBlocking();
+        correlator.flush(Runnable::run);
     }
 
     @Override
     public void onError(Exception ex) {
-//        System.out.println("onError: " + ex.getMessage());
+        // 연결 오류 뒤에는 onClose가 호출되므로 재연결은 onClose에서 처리
+        Logger.error("[SoopWebsocket][" + soopUser.get("nickname") + "] 웹소켓 오류 발생: " + ex.getMessage());
     }
 
-    private static String makePacket(String command, String data) {
-        return String.format("%s%s%s%s", ESC, command, makeLengthPacket(data), data);
+    /**
+     * 패킷을 한 번만 인코딩해 읽기 전용 버퍼로 반환, 보낼 때는 sendShared로 복사 없이 재사용한다.
+     */
+    private static ByteBuffer encodePacket(String command, String data) {
+        byte[] body = data.getBytes(StandardCharsets.UTF_8);
+        byte[] header = (ESC + command + makeLengthPacket(body.length)).getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocate(header.length + body.length);
+        buffer.put(header).put(body).flip();
+        return buffer.asReadOnlyBuffer();
     }
 
-    private static String makeLengthPacket(String data) {
-        return String.format("%06d00", data.length());
+    /**
+     * 본문 길이 (문자 수가 아닌 UTF-8 바이트 수)
+     */
+    private static String makeLengthPacket(int byteLength) {
+        return String.format("%06d00", byteLength);
     }
 }
@@ -0,0 +1,279 @@
+package me.suda.doneconnector.startup;
+
+import me.suda.doneconnector.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플러그인 시작 단계 실행기
+ *
+ * 단계마다 이름, 선행 단계, 실행 스레드(메인/비동기)를 선언하면 선행 단계가 끝나는 대로 실행하고,
+ * 서로 의존하지 않는 비동기 단계는 전용 스레드에서 동시에 실행한다.
+ * 선행 단계가 실패하면 뒤 단계는 건너뛰고, 단계별 소요 시간은 시작 보고서로 남긴다.
+ * 생성 시점부터 {@link #start(Executor)} 호출까지는 onEnable의 메인 스레드 등록 시간으로 기록한다.
+ */
+public final class StartupPlan {
+
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * 단계 작업 (예외를 던지면 단계 실패)
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public enum Status {
+        DONE, FAILED, SKIPPED
+    }
+
+    /**
+     * 단계 1개의 실행 결과
+     *
+     * @param offsetMillis 시작 시점부터 단계가 시작될 때까지 걸린 시간
+     */
+    public record PhaseResult(String name, boolean mainThread, Status status, long offsetMillis,
+                              long elapsedMillis, String error) {}
+
+    private record Phase(String name, boolean mainThread, Action action, String[] dependsOn) {}
+
+    private final long createdAt = System.nanoTime();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final Map<String, PhaseResult> results = new LinkedHashMap<>();
+    private volatile boolean cancelled = false;
+    private volatile long totalMillis = -1;
+    private CompletableFuture<StartupPlan> completion;
+    private CompletableFuture<Void> asyncPhases;
+    private ExecutorService asyncExecutor;
+
+    /**
+     * 비동기 단계 추가 (전용 시작 스레드에서 실행)
+     */
+    public StartupPlan async(String name, Action action, String... dependsOn) {
+        return add(new Phase(name, false, action, dependsOn));
+    }
+
+    /**
+     * 메인 스레드 단계 추가 (선행 단계가 끝난 뒤 다음 틱에 실행)
+     */
+    public StartupPlan main(String name, Action action, String... dependsOn) {
+        return add(new Phase(name, true, action, dependsOn));
+    }
+
+    private StartupPlan add(Phase phase) {
+        if (completion != null) {
+            throw new IllegalStateException("이미 시작된 단계 목록입니다.");
+        }
+        for (String dependency : phase.dependsOn()) {
+            if (!phases.containsKey(dependency)) {
+                throw new IllegalArgumentException("선행 단계가 먼저 선언되지 않았습니다: " + phase.name() + " → " + dependency);
+            }
+        }
+        if (phases.putIfAbsent(phase.name(), phase) != null) {
+            throw new IllegalArgumentException("이미 있는 단계 이름입니다: " + phase.name());
+        }
+        return this;
+    }
+
+    /**
+     * 모든 단계 실행 시작 (onEnable에서 등록을 마친 뒤 메인 스레드에서 호출)
+     *
+     * @param mainThread 메인 스레드 단계를 실행할 실행기
+     * @return 모든 단계가 끝나면(실패/건너뜀 포함) 완료
+     */
+    public synchronized CompletableFuture<StartupPlan> start(Executor mainThread) {
+        if (completion != null) {
+            return completion;
+        }
+        record(new PhaseResult("register", true, Status.DONE, 0, millisSince(createdAt), null));
+
+        long asyncCount = phases.values().stream().filter(phase -> !phase.mainThread()).count();
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        asyncExecutor = Executors.newFixedThreadPool((int) Math.max(1, Math.min(MAX_THREADS, asyncCount)), r -> {
+            Thread thread = new Thread(r, "Done-Startup-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 선언 순서대로 만들면 선행 단계의 future가 항상 먼저 존재한다
+        Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        List<CompletableFuture<Boolean>> asyncFutures = new ArrayList<>();
+        for (Phase phase : phases.values()) {
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[phase.dependsOn().length];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = futures.get(phase.dependsOn()[i]);
+            }
+            Executor executor = phase.mainThread() ? mainThread : asyncExecutor;
+            CompletableFuture<Boolean> future = CompletableFuture.allOf(dependencies)
+                    .thenApplyAsync(ignored -> runPhase(phase, futures), executor)
+                    .exceptionally(error -> {
+                        // 실행기가 작업을 받지 못한 경우 (플러그인 종료 등)
+                        record(new PhaseResult(phase.name(), phase.mainThread(), Status.SKIPPED,
+                                millisSince(createdAt), 0, rootMessage(error)));
+                        return false;
+                    });
+            futures.put(phase.name(), future);
+            if (!phase.mainThread()) {
+                asyncFutures.add(future);
+            }
+        }
+        asyncPhases = CompletableFuture.allOf(asyncFutures.toArray(new CompletableFuture<?>[0]));
+
+        ExecutorService executor = asyncExecutor;
+        completion = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, error) -> {
+                    totalMillis = millisSince(createdAt);
+                    executor.shutdown();
+                    return this;
+                });
+        return completion;
+    }
+
+    private boolean runPhase(Phase phase, Map<String, CompletableFuture<Boolean>> futures) {
+        long offset = millisSince(createdAt);
+        for (String dependency : phase.dependsOn()) {
+            if (!futures.get(dependency).join()) {
+                record(new PhaseResult(phase.name(), phase.mainThread(), Status.SKIPPED, offset, 0,
+                        "선행 단계 실패: " + dependency));
+                return false;
+            }
+        }
+        if (cancelled) {
+            record(new PhaseResult(phase.name(), phase.mainThread(), Status.SKIPPED, offset, 0, "시작 취소"));
+            return false;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            phase.action().run();
+            record(new PhaseResult(phase.name(), phase.mainThread(), Status.DONE, offset, millisSince(startedAt), null));
+            return true;
+        } catch (Exception e) {
+            record(new PhaseResult(phase.name(), phase.mainThread(), Status.FAILED, offset, millisSince(startedAt),
+                    e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            return false;
+        }
+    }
+
+    /**
+     * 아직 시작하지 않은 단계 취소 후 실행 중인 비동기 단계가 끝나기를 잠시 기다린다. (플러그인 종료 시 메인 스레드)
+     * 메인 스레드 단계는 이 호출이 끝나야 실행될 수 있으므로 기다리지 않는다.
+     */
+    public void cancel(long timeout, TimeUnit unit) {
+        cancelled = true;
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            future = asyncPhases;
+        }
+        if (future == null) {
+            return;
+        }
+        try {
+            future.get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Logger.warn("시작 단계가 끝나지 않은 채로 종료합니다.");
+        }
+    }
+
+    /**
+     * 처음으로 실패한 단계, 없으면 null
+     */
+    public synchronized PhaseResult firstFailure() {
+        for (PhaseResult result : results.values()) {
+            if (result.status() == Status.FAILED) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 메인 스레드를 사용한 총 시간 (등록 + 메인 스레드 단계)
+     */
+    public synchronized long mainThreadMillis() {
+        long total = 0;
+        for (PhaseResult result : results.values()) {
+            if (result.mainThread()) {
+                total += result.elapsedMillis();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 시작 보고서 출력
+     */
+    public synchronized void logReport() {
+        Logger.info("시작 완료: 전체 " + totalMillis + "ms, 메인 스레드 " + mainThreadMillis() + "ms");
+        for (PhaseResult result : orderedResults()) {
+            StringBuilder line = new StringBuilder()
+                    .append("  - ").append(result.name())
+                    .append(" (").append(result.mainThread() ? "메인" : "비동기").append(")")
+                    .append(" +").append(result.offsetMillis()).append("ms 시작, ")
+                    .append(result.elapsedMillis()).append("ms");
+            if (result.status() != Status.DONE) {
+                line.append(" [").append(result.status()).append(": ").append(result.error()).append("]");
+            }
+            Logger.info(line.toString());
+        }
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("totalMillis", totalMillis);
+        metrics.put("mainThreadMillis", mainThreadMillis());
+        List<String> failed = new ArrayList<>();
+        for (PhaseResult result : orderedResults()) {
+            metrics.put(result.name() + "Millis", result.elapsedMillis());
+            if (result.status() != Status.DONE) {
+                failed.add(result.name());
+            }
+        }
+        metrics.put("notCompleted", failed);
+        return metrics;
+    }
+
+    /**
+     * 등록, 선언한 단계 순서의 결과 (아직 끝나지 않은 단계는 제외)
+     */
+    private List<PhaseResult> orderedResults() {
+        List<PhaseResult> ordered = new ArrayList<>();
+        PhaseResult register = results.get("register");
+        if (register != null) {
+            ordered.add(register);
+        }
+        for (String name : phases.keySet()) {
+            PhaseResult result = results.get(name);
+            if (result != null) {
+                ordered.add(result);
+            }
+        }
+        return ordered;
+    }
+
+    private synchronized void record(PhaseResult result) {
+        results.put(result.name(), result);
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
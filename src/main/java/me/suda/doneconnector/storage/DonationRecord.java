@@ -0,0 +1,55 @@
+package me.suda.doneconnector.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 후원 1건의 기록
+ */
+public record DonationRecord(
+        String donorName,
+        int amount,
+        String message,
+        String platform,
+        boolean isTest,
+        String timestamp
+) {
+    /**
+     * 기존 YAML 후원 데이터와 같은 키 구성의 Map으로 변환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> donation = new HashMap<>();
+        donation.put("donor_name", donorName);
+        donation.put("amount", amount);
+        donation.put("message", message != null ? message : "");
+        donation.put("platform", platform);
+        donation.put("is_test", isTest);
+        donation.put("timestamp", timestamp);
+        return donation;
+    }
+
+    /**
+     * YAML/JSON에서 읽은 Map을 기록으로 변환, 필수 값이 없으면 null
+     */
+    public static DonationRecord fromMap(Map<?, ?> donation) {
+        Object donorName = donation.get("donor_name");
+        Object amount = donation.get("amount");
+        if (donorName == null || !(amount instanceof Number)) {
+            return null;
+        }
+
+        Object message = donation.get("message");
+        Object platform = donation.get("platform");
+        Object isTest = donation.get("is_test");
+        Object timestamp = donation.get("timestamp");
+
+        return new DonationRecord(
+                donorName.toString(),
+                ((Number) amount).intValue(),
+                message != null ? message.toString() : "",
+                platform != null ? platform.toString() : "",
+                isTest instanceof Boolean && (Boolean) isTest,
+                timestamp != null ? timestamp.toString() : ""
+        );
+    }
+}
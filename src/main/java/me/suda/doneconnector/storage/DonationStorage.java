@@ -0,0 +1,54 @@
+package me.suda.doneconnector.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스트리머별 후원 기록 저장소
+ */
+public interface DonationStorage {
+
+    /**
+     * 후원 기록 추가, 기존 기록 크기와 무관하게 O(1)
+     */
+    void append(String streamerUuid, String streamerName, DonationRecord record) throws IOException;
+
+    /**
+     * 같은 스트리머의 후원 기록 여러 건을 한 번에 추가
+     */
+    void appendAll(String streamerUuid, String streamerName, List<DonationRecord> records) throws IOException;
+
+    /**
+     * 스트리머의 전체 후원 기록 조회 (저장 순서 유지)
+     */
+    List<DonationRecord> loadDonations(String streamerUuid) throws IOException;
+
+    /**
+     * 저장된 스트리머 목록 (UUID → 스트리머 이름)
+     */
+    Map<String, String> listStreamers() throws IOException;
+
+    /**
+     * 스트리머 기록이 존재하는지 확인
+     */
+    boolean exists(String streamerUuid);
+
+    /**
+     * 기존 기록을 한 번에 가져오기 (마이그레이션용)
+     */
+    void importStreamer(String streamerUuid, String streamerName, String createdAt,
+                        List<DonationRecord> records) throws IOException;
+
+    /**
+     * 아직 디스크에 동기화되지 않은 기록 fsync
+     */
+    void flush() throws IOException;
+
+    /**
+     * 스트리머 기록 압축 (스냅샷 갱신 후 저널 비우기)
+     */
+    void compact(String streamerUuid) throws IOException;
+
+    void close() throws IOException;
+}
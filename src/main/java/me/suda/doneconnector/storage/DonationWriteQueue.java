@@ -0,0 +1,206 @@
+package me.suda.doneconnector.storage;
+
+import me.suda.doneconnector.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 후원 기록 비동기 저장 큐 (write-behind)
+ *
+ * 웹소켓 스레드는 기록을 큐에 넣기만 하고, 전용 스레드 1개가 스트리머별로 묶어 저장소에 기록한다.
+ * 큐가 가득 차면 {@link #OFFER_TIMEOUT_MS}만큼만 기다린 뒤 기록을 거절하고 로그로 남긴다.
+ * 종료가 시작된 뒤에는 새 기록을 받지 않고, 그 전에 받은 기록은 모두 저장한 뒤 스레드를 끝낸다.
+ */
+public class DonationWriteQueue {
+
+    private static final long OFFER_TIMEOUT_MS = 50;
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final DonationStorage storage;
+    private final BlockingQueue<PendingDonation> queue;
+    private final int maxBatchSize;
+    private final Thread writerThread;
+
+    private volatile boolean running = false;
+    // 요청(읽기)과 종료(쓰기) 사이 관문, 종료 확인과 큐 추가 사이에 종료가 끼어들지 못하게 한다
+    private final ReadWriteLock gate = new ReentrantReadWriteLock();
+
+    // 지표
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos = 0;
+    private volatile long maxFlushNanos = 0;
+
+    private record PendingDonation(String streamerUuid, String streamerName, DonationRecord record) {}
+
+    public DonationWriteQueue(DonationStorage storage, int capacity, int maxBatchSize) {
+        this.storage = storage;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+
+        this.writerThread = new Thread(this::runWriter, "Donation-Writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        writerThread.start();
+    }
+
+    /**
+     * 후원 기록 저장 요청, 파일 I/O를 기다리지 않는다.
+     *
+     * @return 큐가 가득 찼거나 종료 중이라 거절된 경우 false
+     */
+    public boolean submit(String streamerUuid, String streamerName, DonationRecord record) {
+        PendingDonation pending = new PendingDonation(streamerUuid, streamerName, record);
+        boolean stopping = false;
+        gate.readLock().lock();
+        try {
+            if (!running) {
+                stopping = true;
+            } else if (queue.offer(pending, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                submitted.incrementAndGet();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            gate.readLock().unlock();
+        }
+
+        rejected.incrementAndGet();
+        if (stopping) {
+            Logger.error("후원 저장 스레드가 종료 중이라 기록을 저장하지 못했습니다: " + streamerName + " - " + record);
+        } else {
+            Logger.error("후원 저장 대기열이 가득 차 기록을 저장하지 못했습니다: " + streamerName + " - " + record);
+        }
+        return false;
+    }
+
+    /**
+     * 남은 기록을 모두 저장한 뒤 저장 스레드 종료
+     */
+    public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        // FileChannel은 인터럽트 시 닫히므로 interrupt 대신 플래그로 종료를 알린다
+        // 진행 중인 요청이 큐에 넣기를 마칠 때까지 기다린 뒤 종료 표시
+        gate.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            gate.writeLock().unlock();
+        }
+        writerThread.join(unit.toMillis(timeout));
+        if (writerThread.isAlive()) {
+            Logger.warn("후원 저장 스레드 종료 타임아웃 - 남은 기록: " + queue.size() + "건");
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long batchCount = batches.get();
+        metrics.put("queueDepth", queue.size());
+        metrics.put("queueCapacity", queue.size() + queue.remainingCapacity());
+        metrics.put("submitted", submitted.get());
+        metrics.put("written", written.get());
+        metrics.put("rejected", rejected.get());
+        metrics.put("failed", failed.get());
+        metrics.put("batches", batchCount);
+        metrics.put("lastFlushMs", nanosToMillis(lastFlushNanos));
+        metrics.put("maxFlushMs", nanosToMillis(maxFlushNanos));
+        metrics.put("avgFlushMs", batchCount > 0 ? nanosToMillis(totalFlushNanos.get() / batchCount) : 0.0);
+        return metrics;
+    }
+
+    private void runWriter() {
+        List<PendingDonation> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingDonation first = running
+                        ? queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                        : queue.poll();
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            queue.drainTo(batch, maxBatchSize - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        // 종료 직전에 들어온 기록까지 한 번 더 비운다
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        try {
+            storage.flush();
+        } catch (Exception e) {
+            Logger.error("후원 기록 동기화 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void writeBatch(List<PendingDonation> batch) {
+        long start = System.nanoTime();
+
+        // 스트리머별로 묶어서 한 번에 기록
+        Map<String, List<PendingDonation>> byStreamer = new LinkedHashMap<>();
+        for (PendingDonation pending : batch) {
+            byStreamer.computeIfAbsent(pending.streamerUuid(), key -> new ArrayList<>()).add(pending);
+        }
+
+        for (Map.Entry<String, List<PendingDonation>> entry : byStreamer.entrySet()) {
+            List<PendingDonation> pendings = entry.getValue();
+            List<DonationRecord> records = new ArrayList<>(pendings.size());
+            for (PendingDonation pending : pendings) {
+                records.add(pending.record());
+            }
+
+            String streamerName = pendings.get(pendings.size() - 1).streamerName();
+            try {
+                storage.appendAll(entry.getKey(), streamerName, records);
+                written.addAndGet(records.size());
+            } catch (Exception e) {
+                failed.addAndGet(records.size());
+                Logger.error("후원 기록 저장 중 오류 발생 (" + streamerName + ", " + records.size() + "건): " + e.getMessage());
+            }
+        }
+
+        try {
+            storage.flush();
+        } catch (Exception e) {
+            Logger.error("후원 기록 동기화 중 오류 발생: " + e.getMessage());
+        }
+
+        long elapsed = System.nanoTime() - start;
+        batches.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsed);
+        lastFlushNanos = elapsed;
+        if (elapsed > maxFlushNanos) {
+            maxFlushNanos = elapsed;
+        }
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
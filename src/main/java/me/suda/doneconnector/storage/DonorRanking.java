@@ -0,0 +1,76 @@
+package me.suda.doneconnector.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 후원 금액 순으로 정렬 상태를 유지하는 후원자 랭킹
+ *
+ * 후원 1건 반영은 O(log n), 상위 k명 조회는 정렬 없이 앞에서부터 읽는다.
+ */
+public class DonorRanking {
+
+    private static final Comparator<DonorTotal> ORDER = Comparator
+            .comparingInt(DonorTotal::totalAmount).reversed()
+            .thenComparing(DonorTotal::donorName);
+
+    private final Map<String, DonorTotal> byDonor = new HashMap<>();
+    private final TreeSet<DonorTotal> ordered = new TreeSet<>(ORDER);
+    private int totalAmount = 0;
+    private int totalCount = 0;
+
+    synchronized void add(String donorName, int amount) {
+        DonorTotal previous = byDonor.get(donorName);
+        DonorTotal updated;
+        if (previous != null) {
+            ordered.remove(previous);
+            updated = previous.plus(amount);
+        } else {
+            updated = new DonorTotal(donorName, amount, 1);
+        }
+        byDonor.put(donorName, updated);
+        ordered.add(updated);
+
+        totalAmount += amount;
+        totalCount++;
+    }
+
+    /**
+     * 랭킹 구간 조회
+     *
+     * @param offset 건너뛸 순위 수 (0부터)
+     * @param limit  최대 조회 인원
+     */
+    public synchronized List<DonorTotal> top(int offset, int limit) {
+        List<DonorTotal> result = new ArrayList<>(Math.min(limit, Math.max(0, ordered.size() - offset)));
+        Iterator<DonorTotal> iterator = ordered.iterator();
+        for (int i = 0; i < offset && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public synchronized List<DonorTotal> all() {
+        return new ArrayList<>(ordered);
+    }
+
+    public synchronized int donorCount() {
+        return byDonor.size();
+    }
+
+    public synchronized int totalAmount() {
+        return totalAmount;
+    }
+
+    public synchronized int totalCount() {
+        return totalCount;
+    }
+}
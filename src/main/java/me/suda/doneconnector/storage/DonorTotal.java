@@ -0,0 +1,11 @@
+package me.suda.doneconnector.storage;
+
+/**
+ * 후원자 1명의 누적 후원 금액과 횟수
+ */
+public record DonorTotal(String donorName, int totalAmount, int totalCount) {
+
+    DonorTotal plus(int amount) {
+        return new DonorTotal(donorName, totalAmount + amount, totalCount + 1);
+    }
+}
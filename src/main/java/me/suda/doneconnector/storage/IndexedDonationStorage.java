@@ -0,0 +1,134 @@
+package me.suda.doneconnector.storage;
+
+import me.suda.doneconnector.Logger;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장과 동시에 스트리머별 후원 집계를 갱신하는 저장소 래퍼
+ *
+ * 집계는 처음 조회될 때 한 번만 전체 기록을 읽어 만들고, 이후에는 저장되는 기록만 반영한다.
+ * 집계 생성과 기록 추가는 같은 스트리머 잠금 안에서 수행되어 중복/누락 반영이 없다.
+ */
+public class IndexedDonationStorage implements DonationStorage {
+
+    private final DonationStorage delegate;
+    private final Map<String, StreamerDonationIndex> indexes = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    public IndexedDonationStorage(DonationStorage delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 스트리머 후원 집계 조회, 기록이 없으면 null
+     */
+    public StreamerDonationIndex getIndex(String streamerUuid) throws IOException {
+        StreamerDonationIndex index = indexes.get(streamerUuid);
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (lock(streamerUuid)) {
+            index = indexes.get(streamerUuid);
+            if (index == null) {
+                if (!delegate.exists(streamerUuid)) {
+                    return null;
+                }
+                index = new StreamerDonationIndex();
+                for (DonationRecord record : delegate.loadDonations(streamerUuid)) {
+                    index.add(record);
+                }
+                indexes.put(streamerUuid, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * 저장된 모든 스트리머의 집계를 미리 생성 (시작 단계에서 호출)
+     * 읽지 못한 스트리머는 건너뛰고 첫 조회 때 다시 시도한다.
+     *
+     * @return 집계를 만든 스트리머 수
+     */
+    public int warmUp() throws IOException {
+        int warmed = 0;
+        for (String streamerUuid : delegate.listStreamers().keySet()) {
+            try {
+                if (getIndex(streamerUuid) != null) {
+                    warmed++;
+                }
+            } catch (IOException e) {
+                Logger.warn("후원 집계를 미리 불러오지 못했습니다 (" + streamerUuid + "): " + e.getMessage());
+            }
+        }
+        return warmed;
+    }
+
+    @Override
+    public void append(String streamerUuid, String streamerName, DonationRecord record) throws IOException {
+        appendAll(streamerUuid, streamerName, List.of(record));
+    }
+
+    @Override
+    public void appendAll(String streamerUuid, String streamerName, List<DonationRecord> records) throws IOException {
+        synchronized (lock(streamerUuid)) {
+            delegate.appendAll(streamerUuid, streamerName, records);
+
+            // 이미 만들어진 집계에만 반영 (없으면 첫 조회 시 파일에서 생성)
+            StreamerDonationIndex index = indexes.get(streamerUuid);
+            if (index != null) {
+                for (DonationRecord record : records) {
+                    index.add(record);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<DonationRecord> loadDonations(String streamerUuid) throws IOException {
+        return delegate.loadDonations(streamerUuid);
+    }
+
+    @Override
+    public Map<String, String> listStreamers() throws IOException {
+        return delegate.listStreamers();
+    }
+
+    @Override
+    public boolean exists(String streamerUuid) {
+        return delegate.exists(streamerUuid);
+    }
+
+    @Override
+    public void importStreamer(String streamerUuid, String streamerName, String createdAt,
+                               List<DonationRecord> records) throws IOException {
+        synchronized (lock(streamerUuid)) {
+            delegate.importStreamer(streamerUuid, streamerName, createdAt, records);
+            indexes.remove(streamerUuid);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        delegate.flush();
+    }
+
+    @Override
+    public void compact(String streamerUuid) throws IOException {
+        delegate.compact(streamerUuid);
+    }
+
+    @Override
+    public void close() throws IOException {
+        indexes.clear();
+        delegate.close();
+    }
+
+    private Object lock(String streamerUuid) {
+        return locks.computeIfAbsent(streamerUuid, key -> new Object());
+    }
+}
@@ -0,0 +1,482 @@
+package me.suda.doneconnector.storage;
+
+import me.suda.doneconnector.Logger;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 줄 단위 JSON 저널 기반 후원 저장소
+ *
+ * 스트리머마다 {@code <uuid>.snapshot}(압축된 기록)과 {@code <uuid>.journal}(추가 전용 기록)을 둔다.
+ * 후원 1건 저장은 저널 끝에 한 줄을 쓰는 것으로 끝나며, fsync는 {@link #flush()} 또는
+ * 동기화되지 않은 기록이 {@link #SYNC_BATCH_SIZE}건 쌓였을 때 묶어서 수행한다.
+ *
+ * 저널 헤더에는 저널마다 새로 만든 id를, 스냅샷 헤더에는 압축해 넣은 저널의 id를 기록한다.
+ * 스냅샷 교체 후 저널 삭제 전에 종료되어 남은 저널은 이 id로 알아보고 다시 읽지 않는다.
+ */
+public class JournalDonationStorage implements DonationStorage {
+
+    public static final String SNAPSHOT_EXTENSION = ".snapshot";
+    public static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final int SYNC_BATCH_SIZE = 32;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String TYPE_STREAMER = "streamer";
+    private static final String TYPE_DONATION = "donation";
+
+    private static final String JOURNAL_ID = "journal_id";
+    private static final String COMPACTED_JOURNAL = "compacted_journal";
+
+    private final File dataDir;
+    private final Map<String, StreamerJournal> journals = new ConcurrentHashMap<>();
+
+    public JournalDonationStorage(File dataDir) {
+        this.dataDir = dataDir;
+    }
+
+    @Override
+    public void append(String streamerUuid, String streamerName, DonationRecord record) throws IOException {
+        journal(streamerUuid).append(streamerName, List.of(record));
+    }
+
+    @Override
+    public void appendAll(String streamerUuid, String streamerName, List<DonationRecord> records) throws IOException {
+        if (!records.isEmpty()) {
+            journal(streamerUuid).append(streamerName, records);
+        }
+    }
+
+    @Override
+    public List<DonationRecord> loadDonations(String streamerUuid) throws IOException {
+        return journal(streamerUuid).read().donations;
+    }
+
+    @Override
+    public Map<String, String> listStreamers() throws IOException {
+        Map<String, String> streamers = new HashMap<>();
+        File[] files = dataDir.listFiles((dir, name) ->
+                name.endsWith(SNAPSHOT_EXTENSION) || name.endsWith(JOURNAL_EXTENSION));
+        if (files == null) {
+            return streamers;
+        }
+
+        for (File file : files) {
+            String name = file.getName();
+            String streamerUuid = name.substring(0, name.lastIndexOf('.'));
+            if (streamers.containsKey(streamerUuid)) {
+                continue;
+            }
+
+            String streamerName = readStreamerName(file);
+            if (streamerName != null) {
+                streamers.put(streamerUuid, streamerName);
+            }
+        }
+        return streamers;
+    }
+
+    @Override
+    public boolean exists(String streamerUuid) {
+        return snapshotFile(streamerUuid).exists() || journalFile(streamerUuid).exists();
+    }
+
+    @Override
+    public void importStreamer(String streamerUuid, String streamerName, String createdAt,
+                               List<DonationRecord> records) throws IOException {
+        journal(streamerUuid).writeSnapshot(streamerName, createdAt, records, null);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        IOException failure = null;
+        for (StreamerJournal journal : journals.values()) {
+            try {
+                journal.sync();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void compact(String streamerUuid) throws IOException {
+        journal(streamerUuid).compact();
+    }
+
+    /**
+     * 저널 크기가 기준치를 넘은 스트리머 기록 압축
+     */
+    public void compactLargerThan(long journalBytes) {
+        File[] files = dataDir.listFiles((dir, name) -> name.endsWith(JOURNAL_EXTENSION));
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.length() < journalBytes) {
+                continue;
+            }
+            String name = file.getName();
+            String streamerUuid = name.substring(0, name.length() - JOURNAL_EXTENSION.length());
+            try {
+                compact(streamerUuid);
+                Logger.debug("후원 저널 압축 완료: " + streamerUuid);
+            } catch (IOException e) {
+                Logger.error("후원 저널 압축 중 오류 발생 (" + streamerUuid + "): " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (StreamerJournal journal : journals.values()) {
+            try {
+                journal.closeChannel();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        journals.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private StreamerJournal journal(String streamerUuid) {
+        return journals.computeIfAbsent(streamerUuid, StreamerJournal::new);
+    }
+
+    private File snapshotFile(String streamerUuid) {
+        return new File(dataDir, streamerUuid + SNAPSHOT_EXTENSION);
+    }
+
+    private File journalFile(String streamerUuid) {
+        return new File(dataDir, streamerUuid + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * 파일 첫 줄의 스트리머 헤더에서 이름 읽기
+     */
+    private String readStreamerName(File file) {
+        Map<?, ?> header = readHeader(file);
+        Object streamerName = header != null ? header.get("streamer_name") : null;
+        return streamerName != null ? streamerName.toString() : null;
+    }
+
+    /**
+     * 파일 첫 줄의 스트리머 헤더, 없거나 읽지 못하면 null
+     */
+    private Map<?, ?> readHeader(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || line.isEmpty()) {
+                return null;
+            }
+            Object parsed = new JSONParser().parse(line);
+            if (parsed instanceof Map<?, ?> header && TYPE_STREAMER.equals(header.get("type"))) {
+                return header;
+            }
+        } catch (Exception e) {
+            Logger.debug("스트리머 헤더 읽기 중 오류 (파일: " + file.getName() + "): " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 스트리머 정보 헤더 줄
+     *
+     * @param idKey 저널 id({@link #JOURNAL_ID}) 또는 압축한 저널 id({@link #COMPACTED_JOURNAL}) 키
+     * @param id    null이면 기록하지 않는다
+     */
+    @SuppressWarnings("unchecked")
+    private static String encodeHeader(String streamerUuid, String streamerName, String createdAt,
+                                       String idKey, String id) {
+        JSONObject header = new JSONObject();
+        header.put("type", TYPE_STREAMER);
+        header.put("streamer_name", streamerName);
+        header.put("streamer_uuid", streamerUuid);
+        header.put("created_at", createdAt);
+        if (id != null) {
+            header.put(idKey, id);
+        }
+        return header.toJSONString() + "\n";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String encodeDonation(DonationRecord record) {
+        JSONObject donation = new JSONObject();
+        donation.put("type", TYPE_DONATION);
+        donation.putAll(record.toMap());
+        return donation.toJSONString() + "\n";
+    }
+
+    /**
+     * 스냅샷 + 저널을 읽은 결과
+     */
+    private static class JournalContents {
+        String streamerName;
+        String createdAt;
+        // 스냅샷에 이미 들어간 저널 id, 현재 저널 id
+        String compactedJournalId;
+        String journalId;
+        boolean journalCompacted;
+        final List<DonationRecord> donations = new ArrayList<>();
+    }
+
+    /**
+     * 스트리머 1명의 저널 파일 핸들, 모든 파일 작업은 이 객체 단위로 직렬화된다.
+     */
+    private class StreamerJournal {
+        private final String streamerUuid;
+        private FileChannel channel;
+        private int unsyncedRecords = 0;
+
+        StreamerJournal(String streamerUuid) {
+            this.streamerUuid = streamerUuid;
+        }
+
+        synchronized void append(String streamerName, List<DonationRecord> records) throws IOException {
+            FileChannel out = openChannel();
+            StringBuilder lines = new StringBuilder();
+            if (out.size() == 0) {
+                // 새 저널은 스트리머 정보와 저널 id 헤더로 시작
+                lines.append(encodeHeader(streamerUuid, streamerName, LocalDateTime.now().format(TIMESTAMP_FORMAT),
+                        JOURNAL_ID, UUID.randomUUID().toString()));
+            }
+            for (DonationRecord record : records) {
+                lines.append(encodeDonation(record));
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+
+            unsyncedRecords += records.size();
+            if (unsyncedRecords >= SYNC_BATCH_SIZE) {
+                sync();
+            }
+        }
+
+        synchronized void sync() throws IOException {
+            if (channel != null && unsyncedRecords > 0) {
+                channel.force(false);
+                unsyncedRecords = 0;
+            }
+        }
+
+        synchronized JournalContents read() throws IOException {
+            JournalContents contents = new JournalContents();
+            JSONParser parser = new JSONParser();
+            readInto(snapshotFile(streamerUuid), parser, contents);
+            readInto(journalFile(streamerUuid), parser, contents);
+            return contents;
+        }
+
+        /**
+         * @param compactedJournalId 스냅샷에 합친 저널의 id (가져오기 등 저널이 없으면 null)
+         */
+        synchronized void writeSnapshot(String streamerName, String createdAt, List<DonationRecord> records,
+                                        String compactedJournalId) throws IOException {
+            Path snapshot = snapshotFile(streamerUuid).toPath();
+            Path temp = new File(dataDir, streamerUuid + SNAPSHOT_EXTENSION + ".tmp").toPath();
+
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                StringBuilder lines = new StringBuilder(encodeHeader(streamerUuid, streamerName, createdAt,
+                        COMPACTED_JOURNAL, compactedJournalId));
+                for (DonationRecord record : records) {
+                    lines.append(encodeDonation(record));
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                out.force(true);
+            }
+
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        synchronized void compact() throws IOException {
+            File journal = journalFile(streamerUuid);
+            if (!journal.exists()) {
+                return;
+            }
+
+            closeChannel();
+            JournalContents contents = read();
+            if (contents.journalCompacted) {
+                // 지난 압축이 스냅샷 교체 후 저널을 지우기 전에 중단된 경우
+                Files.deleteIfExists(journal.toPath());
+                return;
+            }
+
+            String streamerName = contents.streamerName != null ? contents.streamerName : streamerUuid;
+            String createdAt = contents.createdAt != null
+                    ? contents.createdAt
+                    : LocalDateTime.now().format(TIMESTAMP_FORMAT);
+            // 스냅샷 교체와 저널 삭제 사이에 종료되어도 스냅샷 헤더의 저널 id로 중복을 걸러낸다
+            writeSnapshot(streamerName, createdAt, contents.donations, contents.journalId);
+            Files.deleteIfExists(journal.toPath());
+        }
+
+        synchronized void closeChannel() throws IOException {
+            if (channel != null) {
+                try {
+                    sync();
+                } finally {
+                    channel.close();
+                    channel = null;
+                }
+            }
+        }
+
+        private FileChannel openChannel() throws IOException {
+            if (channel == null) {
+                if (!dataDir.exists() && !dataDir.mkdirs()) {
+                    throw new IOException("데이터 디렉토리 생성에 실패했습니다: " + dataDir.getAbsolutePath());
+                }
+                Path path = journalFile(streamerUuid).toPath();
+                if (isCompactedJournal()) {
+                    // 이미 스냅샷에 합쳐진 저널에 이어 쓰면 새 기록까지 읽히지 않는다
+                    Files.deleteIfExists(path);
+                } else if (Files.exists(path)) {
+                    trimTornTail(path);
+                }
+                channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            return channel;
+        }
+
+        /**
+         * 남아 있는 저널이 스냅샷 헤더에 기록된 압축된 저널인지
+         */
+        private boolean isCompactedJournal() {
+            Map<?, ?> snapshot = readHeader(snapshotFile(streamerUuid));
+            Object compactedJournal = snapshot != null ? snapshot.get(COMPACTED_JOURNAL) : null;
+            if (compactedJournal == null) {
+                return false;
+            }
+            Map<?, ?> journal = readHeader(journalFile(streamerUuid));
+            return journal != null && compactedJournal.equals(journal.get(JOURNAL_ID));
+        }
+
+        /**
+         * 비정상 종료로 줄바꿈 없이 끝난 마지막 줄 제거
+         * (남겨두면 다음 기록이 같은 줄에 이어 붙어 함께 손상된다)
+         */
+        private void trimTornTail(Path path) throws IOException {
+            try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = file.size();
+                long end = size;
+                ByteBuffer buffer = ByteBuffer.allocate(4096);
+                search:
+                while (end > 0) {
+                    int length = (int) Math.min(buffer.capacity(), end);
+                    long start = end - length;
+                    buffer.clear().limit(length);
+                    while (buffer.hasRemaining()) {
+                        if (file.read(buffer, start + buffer.position()) < 0) {
+                            break;
+                        }
+                    }
+                    for (int i = buffer.position() - 1; i >= 0; i--) {
+                        if (buffer.get(i) == '\n') {
+                            end = start + i + 1;
+                            break search;
+                        }
+                    }
+                    end = start;
+                }
+
+                if (end < size) {
+                    file.truncate(end);
+                    file.force(true);
+                    Logger.warn("비정상 종료로 잘린 후원 기록을 정리했습니다 (파일: " + path.getFileName()
+                            + ", " + (size - end) + "바이트)");
+                }
+            }
+        }
+
+        private void readInto(File file, JSONParser parser, JournalContents contents) throws IOException {
+            if (!file.exists()) {
+                return;
+            }
+
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+
+                    Map<?, ?> entry;
+                    try {
+                        entry = (Map<?, ?>) parser.parse(line);
+                    } catch (Exception e) {
+                        // 비정상 종료로 잘린 마지막 줄 등은 건너뛴다 (압축 시 제거됨)
+                        Logger.warn("손상된 후원 기록을 건너뜁니다 (파일: " + file.getName() + ")");
+                        continue;
+                    }
+
+                    if (TYPE_STREAMER.equals(entry.get("type"))) {
+                        Object compactedJournal = entry.get(COMPACTED_JOURNAL);
+                        if (compactedJournal != null && contents.compactedJournalId == null) {
+                            contents.compactedJournalId = compactedJournal.toString();
+                        }
+                        Object journalId = entry.get(JOURNAL_ID);
+                        if (journalId != null) {
+                            contents.journalId = journalId.toString();
+                            if (contents.journalId.equals(contents.compactedJournalId)) {
+                                // 이미 스냅샷에 합쳐진 저널
+                                contents.journalCompacted = true;
+                                return;
+                            }
+                        }
+                        if (contents.streamerName == null) {
+                            Object streamerName = entry.get("streamer_name");
+                            Object createdAt = entry.get("created_at");
+                            contents.streamerName = streamerName != null ? streamerName.toString() : null;
+                            contents.createdAt = createdAt != null ? createdAt.toString() : null;
+                        }
+                        continue;
+                    }
+
+                    DonationRecord record = DonationRecord.fromMap(entry);
+                    if (record != null) {
+                        contents.donations.add(record);
+                    }
+                }
+            }
+        }
+    }
+}
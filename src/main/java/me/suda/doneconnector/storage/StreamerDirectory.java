@@ -0,0 +1,207 @@
+package me.suda.doneconnector.storage;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 스트리머 이름 → UUID 디렉토리 ({@code data/streamers.yml})
+ *
+ * 이름 조회와 탭 자동완성은 메모리에서만 처리하고 후원 기록 파일은 읽지 않는다.
+ * 인덱스 파일이 없으면 첫 조회 시 저장소에서 한 번 다시 만든다.
+ * 다시 만들 때는 새 맵을 채운 뒤 통째로 교체하므로 조회 중에 빈 디렉토리가 보이지 않는다.
+ */
+public class StreamerDirectory {
+
+    public static final String FILE_NAME = "streamers.yml";
+    private static final String SECTION = "streamers";
+
+    private final File file;
+    private final DonationStorage storage;
+
+    // 맵 변경과 교체는 lock 안에서만 (조회는 잠그지 않음)
+    private final Object lock = new Object();
+    private volatile Map<String, String> namesByUuid = new ConcurrentHashMap<>();
+    private volatile Map<String, String> uuidsByName = new ConcurrentHashMap<>();
+    // 다시 만드는 중에 들어온 등록, 교체할 새 맵에도 반영한다
+    private Map<String, String> updatedDuringRebuild;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicBoolean saveScheduled = new AtomicBoolean(false);
+    private volatile boolean loaded = false;
+
+    public StreamerDirectory(File dataDir, DonationStorage storage) {
+        this.file = new File(dataDir, FILE_NAME);
+        this.storage = storage;
+    }
+
+    /**
+     * 스트리머 이름 등록/갱신, 바뀐 경우에만 비동기로 인덱스 파일에 저장
+     */
+    public void update(String streamerUuid, String streamerName) {
+        ensureLoaded();
+        boolean changed;
+        synchronized (lock) {
+            changed = put(namesByUuid, uuidsByName, streamerUuid, streamerName);
+            if (updatedDuringRebuild != null) {
+                updatedDuringRebuild.put(streamerUuid, streamerName);
+            }
+        }
+        if (changed) {
+            dirty.set(true);
+            scheduleSave();
+        }
+    }
+
+    /**
+     * 이름으로 UUID 조회 (대소문자 무시), 없으면 null
+     */
+    public String findUuid(String streamerName) {
+        ensureLoaded();
+        return uuidsByName.get(key(streamerName));
+    }
+
+    /**
+     * 등록된 스트리머 이름 목록
+     */
+    public List<String> names() {
+        ensureLoaded();
+        return new ArrayList<>(namesByUuid.values());
+    }
+
+    /**
+     * 인덱스 파일을 버리고 저장소 기준으로 다시 생성
+     */
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            updatedDuringRebuild = new HashMap<>();
+        }
+
+        Map<String, String> streamers = null;
+        try {
+            streamers = storage.listStreamers();
+        } catch (IOException e) {
+            Logger.error("스트리머 디렉토리 생성 중 오류 발생: " + e.getMessage());
+        }
+
+        synchronized (lock) {
+            if (streamers != null) {
+                Map<String, String> merged = new HashMap<>(streamers);
+                merged.putAll(updatedDuringRebuild);
+                replace(merged);
+                Logger.info("스트리머 디렉토리를 다시 생성했습니다: " + namesByUuid.size() + "명");
+            }
+            updatedDuringRebuild = null;
+        }
+        loaded = true;
+        dirty.set(true);
+        save();
+    }
+
+    /**
+     * 변경 사항이 있으면 인덱스 파일에 즉시 저장
+     */
+    public synchronized void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<String, String> entry : namesByUuid.entrySet()) {
+            config.set(SECTION + "." + entry.getKey(), entry.getValue());
+        }
+
+        File tmpFile = new File(file.getParentFile(), FILE_NAME + ".tmp");
+        try {
+            config.save(tmpFile);
+            Files.move(tmpFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            Logger.error("스트리머 디렉토리 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (!file.exists()) {
+                rebuild();
+                return;
+            }
+
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+            ConfigurationSection section = config.getConfigurationSection(SECTION);
+            Map<String, String> streamers = new HashMap<>();
+            if (section != null) {
+                for (String streamerUuid : section.getKeys(false)) {
+                    String streamerName = section.getString(streamerUuid);
+                    if (streamerName != null && !streamerName.isEmpty()) {
+                        streamers.put(streamerUuid, streamerName);
+                    }
+                }
+            }
+            synchronized (lock) {
+                replace(streamers);
+            }
+            loaded = true;
+            Logger.debug("스트리머 디렉토리 로드 완료: " + namesByUuid.size() + "명");
+        }
+    }
+
+    /**
+     * 새 맵을 채워 기존 맵과 교체 (lock 안에서 호출)
+     */
+    private void replace(Map<String, String> streamers) {
+        Map<String, String> names = new ConcurrentHashMap<>();
+        Map<String, String> uuids = new ConcurrentHashMap<>();
+        for (Map.Entry<String, String> entry : streamers.entrySet()) {
+            put(names, uuids, entry.getKey(), entry.getValue());
+        }
+        namesByUuid = names;
+        uuidsByName = uuids;
+    }
+
+    private static boolean put(Map<String, String> namesByUuid, Map<String, String> uuidsByName,
+                               String streamerUuid, String streamerName) {
+        String previous = namesByUuid.put(streamerUuid, streamerName);
+        if (streamerName.equals(previous)) {
+            return false;
+        }
+        if (previous != null) {
+            uuidsByName.remove(key(previous), streamerUuid);
+        }
+        uuidsByName.put(key(streamerName), streamerUuid);
+        return true;
+    }
+
+    private void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                saveScheduled.set(false);
+                save();
+            });
+        }
+    }
+
+    private static String key(String streamerName) {
+        return streamerName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,90 @@
+package me.suda.doneconnector.storage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스트리머 1명의 후원 집계 (전체/실제 후원 랭킹, 주간/월간 랭킹)
+ *
+ * 주간/월간 집계는 기존 통계와 같이 실제 후원만 포함한다.
+ */
+public class StreamerDonationIndex {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DonorRanking EMPTY = new DonorRanking();
+
+    private final DonorRanking allRanking = new DonorRanking();
+    private final DonorRanking realRanking = new DonorRanking();
+    private final Map<LocalDate, DonorRanking> weeklyRankings = new ConcurrentHashMap<>();
+    private final Map<YearMonth, DonorRanking> monthlyRankings = new ConcurrentHashMap<>();
+
+    void add(DonationRecord record) {
+        allRanking.add(record.donorName(), record.amount());
+        if (record.isTest()) {
+            return;
+        }
+        realRanking.add(record.donorName(), record.amount());
+
+        LocalDateTime donatedAt = parseTimestamp(record.timestamp());
+        if (donatedAt == null) {
+            return;
+        }
+        weeklyRankings.computeIfAbsent(weekStart(donatedAt.toLocalDate()), key -> new DonorRanking())
+                .add(record.donorName(), record.amount());
+        monthlyRankings.computeIfAbsent(YearMonth.from(donatedAt), key -> new DonorRanking())
+                .add(record.donorName(), record.amount());
+    }
+
+    /**
+     * 전체 기간 랭킹
+     *
+     * @param includeTest 테스트 후원 포함 여부
+     */
+    public DonorRanking getRanking(boolean includeTest) {
+        return includeTest ? allRanking : realRanking;
+    }
+
+    /**
+     * 해당 날짜가 속한 주(월요일~일요일)의 실제 후원 랭킹
+     */
+    public DonorRanking getWeeklyRanking(LocalDate date) {
+        return weeklyRankings.getOrDefault(weekStart(date), EMPTY);
+    }
+
+    /**
+     * 해당 월의 실제 후원 랭킹
+     */
+    public DonorRanking getMonthlyRanking(YearMonth month) {
+        return monthlyRankings.getOrDefault(month, EMPTY);
+    }
+
+    public int getTestDonationCount() {
+        return allRanking.totalCount() - realRanking.totalCount();
+    }
+
+    public int getTestDonationAmount() {
+        return allRanking.totalAmount() - realRanking.totalAmount();
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDateTime parseTimestamp(String timestamp) {
+        if (timestamp == null || timestamp.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(timestamp, TIMESTAMP_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package me.suda.doneconnector.storage;
+
+import me.suda.doneconnector.Logger;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 기존 {@code data/<uuid>.yml} 후원 데이터를 저널 저장소로 옮기는 1회성 마이그레이터
+ *
+ * 옮긴 YAML 파일은 {@code <uuid>.yml.migrated}로 이름을 바꿔 보관한다.
+ */
+public class YamlDonationMigrator {
+
+    private static final String MIGRATED_EXTENSION = ".migrated";
+
+    private final File dataDir;
+    private final DonationStorage storage;
+
+    public YamlDonationMigrator(File dataDir, DonationStorage storage) {
+        this.dataDir = dataDir;
+        this.storage = storage;
+    }
+
+    /**
+     * 마이그레이션 실행
+     *
+     * @return 옮긴 스트리머 수
+     */
+    public int migrate() {
+        File[] ymlFiles = dataDir.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (ymlFiles == null || ymlFiles.length == 0) {
+            return 0;
+        }
+
+        int migrated = 0;
+        for (File ymlFile : ymlFiles) {
+            String streamerUuid = ymlFile.getName().substring(0, ymlFile.getName().length() - ".yml".length());
+            if (!isUuid(streamerUuid)) {
+                continue;
+            }
+
+            try {
+                // 스냅샷 작성 후 이름 변경 전에 중단된 경우 다시 가져오지 않는다
+                if (!storage.exists(streamerUuid)) {
+                    migrateFile(streamerUuid, ymlFile);
+                }
+
+                File backup = new File(dataDir, ymlFile.getName() + MIGRATED_EXTENSION);
+                if (!ymlFile.renameTo(backup)) {
+                    Logger.warn("마이그레이션한 후원 데이터 파일 이름 변경에 실패했습니다: " + ymlFile.getName());
+                }
+                migrated++;
+            } catch (Exception e) {
+                Logger.error("후원 데이터 마이그레이션 중 오류 발생 (파일: " + ymlFile.getName() + "): " + e.getMessage());
+            }
+        }
+
+        if (migrated > 0) {
+            Logger.info(ChatColor.GREEN + "기존 후원 데이터 " + migrated + "개를 저널 저장소로 옮겼습니다.");
+        }
+        return migrated;
+    }
+
+    private void migrateFile(String streamerUuid, File ymlFile) throws Exception {
+        FileConfiguration config = YamlConfiguration.loadConfiguration(ymlFile);
+
+        String streamerName = config.getString("streamer_name", streamerUuid);
+        String createdAt = config.getString("created_at", "");
+
+        List<DonationRecord> records = new ArrayList<>();
+        List<?> donations = config.getList("donations");
+        if (donations != null) {
+            for (Object donationObj : donations) {
+                if (!(donationObj instanceof Map<?, ?> donation)) {
+                    continue;
+                }
+                DonationRecord record = DonationRecord.fromMap(donation);
+                if (record == null) {
+                    Logger.warn("잘못된 후원 데이터를 건너뜁니다 (파일: " + ymlFile.getName() + "): " + donation);
+                    continue;
+                }
+                records.add(record);
+            }
+        }
+
+        storage.importStreamer(streamerUuid, streamerName, createdAt, records);
+        Logger.debug("후원 데이터 마이그레이션 완료: " + streamerName + " - " + records.size() + "건");
+    }
+
+    private static boolean isUuid(String value) {
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
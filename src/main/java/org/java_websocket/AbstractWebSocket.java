@@ -30,8 +30,10 @@ import java.util.Collection;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.util.HeartbeatScheduler;
 import org.java_websocket.util.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +78,17 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
    */
   private ScheduledFuture<?> connectionLostCheckerFuture;
 
+  /**
+   * Attribute for a shared scheduler to run the lost connection check on, null for a scheduler per
+   * instance
+   */
+  private HeartbeatScheduler heartbeatScheduler;
+
+  /**
+   * Attribute for the lost connection check registered with the shared scheduler
+   */
+  private HeartbeatScheduler.Registration connectionLostCheckerRegistration;
+
   /**
    * Attribute for the lost connection check interval in nanoseconds
    *
@@ -97,6 +110,11 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
    */
   private boolean daemon = false;
 
+  /**
+   * Attribute for the factory used to create internal threads, null for plain platform threads
+   */
+  private ThreadFactory threadFactory;
+
   /**
    * Attribute to sync on
    */
@@ -156,7 +174,8 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
    */
   protected void stopConnectionLostTimer() {
     synchronized (syncConnectionLost) {
-      if (connectionLostCheckerService != null || connectionLostCheckerFuture != null) {
+      if (connectionLostCheckerService != null || connectionLostCheckerFuture != null
+          || connectionLostCheckerRegistration != null) {
         this.websocketRunning = false;
         log.trace("Connection lost timer stopped");
         cancelConnectionLostTimer();
@@ -188,8 +207,6 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
    */
   private void restartConnectionLostTimer() {
     cancelConnectionLostTimer();
-    connectionLostCheckerService = Executors
-        .newSingleThreadScheduledExecutor(new NamedThreadFactory("connectionLostChecker", daemon));
     Runnable connectionLostChecker = new Runnable() {
 
       /**
@@ -216,6 +233,15 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
       }
     };
 
+    if (heartbeatScheduler != null) {
+      connectionLostCheckerRegistration = heartbeatScheduler
+          .schedulePeriodic(connectionLostChecker, connectionLostTimeout, connectionLostTimeout,
+              TimeUnit.NANOSECONDS);
+      return;
+    }
+
+    connectionLostCheckerService = Executors.newSingleThreadScheduledExecutor(
+        threadFactory != null ? threadFactory : new NamedThreadFactory("connectionLostChecker", daemon));
     connectionLostCheckerFuture = connectionLostCheckerService
         .scheduleAtFixedRate(connectionLostChecker, connectionLostTimeout, connectionLostTimeout,
             TimeUnit.NANOSECONDS);
@@ -269,6 +295,10 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
       connectionLostCheckerFuture.cancel(false);
       connectionLostCheckerFuture = null;
     }
+    if (connectionLostCheckerRegistration != null) {
+      connectionLostCheckerRegistration.cancel();
+      connectionLostCheckerRegistration = null;
+    }
   }
 
   /**
@@ -336,4 +366,66 @@ public abstract class AbstractWebSocket extends WebSocketAdapter {
   public void setDaemon(boolean daemon) {
     this.daemon = daemon;
   }
+
+  /**
+   * Getter for threadFactory
+   *
+   * @return the factory used to create internal threads, null if plain platform threads are used
+   */
+  public ThreadFactory getThreadFactory() {
+    return threadFactory;
+  }
+
+  /**
+   * Setter for threadFactory
+   * <p>
+   * Controls how internal threads (read, write and lost connection checker) are created, e.g. to
+   * run them on virtual threads. Threads from the factory keep their own daemon setting. Must be
+   * set before the connection is started.
+   *
+   * @param threadFactory the factory to use, null for plain platform threads
+   */
+  public void setThreadFactory(ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Getter for heartbeatScheduler
+   *
+   * @return the shared scheduler for the lost connection check, null if each instance uses its own
+   */
+  public HeartbeatScheduler getHeartbeatScheduler() {
+    return heartbeatScheduler;
+  }
+
+  /**
+   * Setter for heartbeatScheduler
+   * <p>
+   * Runs the lost connection check on a scheduler shared with other connections instead of a
+   * single thread scheduler per instance. Must be set before the connection is started.
+   *
+   * @param heartbeatScheduler the shared scheduler, null for a scheduler per instance
+   */
+  public void setHeartbeatScheduler(HeartbeatScheduler heartbeatScheduler) {
+    this.heartbeatScheduler = heartbeatScheduler;
+  }
+
+  /**
+   * Creates an internal thread through the configured factory
+   *
+   * @param runnable the task of the thread
+   * @param name     the name of the thread
+   * @return the new, not yet started thread
+   */
+  protected Thread newInternalThread(Runnable runnable, String name) {
+    Thread thread;
+    if (threadFactory != null) {
+      thread = threadFactory.newThread(runnable);
+    } else {
+      thread = new Thread(runnable);
+      thread.setDaemon(daemon);
+    }
+    thread.setName(name);
+    return thread;
+  }
 }
@@ -669,6 +669,30 @@ public class WebSocketImpl implements WebSocket {
     send(ByteBuffer.wrap(bytes));
   }
 
+  /**
+   * Send a binary message without modifying the payload buffer, e.g. a pre-encoded read-only
+   * buffer shared between connections
+   *
+   * @param payload the payload to send, its position and limit are not modified
+   */
+  public void sendShared(ByteBuffer payload) {
+    if (payload == null) {
+      throw new IllegalArgumentException("Cannot send 'null' data to a WebSocketImpl.");
+    }
+    ByteBuffer frame = draft instanceof Draft_6455
+        ? ((Draft_6455) draft).createBinaryFrameFromSharedPayload(payload) : null;
+    if (frame == null) {
+      send(payload.duplicate());
+      return;
+    }
+    if (!isOpen()) {
+      throw new WebsocketNotConnectedException();
+    }
+    synchronized (synchronizeWriteObject) {
+      write(frame);
+    }
+  }
+
   private void send(Collection<Framedata> frames) {
     if (!isOpen()) {
       throw new WebsocketNotConnectedException();
@@ -739,8 +763,10 @@ public class WebSocketImpl implements WebSocket {
   }
 
   private void write(ByteBuffer buf) {
-    log.trace("write({}): {}", buf.remaining(),
-        buf.remaining() > 1000 ? "too big to display" : new String(buf.array()));
+    if (log.isTraceEnabled()) {
+      log.trace("write({}): {}", buf.remaining(),
+          buf.remaining() > 1000 ? "too big to display" : new String(buf.array()));
+    }
 
     outQueue.add(buf);
     wsl.onWriteDemand(this);
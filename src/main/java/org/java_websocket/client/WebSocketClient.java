@@ -45,6 +45,8 @@ import java.util.TreeMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import javax.net.SocketFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSession;
@@ -148,6 +150,22 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
    */
   private DnsResolver dnsResolver = null;
 
+  /**
+   * The shared selector transport to connect through, null for a read and a write thread per
+   * connection
+   */
+  private WebSocketSelector selector = null;
+
+  /**
+   * The connection registered with the selector transport, null when the threads are used
+   */
+  private volatile WebSocketSelector.Connection selectorConnection = null;
+
+  /**
+   * The SSLContext for wss connections made through the selector transport
+   */
+  private SSLContext sslContext = null;
+
   /**
    * Constructs a WebSocketClient instance and sets it to the connect to the specified URI. The
    * channel does not attampt to connect automatically. The connection will be established once you
@@ -304,6 +322,31 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
     this.dnsResolver = dnsResolver;
   }
 
+  /**
+   * Connects through a selector transport shared with other clients instead of starting a read
+   * and a write thread for this client. The threads are still used if a proxy, a socket or a
+   * socket factory without an SSLContext is set.<br> This method must be called before
+   * <code>connect</code>.
+   *
+   * @param selector the shared selector transport, null for a read and a write thread
+   * @see #setSSLContext(SSLContext)
+   */
+  public void setSelector(WebSocketSelector selector) {
+    this.selector = selector;
+  }
+
+  /**
+   * Sets the SSLContext used for wss connections made through the selector transport. It takes
+   * the place of an SSLSocketFactory set with {@link #setSocketFactory(SocketFactory)}, which can
+   * not be used with non-blocking channels.<br> This method must be called before
+   * <code>connect</code>.
+   *
+   * @param sslContext the SSLContext, null for the default context
+   */
+  public void setSSLContext(SSLContext sslContext) {
+    this.sslContext = sslContext;
+  }
+
   /**
    * Reinitiates the websocket connection. This method does not block.
    *
@@ -334,7 +377,8 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
    */
   private void reset() {
     Thread current = Thread.currentThread();
-    if (current == writeThread || current == connectReadThread) {
+    if (current == writeThread || current == connectReadThread
+        || (selector != null && selector.isSelectorThread(current))) {
       throw new IllegalStateException(
           "You cannot initialize a reconnect out of the websocket thread. Use reconnect in another thread to ensure a successful cleanup.");
     }
@@ -355,6 +399,7 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
         this.socket.close();
         this.socket = null;
       }
+      this.selectorConnection = null;
     } catch (Exception e) {
       onError(e);
       engine.closeConnection(CloseFrame.ABNORMAL_CLOSE, e.getMessage());
@@ -369,11 +414,16 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
    * Initiates the websocket connection. This method does not block.
    */
   public void connect() {
-    if (connectReadThread != null) {
+    if (connectReadThread != null || selectorConnection != null) {
       throw new IllegalStateException("WebSocketClient objects are not reuseable");
     }
-    connectReadThread = new Thread(this);
-    connectReadThread.setDaemon(isDaemon());
+    if (usesSelector()) {
+      WebSocketSelector.Connection connection = selector.attach(this, engine);
+      selectorConnection = connection;
+      connection.connect();
+      return;
+    }
+    connectReadThread = newInternalThread(this, "WebSocketConnectReadThread");
     connectReadThread.setName("WebSocketConnectReadThread-" + connectReadThread.getId());
     connectReadThread.start();
   }
@@ -409,7 +459,7 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
    * the connection is closed use <code>closeBlocking</code>
    */
   public void close() {
-    if (writeThread != null) {
+    if (writeThread != null || selectorConnection != null) {
       engine.close(CloseFrame.NORMAL);
     }
   }
@@ -442,6 +492,16 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
     engine.send(data);
   }
 
+  /**
+   * Sends a binary message without modifying the payload buffer, e.g. a pre-encoded read-only
+   * buffer shared between connections
+   *
+   * @param payload the payload to send, its position and limit are not modified
+   */
+  public void sendShared(ByteBuffer payload) {
+    engine.sendShared(payload);
+  }
+
   @Override
   public <T> T getAttachment() {
     return engine.getAttachment();
@@ -515,8 +575,7 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
         /* ignore */
       }
     }
-    writeThread = new Thread(new WebsocketWriteThread(this));
-    writeThread.setDaemon(isDaemon());
+    writeThread = newInternalThread(new WebsocketWriteThread(this), "WebSocketWriteThread");
     writeThread.start();
 
     byte[] rawbuffer = new byte[WebSocketImpl.RCVBUF];
@@ -566,6 +625,58 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
     return upgradeSocketToSSLSocket;
   }
 
+  /**
+   * Whether this client connects through the selector transport
+   */
+  private boolean usesSelector() {
+    return selector != null && proxy == Proxy.NO_PROXY && socket == null
+        && (socketFactory == null || sslContext != null);
+  }
+
+  /**
+   * Resolves the address to connect to through the selector transport
+   *
+   * @return the resolved address
+   * @throws UnknownHostException if the host could not be resolved
+   */
+  InetSocketAddress resolveAddress() throws UnknownHostException {
+    if (dnsResolver == null) {
+      return new InetSocketAddress(uri.getHost(), getPort());
+    }
+    return new InetSocketAddress(dnsResolver.resolve(uri), getPort());
+  }
+
+  /**
+   * Creates the client mode SSLEngine for a wss connection made through the selector transport
+   *
+   * @return the SSLEngine with the parameters of {@link #onSetSSLParameters(SSLParameters)}
+   * @throws NoSuchAlgorithmException if there is no default SSLContext
+   */
+  SSLEngine createSSLEngine() throws NoSuchAlgorithmException {
+    SSLContext context = sslContext != null ? sslContext : SSLContext.getDefault();
+    SSLEngine sslEngine = context.createSSLEngine(uri.getHost(), getPort());
+    sslEngine.setUseClientMode(true);
+    SSLParameters sslParameters = sslEngine.getSSLParameters();
+    onSetSSLParameters(sslParameters);
+    sslEngine.setSSLParameters(sslParameters);
+    return sslEngine;
+  }
+
+  boolean isSecure() {
+    return "wss".equals(uri.getScheme());
+  }
+
+  int getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * Keeps the socket of the selector transport for the address getters and for reset
+   */
+  void attachSocket(Socket socket) {
+    this.socket = socket;
+  }
+
   /**
    * Apply specific SSLParameters If you override this method make sure to always call
    * super.onSetSSLParameters() to ensure the hostname validation is active
@@ -600,7 +711,7 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
    *
    * @throws InvalidHandshakeException a invalid handshake was created
    */
-  private void sendHandshake() throws InvalidHandshakeException {
+  void sendHandshake() throws InvalidHandshakeException {
     String path;
     String part1 = uri.getRawPath();
     String part2 = uri.getRawQuery();
@@ -668,6 +779,10 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
     if (writeThread != null) {
       writeThread.interrupt();
     }
+    WebSocketSelector.Connection connection = selectorConnection;
+    if (connection != null) {
+      connection.closed();
+    }
     onClose(code, reason, remote);
     connectLatch.countDown();
     closeLatch.countDown();
@@ -683,7 +798,11 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
 
   @Override
   public final void onWriteDemand(WebSocket conn) {
-    // nothing to do
+    // the write thread takes frames from the queue by itself, the selector has to be told
+    WebSocketSelector.Connection connection = selectorConnection;
+    if (connection != null) {
+      connection.requestWrite();
+    }
   }
 
   @Override
@@ -962,7 +1081,7 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
 
   @Override
   public boolean hasSSLSupport() {
-    return socket instanceof SSLSocket;
+    return socket instanceof SSLSocket || (selectorConnection != null && engine.hasSSLSupport());
   }
 
   @Override
@@ -971,7 +1090,10 @@ public abstract class WebSocketClient extends AbstractWebSocket implements Runna
       throw new IllegalArgumentException(
           "This websocket uses ws instead of wss. No SSLSession available.");
     }
-    return ((SSLSocket)socket).getSession();
+    if (socket instanceof SSLSocket) {
+      return ((SSLSocket) socket).getSession();
+    }
+    return engine.getSSLSession();
   }
 
   @Override
@@ -0,0 +1,597 @@
+/*
+ * Copyright (c) 2010-2020 Nathan Rajlich
+ *
+ *  Permission is hereby granted, free of charge, to any person
+ *  obtaining a copy of this software and associated documentation
+ *  files (the "Software"), to deal in the Software without
+ *  restriction, including without limitation the rights to use,
+ *  copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the
+ *  Software is furnished to do so, subject to the following
+ *  conditions:
+ *
+ *  The above copyright notice and this permission notice shall be
+ *  included in all copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ *  EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ *  OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ *  NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ *  HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ *  WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ *  FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ *  OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.java_websocket.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import org.java_websocket.SSLSocketChannel2;
+import org.java_websocket.SocketChannelIOHelper;
+import org.java_websocket.WebSocketImpl;
+import org.java_websocket.WrappedByteChannel;
+import org.java_websocket.enums.ReadyState;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.interfaces.ISSLChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A client transport that drives many {@link WebSocketClient} connections from a few selector
+ * threads instead of a read thread and a write thread per connection.
+ * <p>
+ * Every connection is bound to one selector thread, which connects the non-blocking channel,
+ * decodes incoming data with one read buffer shared by all of its connections and flushes the
+ * outgoing queue when the socket is writable. wss connections are wrapped in {@link
+ * SSLSocketChannel2}. DNS lookups and delegated SSLEngine tasks run on a small worker pool whose
+ * threads exit when idle. All listener callbacks of a connection are called on its selector
+ * thread, so they must not block.
+ *
+ * @see WebSocketClient#setSelector(WebSocketSelector)
+ */
+public class WebSocketSelector implements Closeable {
+
+  /**
+   * How often pending connects are checked for their connect timeout
+   */
+  private static final long TIMEOUT_CHECK_INTERVAL = 1000;
+
+  /**
+   * Logger instance
+   */
+  private final Logger log = LoggerFactory.getLogger(WebSocketSelector.class);
+
+  private final Loop[] loops;
+
+  /**
+   * Runs DNS lookups and delegated SSLEngine tasks
+   */
+  private final ExecutorService workers;
+
+  private final AtomicInteger nextLoop = new AtomicInteger();
+
+  private final AtomicInteger connections = new AtomicInteger();
+
+  private volatile boolean closed = false;
+
+  /**
+   * Opens the selectors and starts their threads
+   *
+   * @param threads the number of selector threads
+   * @throws IOException if a selector could not be opened
+   */
+  public WebSocketSelector(int threads) throws IOException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("at least one selector thread is required");
+    }
+    AtomicInteger workerNumber = new AtomicInteger(1);
+    this.workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable,
+              "WebSocketSelectorWorker-" + workerNumber.getAndIncrement());
+          thread.setDaemon(true);
+          return thread;
+        });
+    this.loops = new Loop[threads];
+    try {
+      for (int i = 0; i < threads; i++) {
+        loops[i] = new Loop(i + 1);
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+    for (Loop loop : loops) {
+      loop.thread.start();
+    }
+  }
+
+  /**
+   * @return the number of selector threads
+   */
+  public int getThreadCount() {
+    return loops.length;
+  }
+
+  /**
+   * @return the number of connections which are connecting or connected
+   */
+  public int getConnectionCount() {
+    return connections.get();
+  }
+
+  /**
+   * @param thread the thread to check
+   * @return whether the thread is one of the selector threads
+   */
+  boolean isSelectorThread(Thread thread) {
+    for (Loop loop : loops) {
+      if (loop != null && loop.thread == thread) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Binds a client to a selector thread, the connection is started with {@link
+   * Connection#connect()}
+   */
+  Connection attach(WebSocketClient client, WebSocketImpl engine) {
+    if (closed) {
+      throw new IllegalStateException("WebSocketSelector is closed");
+    }
+    Loop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+    return new Connection(client, engine, loop);
+  }
+
+  /**
+   * Stops the selector threads and closes all of their connections with {@link
+   * CloseFrame#GOING_AWAY}
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Loop loop : loops) {
+      if (loop != null) {
+        loop.selector.wakeup();
+      }
+    }
+    for (Loop loop : loops) {
+      if (loop != null && loop.thread != Thread.currentThread() && loop.thread.isAlive()) {
+        try {
+          loop.thread.join(TIMEOUT_CHECK_INTERVAL);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+    }
+    workers.shutdownNow();
+  }
+
+  private final class Loop implements Runnable {
+
+    private final Selector selector;
+
+    private final Thread thread;
+
+    private final Queue<Connection> registrations = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Connection> writeDemands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Connections waiting for OP_CONNECT with a connect timeout, only used by the selector thread
+     */
+    private final List<Connection> connecting = new ArrayList<>();
+
+    /**
+     * The read buffer shared by all connections of this thread, decode consumes it completely
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocate(WebSocketImpl.RCVBUF);
+
+    Loop(int number) throws IOException {
+      this.selector = Selector.open();
+      this.thread = new Thread(this, "WebSocketSelector-" + number);
+      this.thread.setDaemon(true);
+    }
+
+    void register(Connection connection) {
+      registrations.add(connection);
+      selector.wakeup();
+      if (!thread.isAlive()) {
+        drainRegistrations();
+      }
+    }
+
+    void demandWrite(Connection connection) {
+      writeDemands.add(connection);
+      if (Thread.currentThread() != thread) {
+        selector.wakeup();
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!closed) {
+          selector.select(connecting.isEmpty() ? 0 : TIMEOUT_CHECK_INTERVAL);
+          Connection connection;
+          while ((connection = registrations.poll()) != null) {
+            connection.open();
+          }
+          Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+          while (it.hasNext()) {
+            SelectionKey key = it.next();
+            it.remove();
+            ((Connection) key.attachment()).handle(key);
+          }
+          // after the keys so that frames sent from callbacks on this thread go out right away
+          while ((connection = writeDemands.poll()) != null) {
+            connection.flush();
+          }
+          if (!connecting.isEmpty()) {
+            expireConnects();
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        log.error("Selector thread stopped", e);
+      } finally {
+        shutdown();
+      }
+    }
+
+    private void expireConnects() {
+      long now = System.nanoTime();
+      Iterator<Connection> it = connecting.iterator();
+      while (it.hasNext()) {
+        Connection connection = it.next();
+        if (connection.engine.isClosed()) {
+          it.remove();
+        } else if (now - connection.deadline >= 0) {
+          it.remove();
+          connection.failConnect(new SocketTimeoutException("connect timed out"));
+        }
+      }
+    }
+
+    private void shutdown() {
+      List<Connection> open = new ArrayList<>();
+      for (SelectionKey key : selector.keys()) {
+        open.add((Connection) key.attachment());
+      }
+      for (Connection connection : open) {
+        connection.engine.closeConnection(CloseFrame.GOING_AWAY, "selector closed");
+      }
+      drainRegistrations();
+      try {
+        selector.close();
+      } catch (IOException e) {
+        log.error("Exception during selector.close()", e);
+      }
+    }
+
+    private void drainRegistrations() {
+      Connection connection;
+      while ((connection = registrations.poll()) != null) {
+        connection.engine.closeConnection(CloseFrame.NEVER_CONNECTED, "selector closed");
+      }
+    }
+  }
+
+  /**
+   * The state of one client connection, everything but {@link #requestWrite()} and {@link
+   * #closed()} is only used by the selector thread
+   */
+  final class Connection {
+
+    private final WebSocketClient client;
+
+    private final WebSocketImpl engine;
+
+    private final Loop loop;
+
+    private final AtomicBoolean writeQueued = new AtomicBoolean();
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private InetSocketAddress address;
+
+    private SocketChannel socketChannel;
+
+    private SelectionKey key;
+
+    /**
+     * The socket channel, wrapped for wss once the TCP connection is established
+     */
+    private ByteChannel channel;
+
+    /**
+     * Whether the TCP connection is established and the channel is wrapped
+     */
+    private boolean connected = false;
+
+    /**
+     * Whether the websocket handshake has completed
+     */
+    private boolean opened = false;
+
+    private long deadline;
+
+    Connection(WebSocketClient client, WebSocketImpl engine, Loop loop) {
+      this.client = client;
+      this.engine = engine;
+      this.loop = loop;
+    }
+
+    /**
+     * Resolves the address on a worker thread and hands the connection to its selector thread
+     */
+    void connect() {
+      connections.incrementAndGet();
+      try {
+        workers.execute(() -> {
+          try {
+            address = client.resolveAddress();
+          } catch (Exception e) {
+            failConnect(e);
+            return;
+          }
+          loop.register(this);
+        });
+      } catch (RuntimeException e) {
+        failConnect(e);
+      }
+    }
+
+    /**
+     * Asks the selector thread to flush the outgoing queue, may be called from any thread
+     */
+    void requestWrite() {
+      if (writeQueued.compareAndSet(false, true)) {
+        loop.demandWrite(this);
+      }
+    }
+
+    /**
+     * Called once the connection is closed, may be called from any thread
+     */
+    void closed() {
+      if (released.compareAndSet(false, true)) {
+        connections.decrementAndGet();
+      }
+    }
+
+    private void open() {
+      SocketChannel sc = null;
+      try {
+        sc = SocketChannel.open();
+        sc.configureBlocking(false);
+        sc.socket().setTcpNoDelay(client.isTcpNoDelay());
+        sc.socket().setReuseAddress(client.isReuseAddr());
+        synchronized (engine) {
+          if (engine.getReadyState() != ReadyState.NOT_YET_CONNECTED) {
+            // closed while the address was resolved
+            sc.close();
+            return;
+          }
+          key = sc.register(loop.selector, 0, this);
+          engine.setChannel(sc);
+          engine.setSelectionKey(key);
+        }
+        socketChannel = sc;
+        channel = sc;
+        client.attachSocket(sc.socket());
+        if (sc.connect(address)) {
+          established();
+        } else {
+          key.interestOps(SelectionKey.OP_CONNECT);
+          if (client.getConnectTimeout() > 0) {
+            deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(client.getConnectTimeout());
+            loop.connecting.add(this);
+          }
+        }
+      } catch (Exception e) {
+        closeQuietly(sc);
+        failConnect(e);
+      }
+    }
+
+    private void handle(SelectionKey key) {
+      try {
+        if (key.isConnectable()) {
+          if (!socketChannel.finishConnect()) {
+            return;
+          }
+          loop.connecting.remove(this);
+          established();
+        }
+        if (connected && key.isValid() && key.isReadable()) {
+          read();
+        }
+        if (connected && key.isValid() && key.isWritable()) {
+          write();
+        }
+      } catch (CancelledKeyException e) {
+        // closed by another thread in the meantime
+      } catch (IOException e) {
+        handleIOException(e);
+      } catch (RuntimeException e) {
+        handleInternalError(e);
+      } catch (Exception e) {
+        failConnect(e);
+      }
+    }
+
+    /**
+     * Wraps the connected channel for wss and sends the websocket handshake
+     */
+    private void established() throws Exception {
+      ByteChannel wrapped = socketChannel;
+      if (client.isSecure()) {
+        wrapped = new SSLSocketChannel2(socketChannel, client.createSSLEngine(), workers, key);
+      }
+      synchronized (engine) {
+        if (engine.getReadyState() != ReadyState.NOT_YET_CONNECTED) {
+          // closed while connecting, closeConnection already closed the socket
+          return;
+        }
+        engine.setChannel(wrapped);
+      }
+      channel = wrapped;
+      connected = true;
+      key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+      client.sendHandshake();
+    }
+
+    private void read() throws IOException {
+      ByteBuffer buffer = loop.buffer;
+      boolean received = false;
+      if (SocketChannelIOHelper.read(buffer, engine, channel) && buffer.hasRemaining()) {
+        decode(buffer);
+        received = true;
+      }
+      if (readBuffered() || received) {
+        stopIfClosing();
+      }
+    }
+
+    /**
+     * Decodes data the wrapper already took from the socket, e.g. records following a record
+     * without application data or received while the handshake finished on the write side. No
+     * select event fires for it.
+     */
+    private boolean readBuffered() throws IOException {
+      ByteBuffer buffer = loop.buffer;
+      boolean received = false;
+      while (key.isValid() && isHandshakeFinished() && ((WrappedByteChannel) channel).isNeedRead()) {
+        SocketChannelIOHelper.readMore(buffer, engine, (WrappedByteChannel) channel);
+        if (buffer.hasRemaining()) {
+          decode(buffer);
+          received = true;
+        }
+      }
+      return received;
+    }
+
+    /**
+     * Like the read thread, which stops reading once the connection is closing: the engine
+     * ignores frames in that state, so the connection ends after the queued frames (e.g. the
+     * reply to a close frame) are written.
+     */
+    private void stopIfClosing() throws IOException {
+      if (key.isValid() && engine.isClosing()) {
+        SocketChannelIOHelper.batch(engine, channel);
+        engine.eot();
+      }
+    }
+
+    /**
+     * Whether the channel is wrapped and its TLS handshake is done. While handshaking the wrapper
+     * only makes progress through read and write, readMore would not consume anything.
+     */
+    private boolean isHandshakeFinished() {
+      if (!(channel instanceof ISSLChannel)) {
+        return false;
+      }
+      HandshakeStatus status = ((ISSLChannel) channel).getSSLEngine().getHandshakeStatus();
+      return status == HandshakeStatus.NOT_HANDSHAKING || status == HandshakeStatus.FINISHED;
+    }
+
+    private void decode(ByteBuffer buffer) {
+      engine.decode(buffer);
+      if (!opened && engine.isOpen()) {
+        opened = true;
+      }
+    }
+
+    private void write() throws IOException {
+      boolean done = SocketChannelIOHelper.batch(engine, channel);
+      if (key.isValid()) {
+        key.interestOps(done ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+      }
+      if (readBuffered()) {
+        stopIfClosing();
+      }
+    }
+
+    /**
+     * Handles a write demand: flushes what can be written without waiting for the next select
+     */
+    private void flush() {
+      // cleared before writing so that a frame queued while writing is never missed
+      writeQueued.set(false);
+      try {
+        if (!opened && engine.isFlushAndClose()) {
+          // closed before the handshake completed, there is no close handshake to wait for
+          engine.closeConnection();
+          return;
+        }
+        if (connected && key.isValid()) {
+          write();
+        }
+      } catch (CancelledKeyException e) {
+        // closed by another thread in the meantime
+      } catch (IOException e) {
+        handleIOException(e);
+      } catch (RuntimeException e) {
+        handleInternalError(e);
+      }
+    }
+
+    private void failConnect(Exception e) {
+      client.onWebsocketError(engine, e);
+      engine.closeConnection(CloseFrame.NEVER_CONNECTED, e.getMessage());
+    }
+
+    private void handleIOException(IOException e) {
+      if (!connected) {
+        failConnect(e);
+        return;
+      }
+      if (e instanceof SSLException) {
+        client.onWebsocketError(engine, e);
+      }
+      engine.eot();
+    }
+
+    private void handleInternalError(RuntimeException e) {
+      // this case covers internal errors only and indicates a bug in this websocket implementation
+      client.onWebsocketError(engine, e);
+      engine.closeConnection(CloseFrame.ABNORMAL_CLOSE, e.getMessage());
+    }
+
+    private void closeQuietly(SocketChannel sc) {
+      if (sc == null) {
+        return;
+      }
+      try {
+        sc.close();
+      } catch (IOException e) {
+        log.trace("Exception during channel.close()", e);
+      }
+    }
+  }
+}
@@ -475,6 +475,48 @@ public class Draft_6455 extends Draft {
     return createByteBufferFromFramedata(framedata);
   }
 
+  /**
+   * Creates a single final binary frame for the payload without touching the position of the
+   * payload buffer, so a pre-encoded read-only buffer can be shared between connections and sent
+   * repeatedly. No intermediate frame object or mask buffer is allocated.
+   *
+   * @param payload the payload to send, its position and limit are not modified
+   * @return the frame in binary form, or null if a negotiated extension has to encode the frame
+   */
+  public ByteBuffer createBinaryFrameFromSharedPayload(ByteBuffer payload) {
+    IExtension extension = getExtension();
+    if (extension != null && extension.getClass() != DefaultExtension.class) {
+      return null;
+    }
+    boolean mask = role == Role.CLIENT;
+    int length = payload.remaining();
+    int sizebytes = getSizeBytes(payload);
+    ByteBuffer buf = ByteBuffer.allocate(
+        1 + (sizebytes > 1 ? sizebytes + 1 : sizebytes) + (mask ? 4 : 0) + length);
+    buf.put((byte) (-128 | fromOpcode(Opcode.BINARY)));
+    if (sizebytes == 1) {
+      buf.put((byte) (length | getMaskByte(mask)));
+    } else if (sizebytes == 2) {
+      buf.put((byte) ((byte) 126 | getMaskByte(mask)));
+      buf.putShort((short) length);
+    } else {
+      buf.put((byte) ((byte) 127 | getMaskByte(mask)));
+      buf.putLong(length);
+    }
+    int start = payload.position();
+    if (mask) {
+      int maskkey = reuseableRandom.nextInt();
+      buf.putInt(maskkey);
+      for (int i = 0; i < length; i++) {
+        buf.put((byte) (payload.get(start + i) ^ (maskkey >>> (24 - 8 * (i & 3)))));
+      }
+    } else {
+      buf.put(payload.duplicate());
+    }
+    buf.flip();
+    return buf;
+  }
+
   private ByteBuffer createByteBufferFromFramedata(Framedata framedata) {
     ByteBuffer mes = framedata.getPayloadData();
     boolean mask = role == Role.CLIENT;
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2010-2020 Nathan Rajlich
+ *
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.java_websocket.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scheduler for periodic heartbeat tasks that can be shared by many connections, e.g. a timing
+ * wheel, so that connection lost detection does not need a thread per connection.
+ */
+public interface HeartbeatScheduler {
+
+  /**
+   * Handle for a registered periodic task
+   */
+  interface Registration {
+
+    /**
+     * Stops further executions of the task
+     */
+    void cancel();
+  }
+
+  /**
+   * Runs the task periodically until it is cancelled
+   *
+   * @param task         the task to run, must not block
+   * @param initialDelay the delay before the first execution
+   * @param period       the period between executions
+   * @param unit         the time unit of initialDelay and period
+   * @return the registration to cancel the task with
+   */
+  Registration schedulePeriodic(Runnable task, long initialDelay, long period, TimeUnit unit);
+}
@@ -6,7 +6,6 @@ package org.json.simple.parser;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +29,12 @@ public class JSONParser {
 	public static final int S_END=6;
 	public static final int S_IN_ERROR=-1;
 	
+	private static final Yytoken EOF_TOKEN = new Yytoken(Yytoken.TYPE_EOF, null);
+	
 	private LinkedList handlerStatusStack;
 	private Yylex lexer = new Yylex((Reader)null);
 	private Yytoken token = null;
+	private boolean internKeys = false;
 	private int status = S_INIT;
 	
 	private int peekStatus(LinkedList statusStack){
@@ -64,6 +66,27 @@ public class JSONParser {
 		reset();
 	}
 	
+	/**
+	 * Reset the parser to the initial state with an in-memory text.
+	 * The text is copied into the lexer's reusable buffer, so no reader is created.
+	 * 
+	 * @param s - The new JSON text.
+	 */
+	public void reset(CharSequence s){
+		lexer.yyreset(s);
+		reset();
+	}
+	
+	/**
+	 * Reuse the same String instance for repeated short object keys (e.g. "cmd", "bdy", "uid").
+	 * Keys are still ordinary strings, only the per-key allocation is avoided.
+	 * 
+	 * @param internKeys - true to enable the key cache.
+	 */
+	public void setInternKeys(boolean internKeys){
+		this.internKeys = internKeys;
+	}
+	
 	/**
 	 * @return The position of the beginning of the current token.
 	 */
@@ -76,9 +99,17 @@ public class JSONParser {
 	}
 	
 	public Object parse(String s, ContainerFactory containerFactory) throws ParseException{
-		StringReader in=new StringReader(s);
+		return parse((CharSequence)s, containerFactory);
+	}
+	
+	public Object parse(CharSequence s) throws ParseException{
+		return parse(s, (ContainerFactory)null);
+	}
+	
+	public Object parse(CharSequence s, ContainerFactory containerFactory) throws ParseException{
+		reset(s);
 		try{
-			return parse(in, containerFactory);
+			return parseValue(containerFactory);
 		}
 		catch(IOException ie){
 			/*
@@ -110,6 +141,10 @@ public class JSONParser {
 	 */
 	public Object parse(Reader in, ContainerFactory containerFactory) throws IOException, ParseException{
 		reset(in);
+		return parseValue(containerFactory);
+	}
+	
+	private Object parseValue(ContainerFactory containerFactory) throws IOException, ParseException{
 		LinkedList statusStack = new LinkedList();
 		LinkedList valueStack = new LinkedList();
 		
@@ -266,9 +301,11 @@ public class JSONParser {
 	}
 	
 	private void nextToken() throws ParseException, IOException{
+		// in S_IN_OBJECT the next string token is a key
+		lexer.setInternNextString(internKeys && status == S_IN_OBJECT);
 		token = lexer.yylex();
 		if(token == null)
-			token = new Yytoken(Yytoken.TYPE_EOF, null);
+			token = EOF_TOKEN;
 	}
 	
 	private Map createObjectContainer(ContainerFactory containerFactory){
@@ -296,9 +333,20 @@ public class JSONParser {
 	}
 	
 	public void parse(String s, ContentHandler contentHandler, boolean isResume) throws ParseException{
-		StringReader in=new StringReader(s);
+		parse((CharSequence)s, contentHandler, isResume);
+	}
+	
+	public void parse(CharSequence s, ContentHandler contentHandler) throws ParseException{
+		parse(s, contentHandler, false);
+	}
+	
+	public void parse(CharSequence s, ContentHandler contentHandler, boolean isResume) throws ParseException{
+		if(!isResume || handlerStatusStack == null){
+			reset(s);
+			handlerStatusStack = new LinkedList();
+		}
 		try{
-			parse(in, contentHandler, isResume);
+			parseContent(contentHandler);
 		}
 		catch(IOException ie){
 			/*
@@ -338,7 +386,10 @@ public class JSONParser {
 				handlerStatusStack = new LinkedList();
 			}
 		}
-		
+		parseContent(contentHandler);
+	}
+	
+	private void parseContent(ContentHandler contentHandler) throws IOException, ParseException{
 		LinkedList statusStack = handlerStatusStack;	
 		
 		try{
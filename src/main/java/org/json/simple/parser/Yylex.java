@@ -264,12 +264,69 @@ class Yylex {
   private boolean zzAtEOF;
 
   /* user code: */
-private StringBuffer sb=new StringBuffer();
+private StringBuilder sb=new StringBuilder();
+
+private static final Yytoken LEFT_BRACE=new Yytoken(Yytoken.TYPE_LEFT_BRACE,null);
+private static final Yytoken RIGHT_BRACE=new Yytoken(Yytoken.TYPE_RIGHT_BRACE,null);
+private static final Yytoken LEFT_SQUARE=new Yytoken(Yytoken.TYPE_LEFT_SQUARE,null);
+private static final Yytoken RIGHT_SQUARE=new Yytoken(Yytoken.TYPE_RIGHT_SQUARE,null);
+private static final Yytoken COMMA=new Yytoken(Yytoken.TYPE_COMMA,null);
+private static final Yytoken COLON=new Yytoken(Yytoken.TYPE_COLON,null);
+private static final Yytoken NULL_VALUE=new Yytoken(Yytoken.TYPE_VALUE,null);
+
+/* small cache of recently seen keys, see JSONParser.setInternKeys */
+private static final int KEY_CACHE_SIZE=256;
+private static final int KEY_MAX_LENGTH=32;
+private String[] keyCache;
+private boolean internNextString;
 
 int getPosition(){
 	return yychar;
 }
 
+void setInternNextString(boolean intern){
+	internNextString=intern;
+}
+
+private String stringValue(){
+	int length=sb.length();
+	if(!internNextString || length>KEY_MAX_LENGTH)
+		return sb.toString();
+	if(keyCache==null)
+		keyCache=new String[KEY_CACHE_SIZE];
+
+	int hash=0;
+	for(int i=0;i<length;i++)
+		hash=31*hash+sb.charAt(i);
+	int slot=(hash^(hash>>>16))&(KEY_CACHE_SIZE-1);
+
+	String cached=keyCache[slot];
+	if(cached!=null && cached.length()==length){
+		int i=0;
+		while(i<length && cached.charAt(i)==sb.charAt(i))
+			i++;
+		if(i==length)
+			return cached;
+	}
+	String key=sb.toString();
+	keyCache[slot]=key;
+	return key;
+}
+
+/* parses an integer token straight from the buffer, falling back to Long.valueOf on overflow */
+private Long longValue(){
+	int start=zzStartRead;
+	int end=zzMarkedPos;
+	boolean negative=zzBuffer[start]=='-';
+	int i=negative ? start+1 : start;
+	if(end-i>18)
+		return Long.valueOf(yytext());
+	long value=0;
+	for(;i<end;i++)
+		value=value*10+(zzBuffer[i]-'0');
+	return Long.valueOf(negative ? -value : value);
+}
+
 
 
   /**
@@ -341,6 +398,11 @@ int getPosition(){
       zzBuffer = newBuffer;
     }
 
+    /* in-memory input (yyreset(CharSequence)) is already fully buffered */
+    if (zzReader == null) {
+      return true;
+    }
+
     /* finally: fill the buffer with new input */
     int numRead = zzReader.read(zzBuffer, zzEndRead,
                                             zzBuffer.length-zzEndRead);
@@ -398,6 +460,31 @@ int getPosition(){
   }
 
 
+  /**
+   * Resets the scanner to read an in-memory text.
+   * The text is copied into the internal buffer (which grows if needed and
+   * is kept for the next input), so no reader is involved.
+   *
+   * @param input   the new input text
+   */
+  public final void yyreset(CharSequence input) {
+    yyreset((java.io.Reader)null);
+    int length = input.length();
+    if (length > zzBuffer.length) {
+      zzBuffer = new char[length];
+    }
+    if (input instanceof String) {
+      ((String)input).getChars(0, length, zzBuffer, 0);
+    }
+    else {
+      for (int i = 0; i < length; i++) {
+        zzBuffer[i] = input.charAt(i);
+      }
+    }
+    zzEndRead = length;
+  }
+
+
   /**
    * Returns the current lexical state.
    */
@@ -575,7 +662,7 @@ int getPosition(){
           }
         case 25: break;
         case 4: 
-          { sb.delete(0, sb.length());yybegin(STRING_BEGIN);
+          { sb.setLength(0);yybegin(STRING_BEGIN);
           }
         case 26: break;
         case 16: 
@@ -583,7 +670,7 @@ int getPosition(){
           }
         case 27: break;
         case 6: 
-          { return new Yytoken(Yytoken.TYPE_RIGHT_BRACE,null);
+          { return RIGHT_BRACE;
           }
         case 28: break;
         case 23: 
@@ -591,11 +678,11 @@ int getPosition(){
           }
         case 29: break;
         case 22: 
-          { return new Yytoken(Yytoken.TYPE_VALUE, null);
+          { return NULL_VALUE;
           }
         case 30: break;
         case 13: 
-          { yybegin(YYINITIAL);return new Yytoken(Yytoken.TYPE_VALUE, sb.toString());
+          { yybegin(YYINITIAL);return new Yytoken(Yytoken.TYPE_VALUE, stringValue());
           }
         case 31: break;
         case 12: 
@@ -611,7 +698,7 @@ int getPosition(){
           }
         case 34: break;
         case 8: 
-          { return new Yytoken(Yytoken.TYPE_RIGHT_SQUARE,null);
+          { return RIGHT_SQUARE;
           }
         case 35: break;
         case 19: 
@@ -623,7 +710,7 @@ int getPosition(){
           }
         case 37: break;
         case 10: 
-          { return new Yytoken(Yytoken.TYPE_COLON,null);
+          { return COLON;
           }
         case 38: break;
         case 14: 
@@ -631,7 +718,7 @@ int getPosition(){
           }
         case 39: break;
         case 5: 
-          { return new Yytoken(Yytoken.TYPE_LEFT_BRACE,null);
+          { return LEFT_BRACE;
           }
         case 40: break;
         case 17: 
@@ -653,11 +740,11 @@ int getPosition(){
           }
         case 43: break;
         case 7: 
-          { return new Yytoken(Yytoken.TYPE_LEFT_SQUARE,null);
+          { return LEFT_SQUARE;
           }
         case 44: break;
         case 2: 
-          { Long val=Long.valueOf(yytext()); return new Yytoken(Yytoken.TYPE_VALUE, val);
+          { Long val=longValue(); return new Yytoken(Yytoken.TYPE_VALUE, val);
           }
         case 45: break;
         case 18: 
@@ -665,7 +752,7 @@ int getPosition(){
           }
         case 46: break;
         case 9: 
-          { return new Yytoken(Yytoken.TYPE_COMMA,null);
+          { return COMMA;
           }
         case 47: break;
         case 3: 
@@ -0,0 +1,87 @@
+package me.suda.doneconnector;
+
+import me.suda.doneconnector.startup.StartupPlan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * onEnable이 선언하는 실제 시작 단계 확인 (메인 스레드는 등록과 activate에만 쓴다)
+ */
+class DoneConnectorStartupTest {
+
+    private static final long SLOW_PHASE_MS = 200;
+
+    private final ExecutorService main = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-main"));
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+    private final List<String> order = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        main.shutdownNow();
+    }
+
+    private StartupPlan.Action phase(String name, long sleepMillis) {
+        return () -> {
+            threads.put(name, Thread.currentThread().getName());
+            Thread.sleep(sleepMillis);
+            order.add(name);
+        };
+    }
+
+    @Test
+    void onlyActivateRunsOnMainThreadWhileSlowPhasesRunAsync() throws Exception {
+        StartupPlan plan = DoneConnector.declareStartupPhases(new StartupPlan(),
+                phase("data-directory", SLOW_PHASE_MS),
+                phase("auth-settings", SLOW_PHASE_MS),
+                phase("storage", SLOW_PHASE_MS),
+                phase("config", SLOW_PHASE_MS),
+                phase("auth", SLOW_PHASE_MS),
+                phase("activate", 0));
+        plan.start(main).get(10, TimeUnit.SECONDS);
+
+        assertEquals(6, threads.size());
+        for (Map.Entry<String, String> entry : threads.entrySet()) {
+            if (entry.getKey().equals("activate")) {
+                assertEquals("test-main", entry.getValue());
+            } else {
+                assertTrue(entry.getValue().startsWith("Done-Startup-"), entry.getKey() + " → " + entry.getValue());
+            }
+        }
+        assertEquals("activate", order.get(order.size() - 1));
+
+        // 느린 단계 3개가 이어지는 동안 메인 스레드는 등록과 activate에만 쓰인다
+        Map<String, Object> metrics = plan.getMetrics();
+        assertTrue((long) metrics.get("totalMillis") >= 3 * SLOW_PHASE_MS);
+        long mainMillis = plan.mainThreadMillis();
+        assertTrue(mainMillis < 50, "mainThreadMillis=" + mainMillis);
+        assertEquals(List.of(), metrics.get("notCompleted"));
+    }
+
+    @Test
+    void failedStoragePhaseSkipsActivate() throws Exception {
+        StartupPlan plan = DoneConnector.declareStartupPhases(new StartupPlan(),
+                phase("data-directory", 0),
+                phase("auth-settings", 0),
+                () -> {
+                    throw new IllegalStateException("저장소 오류");
+                },
+                phase("config", 0),
+                phase("auth", 0),
+                phase("activate", 0));
+        plan.start(main).get(10, TimeUnit.SECONDS);
+
+        assertEquals("storage", plan.firstFailure().name());
+        assertEquals(List.of("storage", "activate"), plan.getMetrics().get("notCompleted"));
+    }
+}
@@ -0,0 +1,135 @@
+package me.suda.doneconnector.auth;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 인증 서버 응답이 느려도 메인 스레드(틱)를 붙잡지 않는지 확인
+ */
+class AuthManagerMainThreadTest {
+
+    private static final long SERVER_DELAY_MS = 2000;
+    // 메인 스레드 작업 1개가 넘으면 안 되는 시간
+    private static final long MAX_MAIN_HOLD_MS = 20;
+
+    @TempDir
+    File dir;
+
+    private final ExecutorService main = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-main"));
+    private final AtomicLong maxMainNanos = new AtomicLong();
+    private final AtomicInteger mainTasks = new AtomicInteger();
+    private HttpServer server;
+    private AuthManager authManager;
+
+    /**
+     * 실행 시간을 기록하는 가짜 메인 스레드
+     */
+    private final Executor timedMain = task -> main.execute(() -> {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            maxMainNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+            mainTasks.incrementAndGet();
+        }
+    });
+
+    @AfterEach
+    void shutdown() {
+        if (authManager != null) {
+            authManager.shutdown();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+        main.shutdownNow();
+    }
+
+    private void startSlowServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/auth/validate.php", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(SERVER_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"status\":\"success\",\"message\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        authManager = new AuthManager(new AuthConfig(url), dir, timedMain);
+    }
+
+    @Test
+    void slowAuthServerDoesNotHoldMainThread() throws Exception {
+        startSlowServer();
+
+        long start = System.nanoTime();
+        // 메인 스레드에서 인증 요청 (정기/명령어 인증과 같은 경로)
+        CompletableFuture<Boolean> result = CompletableFuture
+                .supplyAsync(() -> authManager.performAuthenticationAsync(), timedMain)
+                .thenCompose(future -> future);
+
+        assertTrue(result.get(15, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= SERVER_DELAY_MS, "느린 서버 응답을 기다리지 않았습니다: " + elapsedMillis + "ms");
+
+        // 결과 반영 작업의 기록이 끝날 때까지 메인 스레드 대기열 비우기
+        main.submit(() -> {}).get(1, TimeUnit.SECONDS);
+
+        // 요청 1번, 결과 반영 1번만 메인 스레드에서 짧게 실행
+        assertEquals(2, mainTasks.get());
+        long maxHoldMillis = TimeUnit.NANOSECONDS.toMillis(maxMainNanos.get());
+        assertTrue(maxHoldMillis < MAX_MAIN_HOLD_MS, "메인 스레드 점유 " + maxHoldMillis + "ms");
+        assertTrue(authManager.isAuthenticated());
+    }
+
+    @Test
+    void mainThreadKeepsTickingWhileAuthWaits() throws Exception {
+        startSlowServer();
+
+        CompletableFuture<Boolean> result = CompletableFuture
+                .supplyAsync(() -> authManager.performAuthenticationAsync(), timedMain)
+                .thenCompose(future -> future);
+
+        // 인증을 기다리는 동안 50ms마다 틱이 계속 실행되어야 한다
+        int ticks = 0;
+        while (!result.isDone()) {
+            long tickStart = System.nanoTime();
+            CompletableFuture.runAsync(() -> {}, timedMain).get(1, TimeUnit.SECONDS);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tickStart) < 500);
+            ticks++;
+            Thread.sleep(50);
+        }
+
+        assertTrue(result.get());
+        assertTrue(ticks >= 10, "틱 " + ticks + "회");
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(maxMainNanos.get()) < MAX_MAIN_HOLD_MS);
+    }
+}
@@ -0,0 +1,85 @@
+package me.suda.doneconnector.chzzk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ChzzkEmojiFormatterTest {
+
+    private final ChzzkEmojiFormatter formatter = new ChzzkEmojiFormatter();
+
+    /**
+     * 한 번 훑기 이전의 이모지별 정규식 치환 (비교 기준)
+     */
+    private static String regexFormat(String message, List<String> emojiKeys) {
+        for (String key : emojiKeys) {
+            message = message.replaceAll("\\{:" + key + ":\\}+", ":" + key + ":");
+        }
+        return message;
+    }
+
+    private void assertParity(String message, List<String> emojiKeys) {
+        assertEquals(regexFormat(message, emojiKeys), formatter.format(message, emojiKeys), message);
+    }
+
+    @Test
+    void replacesEveryToken() {
+        assertParity("안녕 {:smile:} 반가워 {:wave:}{:smile:}", List.of("smile", "wave"));
+        assertEquals("안녕 :smile: 반가워 :wave::smile:",
+                formatter.format("안녕 {:smile:} 반가워 {:wave:}{:smile:}", List.of("smile", "wave")));
+    }
+
+    @Test
+    void trailingBracesAreRemovedWithToken() {
+        assertParity("{:smile:}}}} 끝", List.of("smile"));
+        assertParity("{{:smile:}}", List.of("smile"));
+    }
+
+    @Test
+    void unknownAndPartialTokensAreKept() {
+        assertParity("{:other:} {:smile} {smile:} {:smile2:} {:smil:}", List.of("smile"));
+        assertParity("{:{:smile:}:}", List.of("smile"));
+        assertParity("끝이 {:", List.of("smile"));
+    }
+
+    @Test
+    void keysSharingPrefix() {
+        assertParity("{:a:}{:ab:}{:abc:}{:b:}", List.of("ab", "a", "abc"));
+    }
+
+    @Test
+    void messageWithoutTokensIsReturnedAsIs() {
+        String message = "이모지 없음";
+        assertSame(message, formatter.format(message, List.of("smile")));
+        String noEmojis = "{:smile:}";
+        assertSame(noEmojis, formatter.format(noEmojis, List.of()));
+        String unmatched = "{:other:}";
+        assertSame(unmatched, formatter.format(unmatched, List.of("smile")));
+    }
+
+    @Test
+    void longMessageDoesNotBreakReuse() {
+        String longMessage = "{:smile:}".repeat(2000);
+        assertParity(longMessage, List.of("smile"));
+        assertParity("다시 {:smile:}", List.of("smile"));
+    }
+
+    @Test
+    void randomMessagesMatchRegex() {
+        Random random = new Random(42);
+        String alphabet = "{}:abx ";
+        List<String> keys = List.of("a", "b", "ab");
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder message = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int j = 0; j < length; j++) {
+                message.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertParity(message.toString(), keys);
+        }
+    }
+}
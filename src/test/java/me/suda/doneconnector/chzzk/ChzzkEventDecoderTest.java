@@ -0,0 +1,186 @@
+package me.suda.doneconnector.chzzk;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChzzkEventDecoderTest {
+
+    private static final int CHAT = 93101;
+    private static final int DONATION = 93102;
+
+    private final ChzzkEventDecoder decoder = new ChzzkEventDecoder(CHAT, DONATION);
+
+    /**
+     * 스트리밍 디코딩 이전의 트리 방식 추출 결과 (비교 기준)
+     */
+    private record Expected(int cmd, String uid, String msg, boolean profile, String nickname, String userRoleCode,
+                            String colorCode, Set<String> emojis, String payAmount) {}
+
+    private static JSONObject object(Object value) throws ParseException {
+        if (value instanceof String json) {
+            return (JSONObject) new JSONParser().parse(json);
+        }
+        return (JSONObject) value;
+    }
+
+    private static Expected treeExtract(String frame) throws ParseException {
+        JSONObject root = (JSONObject) new JSONParser().parse(frame);
+        int cmd = Integer.parseInt(root.get("cmd").toString());
+        JSONObject body = (JSONObject) ((JSONArray) root.get("bdy")).get(0);
+
+        String nickname = null;
+        String userRoleCode = null;
+        String colorCode = null;
+        JSONObject profile = object(body.get("profile"));
+        if (profile != null) {
+            nickname = (String) profile.get("nickname");
+            userRoleCode = (String) profile.get("userRoleCode");
+            JSONObject streamingProperty = object(profile.get("streamingProperty"));
+            if (streamingProperty != null) {
+                JSONObject nicknameColor = object(streamingProperty.get("nicknameColor"));
+                if (nicknameColor != null) {
+                    colorCode = (String) nicknameColor.get("colorCode");
+                }
+            }
+        }
+
+        Set<String> emojis = new HashSet<>();
+        String payAmount = null;
+        JSONObject extras = object(body.get("extras"));
+        if (extras != null) {
+            if (extras.get("emojis") instanceof JSONObject emojiObject) {
+                for (Object key : emojiObject.keySet()) {
+                    emojis.add((String) key);
+                }
+            }
+            Object amount = extras.get("payAmount");
+            payAmount = amount != null ? amount.toString() : null;
+        }
+        return new Expected(cmd, (String) body.get("uid"), (String) body.get("msg"), profile != null,
+                nickname, userRoleCode, colorCode, emojis, payAmount);
+    }
+
+    private Expected streamExtract(String frame) throws ParseException {
+        ChzzkEventDecoder.Event event = decoder.decode(frame);
+        return new Expected(event.getCmd(), event.getUid(), event.getMsg(), event.isProfile(),
+                event.getNickname(), event.getUserRoleCode(), event.getColorCode(),
+                new HashSet<>(event.getEmojis()), event.getPayAmount());
+    }
+
+    private void assertParity(String frame) throws ParseException {
+        assertEquals(treeExtract(frame), streamExtract(frame));
+    }
+
+    private static String quote(String json) {
+        return JSONObject.escape(json);
+    }
+
+    private static final String NICKNAME_COLOR = "{\"colorCode\":\"CC000\"}";
+    private static final String STREAMING_PROPERTY = "{\"nicknameColor\":\"" + quote(NICKNAME_COLOR) + "\",\"badge\":{\"imageUrl\":\"x\"}}";
+    private static final String PROFILE = "{\"userIdHash\":\"abc\",\"nickname\":\"시청자1\",\"userRoleCode\":\"common_user\","
+            + "\"badge\":null,\"activityBadges\":[{\"badgeNo\":1}],\"streamingProperty\":\"" + quote(STREAMING_PROPERTY) + "\"}";
+
+    @Test
+    void chatWithStringEncodedProfileAndExtras() throws ParseException {
+        String extras = "{\"chatType\":\"STREAMING\",\"emojis\":{\"smile\":\"https://e/1.png\",\"wave\":\"https://e/2.png\"},\"osType\":\"PC\"}";
+        String frame = "{\"svcid\":\"game\",\"ver\":\"1\",\"cmd\":" + CHAT + ",\"tid\":null,\"cid\":\"c\","
+                + "\"bdy\":[{\"svcid\":\"game\",\"uid\":\"abc\",\"profile\":\"" + quote(PROFILE) + "\","
+                + "\"msg\":\"안녕 {:smile:} \\\"따옴표\\\"\",\"msgTypeCode\":1,\"msgStatusType\":\"NORMAL\","
+                + "\"extras\":\"" + quote(extras) + "\",\"ctime\":1700000000000}]}";
+        assertParity(frame);
+
+        ChzzkEventDecoder.Event event = decoder.decode(frame);
+        assertEquals("시청자1", event.getNickname());
+        assertEquals("CC000", event.getColorCode());
+        assertEquals("안녕 {:smile:} \"따옴표\"", event.getMsg());
+    }
+
+    @Test
+    void chatWithObjectProfileAndExtras() throws ParseException {
+        String frame = "{\"cmd\":" + CHAT + ",\"bdy\":[{\"uid\":\"u1\",\"msg\":\"hi\","
+                + "\"profile\":{\"nickname\":\"매니저\",\"userRoleCode\":\"streaming_chat_manager\","
+                + "\"streamingProperty\":{\"nicknameColor\":{\"colorCode\":\"SG001\"}}},"
+                + "\"extras\":{\"emojis\":{\"heart\":\"https://e/3.png\"}}}]}";
+        assertParity(frame);
+    }
+
+    @Test
+    void donationWithStringEncodedExtras() throws ParseException {
+        String extras = "{\"isAnonymous\":false,\"payType\":\"CURRENCY\",\"payAmount\":5000,\"emojis\":{},"
+                + "\"donationType\":\"CHAT\",\"weeklyRankList\":[{\"userIdHash\":\"a\",\"donationAmount\":1}]}";
+        String frame = "{\"cmd\":" + DONATION + ",\"bdy\":[{\"uid\":\"abc\",\"profile\":\"" + quote(PROFILE) + "\","
+                + "\"msg\":\"후원합니다\",\"extras\":\"" + quote(extras) + "\"}]}";
+        assertParity(frame);
+        assertEquals("5000", decoder.decode(frame).getPayAmount());
+    }
+
+    @Test
+    void anonymousDonationWithoutProfile() throws ParseException {
+        String extras = "{\"isAnonymous\":true,\"payAmount\":1000}";
+        String frame = "{\"cmd\":" + DONATION + ",\"bdy\":[{\"uid\":\"anonymous\",\"profile\":null,"
+                + "\"msg\":\"익명 후원\",\"extras\":\"" + quote(extras) + "\"}]}";
+        assertParity(frame);
+
+        ChzzkEventDecoder.Event event = decoder.decode(frame);
+        assertEquals("anonymous", event.getUid());
+        assertFalse(event.isProfile());
+        assertNull(event.getNickname());
+    }
+
+    @Test
+    void cmdAfterBody() throws ParseException {
+        String extras = "{\"payAmount\":2000}";
+        String frame = "{\"bdy\":[{\"uid\":\"abc\",\"profile\":\"" + quote(PROFILE) + "\",\"msg\":\"뒤에 온 cmd\","
+                + "\"extras\":\"" + quote(extras) + "\"}],\"ver\":\"1\",\"cmd\":" + DONATION + "}";
+        assertParity(frame);
+    }
+
+    @Test
+    void onlyFirstBodyElementIsRead() throws ParseException {
+        String frame = "{\"cmd\":" + CHAT + ",\"bdy\":[{\"uid\":\"first\",\"msg\":\"1\"},"
+                + "{\"uid\":\"second\",\"msg\":\"2\",\"profile\":{\"nickname\":\"x\"}}]}";
+        assertParity(frame);
+    }
+
+    @Test
+    void commandsWithoutBodyStopAfterCmd() throws ParseException {
+        ChzzkEventDecoder.Event ping = decoder.decode("{\"ver\":\"2\",\"cmd\":0}");
+        assertTrue(ping.hasCmd());
+        assertEquals(0, ping.getCmd());
+
+        // 읽지 않는 명령어는 bdy 안의 중첩 문자열을 파싱하지 않는다
+        ChzzkEventDecoder.Event connected = decoder.decode(
+                "{\"bdy\":[{\"profile\":\"not json\"}],\"cmd\":10100}");
+        assertEquals(10100, connected.getCmd());
+        assertNull(connected.getNickname());
+    }
+
+    @Test
+    void frameWithoutCmd() throws ParseException {
+        assertFalse(decoder.decode("{\"bdy\":[]}").hasCmd());
+    }
+
+    @Test
+    void malformedNestedProfileFails() {
+        String frame = "{\"cmd\":" + CHAT + ",\"bdy\":[{\"uid\":\"u\",\"msg\":\"m\",\"profile\":\"{broken\"}]}";
+        assertThrows(ParseException.class, () -> decoder.decode(frame));
+    }
+
+    @Test
+    void decoderIsReusableAfterFailure() throws ParseException {
+        assertThrows(ParseException.class, () -> decoder.decode("{\"cmd\":" + CHAT + ",\"bdy\":[{\"profile\":\"{\"}]}"));
+        assertParity("{\"cmd\":" + CHAT + ",\"bdy\":[{\"uid\":\"u\",\"msg\":\"ok\"}]}");
+    }
+}
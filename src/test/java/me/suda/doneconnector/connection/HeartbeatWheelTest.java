@@ -0,0 +1,102 @@
+package me.suda.doneconnector.connection;
+
+import org.java_websocket.util.HeartbeatScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeartbeatWheelTest {
+
+    // 틱 10ms, 버킷 8개 (한 바퀴 80ms)
+    private final HeartbeatWheel wheel = new HeartbeatWheel(10, 8);
+
+    @AfterEach
+    void shutdown() {
+        wheel.shutdown();
+    }
+
+    @Test
+    void onceTaskRunsOnceAfterDelay() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        long start = System.nanoTime();
+        wheel.scheduleOnce(() -> {
+            runs.incrementAndGet();
+            ran.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        Thread.sleep(200);
+        assertEquals(1, runs.get());
+        assertEquals(0, wheel.getMetrics().get("registered"));
+    }
+
+    @Test
+    void delayLongerThanOneRotationIsNotRunEarly() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        long start = System.nanoTime();
+        wheel.scheduleOnce(ran::countDown, 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    void cancelledOnceTaskNeverRuns() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        HeartbeatScheduler.Registration registration = wheel.scheduleOnce(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        registration.cancel();
+        registration.cancel();
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.getMetrics().get("registered"));
+    }
+
+    @Test
+    void periodicTaskRepeatsUntilCancelled() throws Exception {
+        CountDownLatch ran = new CountDownLatch(3);
+        AtomicInteger runs = new AtomicInteger();
+        HeartbeatScheduler.Registration registration = wheel.schedulePeriodic(() -> {
+            runs.incrementAndGet();
+            ran.countDown();
+        }, 0, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        registration.cancel();
+        Thread.sleep(50);
+        int afterCancel = runs.get();
+        Thread.sleep(150);
+        assertEquals(afterCancel, runs.get());
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheWheel() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        wheel.scheduleOnce(() -> {
+            throw new IllegalStateException("boom");
+        }, 10, TimeUnit.MILLISECONDS);
+        wheel.scheduleOnce(ran::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        assertEquals(1L, wheel.getMetrics().get("failed"));
+    }
+
+    @Test
+    void tasksDoNotRunAfterShutdown() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        wheel.scheduleOnce(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        wheel.shutdown();
+        wheel.scheduleOnce(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(250);
+        assertEquals(0, runs.get());
+    }
+}
@@ -0,0 +1,112 @@
+package me.suda.doneconnector.reward;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RewardTableTest {
+
+    private static RewardTable table(String... keys) {
+        Map<String, List<String>> entries = new LinkedHashMap<>();
+        for (String key : keys) {
+            entries.put(key, List.of("say " + key));
+        }
+        return RewardTable.compile(entries);
+    }
+
+    private static String resolve(RewardTable table, int amount) {
+        List<RewardTemplate> rewards = table.resolve(amount);
+        return rewards != null ? rewards.get(0).getSource() : null;
+    }
+
+    @Test
+    void exactAmountWinsOverEveryOtherTier() {
+        RewardTable table = table("1000", "500~1500", "x1000", "1000+", "0");
+        assertEquals("say 1000", resolve(table, 1000));
+    }
+
+    @Test
+    void zeroIsFallbackNotMultiple() {
+        RewardTable table = table("0", "x1000", "x10000");
+        assertEquals("say 0", resolve(table, 0));
+        assertEquals("say x10000", resolve(table, 20000));
+        assertEquals("say 0", resolve(table, 1500));
+    }
+
+    @Test
+    void nonPositiveAmountsNeverMatchMultiples() {
+        RewardTable table = table("x1000");
+        assertNull(resolve(table, 0));
+        assertNull(resolve(table, -1000));
+    }
+
+    @Test
+    void fallbackOnlyWhenNothingElseMatches() {
+        RewardTable table = table("0", "5000+");
+        assertEquals("say 0", resolve(table, 4999));
+        assertEquals("say 5000+", resolve(table, 5000));
+        assertNull(table("1000").resolve(999));
+    }
+
+    @Test
+    void narrowestRangeWins() {
+        RewardTable table = table("1000~9999", "3000~3999", "3500~3500");
+        assertEquals("say 1000~9999", resolve(table, 2999));
+        assertEquals("say 3000~3999", resolve(table, 3000));
+        assertEquals("say 3500~3500", resolve(table, 3500));
+        assertEquals("say 1000~9999", resolve(table, 4000));
+        assertNull(resolve(table, 10000));
+    }
+
+    @Test
+    void largestDividingUnitWins() {
+        RewardTable table = table("x1000", "x5000", "x3000");
+        assertEquals("say x1000", resolve(table, 1000));
+        assertEquals("say x3000", resolve(table, 3000));
+        assertEquals("say x5000", resolve(table, 15000));
+        assertEquals("say x3000", resolve(table, 6000));
+        assertNull(resolve(table, 2500));
+    }
+
+    @Test
+    void multiplesBeyondPrecomputedRange() {
+        RewardTable table = table("x1000", "x7000");
+        assertEquals("say x7000", resolve(table, 700_000_000));
+        assertEquals("say x1000", resolve(table, 1_000_000_000));
+        assertNull(resolve(table, 1_000_000_001));
+    }
+
+    @Test
+    void highestMinimumWins() {
+        RewardTable table = table("1000+", "10000+");
+        assertNull(resolve(table, 999));
+        assertEquals("say 1000+", resolve(table, 9999));
+        assertEquals("say 10000+", resolve(table, 10000));
+    }
+
+    @Test
+    void multipleBeatsMinimum() {
+        RewardTable table = table("x1000", "1000+");
+        assertEquals("say x1000", resolve(table, 2000));
+        assertEquals("say 1000+", resolve(table, 2500));
+    }
+
+    @Test
+    void sizeCountsFallback() {
+        assertEquals(3, table("0", "1000", "x500").size());
+        assertEquals(0, RewardTable.EMPTY.size());
+    }
+
+    @Test
+    void rejectsMalformedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> table("abc"));
+        assertThrows(IllegalArgumentException.class, () -> table("x0"));
+        assertThrows(IllegalArgumentException.class, () -> table("5000~1000"));
+    }
+}
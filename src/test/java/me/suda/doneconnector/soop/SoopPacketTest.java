@@ -0,0 +1,106 @@
+package me.suda.doneconnector.soop;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SoopPacketTest {
+
+    private static final String ESC = "\u001b\t";
+    private static final String F = "\u000c";
+
+    private static String frame(String command, String... fields) {
+        StringBuilder body = new StringBuilder();
+        for (String field : fields) {
+            body.append(F).append(field);
+        }
+        int length = body.toString().getBytes(StandardCharsets.UTF_8).length;
+        return ESC + command + String.format("%06d", length) + "00" + body;
+    }
+
+    private static List<String> fields(SoopPacket packet) {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < packet.size(); i++) {
+            fields.add(packet.get(i));
+        }
+        return fields;
+    }
+
+    /**
+     * 바이트 단위 해석 이전의 문자열 분리 방식 (비교 기준)
+     */
+    private static List<String> splitFields(String message) {
+        List<String> parts = new ArrayList<>(Arrays.asList(message.replace(ESC, "").split(F)));
+        parts.remove(0);
+        return parts;
+    }
+
+    private static void assertParity(String message) {
+        SoopPacket heap = SoopPacket.decode(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(message.replace(ESC, "").substring(0, 4), heap.getCommand());
+        assertEquals(splitFields(message), fields(heap));
+
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(splitFields(message), fields(SoopPacket.decode(direct)));
+    }
+
+    @Test
+    void chatPacketMatchesStringSplit() {
+        assertParity(frame("0005", "안녕하세요 😀", "user01", "0", "1", "0", "닉네임", "524288"));
+    }
+
+    @Test
+    void donationPacketMatchesStringSplit() {
+        assertParity(frame("0018", "streamer", "donor01", "후원자", "1000", "0", "0", "kor"));
+    }
+
+    @Test
+    void emptyAndTrailingFieldsMatchStringSplit() {
+        assertParity(frame("0002", "", "12345", "", "", "", "", ""));
+        assertParity(frame("0000"));
+        assertParity(ESC + "0001000000" + "00" + F + "a" + F + F + "b");
+    }
+
+    @Test
+    void decodesFromBufferPositionWithoutMovingIt() {
+        byte[] message = frame("0005", "hello", "user").getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[message.length + 3];
+        System.arraycopy(message, 0, padded, 3, message.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded);
+        buffer.position(3);
+
+        SoopPacket packet = SoopPacket.decode(buffer);
+        assertEquals("0005", packet.getCommand());
+        assertEquals(List.of("hello", "user"), fields(packet));
+        assertEquals(3, buffer.position());
+        assertEquals(padded.length, buffer.limit());
+    }
+
+    @Test
+    void tooShortFrameIsRejected() {
+        assertNull(SoopPacket.decode(ByteBuffer.wrap((ESC + "00").getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void getIntParsesWithoutDecoding() {
+        SoopPacket packet = SoopPacket.decode(ByteBuffer.wrap(
+                frame("0018", "1000", "-25", "2147483647", "12a", "", "-").getBytes(StandardCharsets.UTF_8)));
+        assertEquals(1000, packet.getInt(0));
+        assertEquals(-25, packet.getInt(1));
+        assertEquals(Integer.MAX_VALUE, packet.getInt(2));
+        assertThrows(NumberFormatException.class, () -> packet.getInt(3));
+        assertThrows(NumberFormatException.class, () -> packet.getInt(4));
+        assertThrows(NumberFormatException.class, () -> packet.getInt(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> packet.getInt(6));
+    }
+}
@@ -0,0 +1,134 @@
+package me.suda.doneconnector.startup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupPlanTest {
+
+    // 메인 스레드 대신 쓰는 단일 스레드 실행기
+    private final ExecutorService main = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-main"));
+
+    @AfterEach
+    void shutdown() {
+        main.shutdownNow();
+    }
+
+    private StartupPlan run(StartupPlan plan) throws Exception {
+        return plan.start(main).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void phasesRunAfterDependenciesOnTheirThread() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        StartupPlan plan = new StartupPlan()
+                .async("config", () -> order.add("config@" + Thread.currentThread().getName()))
+                .async("storage", () -> order.add("storage@" + Thread.currentThread().getName()), "config")
+                .main("listeners", () -> order.add("listeners@" + Thread.currentThread().getName()), "storage");
+        run(plan);
+
+        assertEquals(3, order.size());
+        assertTrue(order.get(0).startsWith("config@Done-Startup-"));
+        assertTrue(order.get(1).startsWith("storage@Done-Startup-"));
+        assertEquals("listeners@test-main", order.get(2));
+        assertNull(plan.firstFailure());
+        assertEquals(List.of(), plan.getMetrics().get("notCompleted"));
+    }
+
+    @Test
+    void independentAsyncPhasesRunConcurrently() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        StartupPlan plan = new StartupPlan()
+                .async("auth", () -> barrier.await(2, TimeUnit.SECONDS))
+                .async("storage", () -> barrier.await(2, TimeUnit.SECONDS));
+        run(plan);
+
+        assertNull(plan.firstFailure());
+    }
+
+    @Test
+    void failureSkipsDependentsOnly() throws Exception {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        StartupPlan plan = new StartupPlan()
+                .async("auth", () -> {
+                    throw new IllegalStateException("인증 실패");
+                })
+                .main("connect", () -> ran.add("connect"), "auth")
+                .async("storage", () -> ran.add("storage"));
+        run(plan);
+
+        assertEquals(List.of("storage"), ran);
+        StartupPlan.PhaseResult failure = plan.firstFailure();
+        assertEquals("auth", failure.name());
+        assertEquals(StartupPlan.Status.FAILED, failure.status());
+        assertEquals("인증 실패", failure.error());
+        assertEquals(List.of("auth", "connect"), plan.getMetrics().get("notCompleted"));
+    }
+
+    @Test
+    void invalidDeclarationsAreRejected() {
+        StartupPlan plan = new StartupPlan().async("config", () -> {});
+        assertThrows(IllegalArgumentException.class, () -> plan.async("config", () -> {}));
+        assertThrows(IllegalArgumentException.class, () -> plan.main("connect", () -> {}, "auth"));
+    }
+
+    @Test
+    void phasesCannotBeAddedAfterStart() throws Exception {
+        StartupPlan plan = new StartupPlan().async("config", () -> {});
+        run(plan);
+        assertThrows(IllegalStateException.class, () -> plan.main("late", () -> {}));
+    }
+
+    @Test
+    void mainThreadTimeCountsOnlyMainPhases() throws Exception {
+        StartupPlan plan = new StartupPlan()
+                .async("storage", () -> Thread.sleep(300))
+                .main("listeners", () -> Thread.sleep(50));
+        run(plan);
+
+        long mainMillis = plan.mainThreadMillis();
+        assertTrue(mainMillis >= 50, "mainThreadMillis=" + mainMillis);
+        assertTrue(mainMillis < 300, "mainThreadMillis=" + mainMillis);
+
+        Map<String, Object> metrics = plan.getMetrics();
+        assertEquals(mainMillis, metrics.get("mainThreadMillis"));
+        assertTrue((long) metrics.get("totalMillis") >= 300);
+        assertTrue((long) metrics.get("storageMillis") >= 300);
+    }
+
+    @Test
+    void cancelledPlanSkipsPhases() throws Exception {
+        List<String> ran = new CopyOnWriteArrayList<>();
+        StartupPlan plan = new StartupPlan()
+                .async("config", () -> ran.add("config"))
+                .main("connect", () -> ran.add("connect"), "config");
+        plan.cancel(1, TimeUnit.SECONDS);
+        run(plan);
+
+        assertEquals(List.of(), ran);
+        assertEquals(List.of("config", "connect"), plan.getMetrics().get("notCompleted"));
+    }
+
+    @Test
+    void rejectedMainExecutorSkipsMainPhases() throws Exception {
+        main.shutdown();
+        StartupPlan plan = new StartupPlan()
+                .async("config", () -> {})
+                .main("connect", () -> {}, "config");
+        run(plan);
+
+        assertEquals(List.of("connect"), plan.getMetrics().get("notCompleted"));
+    }
+}
@@ -0,0 +1,90 @@
+package me.suda.doneconnector.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DonationWriteQueueTest {
+
+    @TempDir
+    File dir;
+
+    private static DonationRecord donation(int amount) {
+        return new DonationRecord("donor", amount, "", "chzzk", false, "2026-01-01 00:00:00");
+    }
+
+    @Test
+    void pendingRecordsAreWrittenOnShutdown() throws Exception {
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        DonationWriteQueue queue = new DonationWriteQueue(storage, 1000, 16);
+        queue.start();
+        for (int i = 1; i <= 100; i++) {
+            assertTrue(queue.submit("u", "name", donation(i)));
+        }
+        queue.shutdown(5, TimeUnit.SECONDS);
+        storage.close();
+
+        assertEquals(100, new JournalDonationStorage(dir).loadDonations("u").size());
+        assertEquals(100L, queue.getMetrics().get("written"));
+    }
+
+    @Test
+    void submitAfterShutdownIsRejected() throws Exception {
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        DonationWriteQueue queue = new DonationWriteQueue(storage, 10, 4);
+        queue.start();
+        queue.shutdown(5, TimeUnit.SECONDS);
+
+        assertFalse(queue.submit("u", "name", donation(1)));
+        assertEquals(1L, queue.getMetrics().get("rejected"));
+        assertEquals(0L, queue.getMetrics().get("submitted"));
+        storage.close();
+    }
+
+    @Test
+    void everyAcceptedRecordIsWrittenWhenShutdownRacesProducers() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            File roundDir = new File(dir, "round" + round);
+            JournalDonationStorage storage = new JournalDonationStorage(roundDir);
+            DonationWriteQueue queue = new DonationWriteQueue(storage, 100000, 64);
+            queue.start();
+
+            AtomicBoolean stop = new AtomicBoolean();
+            CountDownLatch started = new CountDownLatch(4);
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                Thread producer = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 500 && !stop.get(); i++) {
+                        queue.submit("u", "name", donation(1));
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            started.await();
+            Thread.sleep(5);
+            queue.shutdown(10, TimeUnit.SECONDS);
+            stop.set(true);
+            // 종료와 겹친 요청은 거절되거나, 받아들여졌다면 반드시 저장된다
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            storage.close();
+
+            Object submitted = queue.getMetrics().get("submitted");
+            assertEquals(submitted, queue.getMetrics().get("written"));
+            assertEquals(((Long) submitted).intValue(), new JournalDonationStorage(roundDir).loadDonations("u").size());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package me.suda.doneconnector.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IndexedDonationStorageTest {
+
+    @TempDir
+    File dir;
+
+    private static DonationRecord donation(int amount) {
+        return new DonationRecord("donor", amount, "", "chzzk", false, "2026-01-01 00:00:00");
+    }
+
+    @Test
+    void warmUpBuildsIndexesSoLookupsDoNotReadRecords() throws Exception {
+        JournalDonationStorage journal = new JournalDonationStorage(dir);
+        journal.appendAll("a", "A", List.of(donation(1000), donation(2000)));
+        journal.appendAll("b", "B", List.of(donation(500)));
+        journal.close();
+
+        AtomicInteger loads = new AtomicInteger();
+        JournalDonationStorage reopened = new JournalDonationStorage(dir) {
+            @Override
+            public List<DonationRecord> loadDonations(String streamerUuid) throws IOException {
+                loads.incrementAndGet();
+                return super.loadDonations(streamerUuid);
+            }
+        };
+        IndexedDonationStorage storage = new IndexedDonationStorage(reopened);
+
+        assertEquals(2, storage.warmUp());
+        assertEquals(2, loads.get());
+
+        assertNotNull(storage.getIndex("a"));
+        assertNotNull(storage.getIndex("b"));
+        assertNull(storage.getIndex("missing"));
+        assertEquals(2, loads.get());
+        storage.close();
+    }
+}
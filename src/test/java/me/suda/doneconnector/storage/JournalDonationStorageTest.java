@@ -0,0 +1,87 @@
+package me.suda.doneconnector.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JournalDonationStorageTest {
+
+    @TempDir
+    File dir;
+
+    private static DonationRecord donation(int amount) {
+        return new DonationRecord("donor" + amount, amount, "", "chzzk", false, "2026-01-01 00:00:00");
+    }
+
+    private static List<Integer> amounts(List<DonationRecord> records) {
+        return records.stream().map(DonationRecord::amount).toList();
+    }
+
+    @Test
+    void appendsAndReadsBack() throws Exception {
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        storage.appendAll("u", "name", List.of(donation(1), donation(2)));
+        storage.close();
+
+        JournalDonationStorage reopened = new JournalDonationStorage(dir);
+        assertEquals(List.of(1, 2), amounts(reopened.loadDonations("u")));
+        assertEquals("name", reopened.listStreamers().get("u"));
+    }
+
+    @Test
+    void tornLastLineDoesNotSwallowNextRecord() throws Exception {
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        storage.append("u", "name", donation(1));
+        storage.close();
+        Files.writeString(dir.toPath().resolve("u.journal"), "{\"type\":\"donation\",\"amo", StandardOpenOption.APPEND);
+
+        storage = new JournalDonationStorage(dir);
+        storage.append("u", "name", donation(2));
+        storage.close();
+
+        assertEquals(List.of(1, 2), amounts(new JournalDonationStorage(dir).loadDonations("u")));
+    }
+
+    @Test
+    void compactionMovesJournalIntoSnapshot() throws Exception {
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        storage.appendAll("u", "name", List.of(donation(1), donation(2)));
+        storage.compact("u");
+        storage.append("u", "name", donation(3));
+        storage.close();
+
+        assertFalse(Files.readString(dir.toPath().resolve("u.journal")).contains("\"amount\":1"));
+        assertEquals(List.of(1, 2, 3), amounts(new JournalDonationStorage(dir).loadDonations("u")));
+    }
+
+    @Test
+    void journalLeftByInterruptedCompactionIsNotCountedTwice() throws Exception {
+        Path journal = dir.toPath().resolve("u.journal");
+        JournalDonationStorage storage = new JournalDonationStorage(dir);
+        storage.appendAll("u", "name", List.of(donation(1), donation(2)));
+        storage.close();
+
+        // 스냅샷 교체 직후, 저널 삭제 전에 종료된 상태 재현
+        byte[] compacted = Files.readAllBytes(journal);
+        storage = new JournalDonationStorage(dir);
+        storage.compact("u");
+        storage.close();
+        Files.write(journal, compacted);
+
+        storage = new JournalDonationStorage(dir);
+        assertEquals(List.of(1, 2), amounts(storage.loadDonations("u")));
+
+        // 남은 저널에 이어 쓰지 않고 새 저널을 시작한다
+        storage.append("u", "name", donation(3));
+        storage.close();
+        assertEquals(List.of(1, 2, 3), amounts(new JournalDonationStorage(dir).loadDonations("u")));
+    }
+}